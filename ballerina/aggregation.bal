@@ -0,0 +1,45 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Groups the records of a dataset by the given fields and computes counts, sums, averages, minimums and maximums for
+# each group. The output has one record per group, in the order in which the groups first appear, containing the
+# grouping fields and the output field of each aggregation. Nil values are skipped. The sum of a group without values
+# is zero, while its average, minimum and maximum are nil. Averages of `int` fields are `float` values.
+# ```ballerina
+# Order[] dataset = [
+#     { orderId: 1, customerName: "Alice", totalAmount: 5.3 },
+#     { orderId: 2, customerName: "Bob", totalAmount: 10.5 },
+#     { orderId: 3, customerName: "Alice", totalAmount: 15.0 }
+# ];
+# CustomerTotal[] totals = check etl:aggregate(dataset, ["customerName"], [
+#     { 'function: etl:COUNT, outputField: "orders" },
+#     { 'function: etl:SUM, fieldName: "totalAmount", outputField: "total" }
+# ]);
+#
+# => [{ customerName: "Alice", orders: 2, total: 20.3 },
+#     { customerName: "Bob", orders: 1, total: 10.5 }]
+# ```
+#
+# + dataset - Array of records to aggregate.
+# + groupBy - The fields the records are grouped by. All the records form a single group when it is empty.
+# + aggregations - The aggregations computed for each group.
+# + returnType - The type of the return value (Ballerina record).
+# + return - A dataset with a record for each group or an `etl:Error`.
+public function aggregate(record {}[] dataset, string[] groupBy, Aggregation[] aggregations, typedesc<record {}> returnType = <>) returns returnType[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlAggregation"
+} external;
@@ -0,0 +1,192 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Writes the requests of the `categorizeSemantic` API to a JSONL file in the OpenAI batch input format, instead of sending them.
+# The dataset is split into the same chunks as in the `categorizeSemantic` API. Each request has a `custom_id` of the form `categorizeSemantic-<start row>-<end row>`.
+#
+# ```ballerina
+# Review[] dataset = [
+#     { id: 1, comment: "Great service!" },
+#     { id: 2, comment: "Terrible experience" }
+# ];
+# check etl:writeCategorizeSemanticBatch(dataset, "comment", ["Positive", "Negative"], "./batch/requests.jsonl");
+# ```
+#
+# + dataset - The dataset to be categorized.
+# + fieldName - The name of the field on which categorization is applied.
+# + categories - The names of the categories.
+# + filePath - The path of the JSONL file to write the requests to.
+# + return - `()` if the requests are written or an `etl:Error`.
+public function writeCategorizeSemanticBatch(record {}[] dataset, string fieldName, string[] categories, string filePath) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlBatch"
+} external;
+
+# Rebuilds the result of the `categorizeSemantic` API from a JSONL file in the OpenAI batch output format.
+# The result lines may be in any order. They are matched to the rows of the dataset using their `custom_id`.
+#
+# ```ballerina
+# Review[][] categorized = check etl:readCategorizeSemanticBatch("./batch/results.jsonl", dataset, ["Positive", "Negative"]);
+#
+# => [[{ id: 1, comment: "Great service!" }],
+#     [{ id: 2, comment: "Terrible experience" }]]
+# ```
+#
+# + filePath - The path of the JSONL file containing the batch results.
+# + dataset - The dataset that the requests were written for.
+# + categories - The names of the categories.
+# + returnType - The type of the return value (Ballerina record).
+# + return - A nested array of categorized records or an `etl:Error`.
+public function readCategorizeSemanticBatch(string filePath, record {}[] dataset, string[] categories, typedesc<record {}> returnType = <>) returns returnType[][]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlBatch"
+} external;
+
+# Writes the requests of the `standardizeData` API to a JSONL file in the OpenAI batch input format, instead of sending them.
+# The dataset is split into the same chunks as in the `standardizeData` API. Each request has a `custom_id` of the form `standardizeData-<start row>-<end row>`.
+#
+# ```ballerina
+# Customer[] dataset = [
+#     { name: "Alice", city: "New York" },
+#     { name: "Bob", city: "new york" }
+# ];
+# check etl:writeStandardizeDataBatch(dataset, "city", ["New York"], "./batch/requests.jsonl");
+# ```
+#
+# + dataset - The dataset containing records with string values.
+# + fieldName - The name of the string field to check for approximate matches.
+# + standardValues - An array of standard values to replace approximate matches.
+# + filePath - The path of the JSONL file to write the requests to.
+# + return - `()` if the requests are written or an `etl:Error`.
+public function writeStandardizeDataBatch(record {}[] dataset, string fieldName, string[] standardValues, string filePath) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlBatch"
+} external;
+
+# Rebuilds the result of the `standardizeData` API from a JSONL file in the OpenAI batch output format.
+# The result lines may be in any order. They are matched to the rows of the dataset using their `custom_id`.
+#
+# ```ballerina
+# Customer[] standardizedData = check etl:readStandardizeDataBatch("./batch/results.jsonl", dataset, "city");
+#
+# => [{ name: "Alice", city: "New York" },
+#     { name: "Bob", city: "New York" }]
+# ```
+#
+# + filePath - The path of the JSONL file containing the batch results.
+# + dataset - The dataset that the requests were written for.
+# + fieldName - The name of the standardized field.
+# + returnType - The type of the return value (Ballerina record).
+# + return - A dataset with the standardized values or an `etl:Error`.
+public function readStandardizeDataBatch(string filePath, record {}[] dataset, string fieldName, typedesc<record {}> returnType = <>) returns returnType[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlBatch"
+} external;
+
+# Writes the requests of the `maskSensitiveData` API to a JSONL file in the OpenAI batch input format, instead of sending them.
+# The dataset is split into the same chunks as in the `maskSensitiveData` API. Each request has a `custom_id` of the form `maskSensitiveData-<start row>-<end row>`.
+#
+# ```ballerina
+# Customer[] dataset = [
+#     { id: 1, name: "John Doe", email: "john@example.com" },
+#     { id: 2, name: "Jane Smith", email: "jane@example.com" }
+# ];
+# check etl:writeMaskSensitiveDataBatch(dataset, "./batch/requests.jsonl");
+# ```
+#
+# + dataset - The dataset containing records where sensitive fields should be masked.
+# + filePath - The path of the JSONL file to write the requests to.
+# + maskingCharacter - The character to use for masking sensitive fields. Default is 'X'.
+# + return - `()` if the requests are written or an `etl:Error`.
+public function writeMaskSensitiveDataBatch(record {}[] dataset, string filePath, string:Char maskingCharacter = "X") returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlBatch"
+} external;
+
+# Rebuilds the result of the `maskSensitiveData` API from a JSONL file in the OpenAI batch output format.
+# The result lines may be in any order. They are matched to the rows of the dataset using their `custom_id`.
+#
+# ```ballerina
+# MaskedCustomer[] maskedData = check etl:readMaskSensitiveDataBatch("./batch/results.jsonl", dataset);
+#
+# => [{ id: 1, name: "XXXX XXX", email: "XXXXXXXXXXXXXXXX" },
+#     { id: 2, name: "XXXX XXXXX", email: "XXXXXXXXXXXXXXXX" }]
+# ```
+#
+# + filePath - The path of the JSONL file containing the batch results.
+# + dataset - The dataset that the requests were written for.
+# + returnType - The type of the return value (Ballerina record).
+# + return - A dataset where the fields containing PII are masked or an `etl:Error`.
+public function readMaskSensitiveDataBatch(string filePath, record {}[] dataset, typedesc<record {}> returnType = <>) returns returnType[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlBatch"
+} external;
+
+# Writes the requests of the `extractFromText` API to a JSONL file in the OpenAI batch input format, instead of sending them.
+# Each text is a separate request with a `custom_id` of the form `extractFromText-<index>-<index + 1>`.
+#
+# ```ballerina
+# string[] reviews = [
+#     "The smartphone has an impressive camera. However, the battery drains quickly.",
+#     "The laptop is lightweight. But the keyboard feels cheap."
+# ];
+# check etl:writeExtractFromTextBatch(reviews, "./batch/requests.jsonl", Review);
+# ```
+#
+# + dataset - The raw texts from which structured data is to be extracted.
+# + filePath - The path of the JSONL file to write the requests to.
+# + returnType - The type of the records to extract (Ballerina record).
+# + return - `()` if the requests are written or an `etl:Error`.
+public function writeExtractFromTextBatch(string[] dataset, string filePath, typedesc<record {}> returnType) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlBatch"
+} external;
+
+# Rebuilds the results of the `extractFromText` API from a JSONL file in the OpenAI batch output format.
+# The result lines may be in any order. The extracted records are returned in the order of the texts.
+#
+# ```ballerina
+# Review[] extractedDetails = check etl:readExtractFromTextBatch("./batch/results.jsonl", reviews);
+#
+# => [{ goodPoints: "impressive camera", badPoints: "battery drains quickly" },
+#     { goodPoints: "lightweight", badPoints: "keyboard feels cheap" }]
+# ```
+#
+# + filePath - The path of the JSONL file containing the batch results.
+# + dataset - The raw texts that the requests were written for.
+# + returnType - The type of the return value (Ballerina record).
+# + return - The records extracted from each text or an `etl:Error`.
+public function readExtractFromTextBatch(string filePath, string[] dataset, typedesc<record {}> returnType = <>) returns returnType[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlBatch"
+} external;
+
+// Builds a batch request with the model that the token budget allows. The request is counted against the budget
+// with its estimated tokens when it is written, since its actual usage is only known once the batch has run.
+function getBatchRequest(LlmOperation operation, string customId, string prompt) returns string|Error {
+    OpenAiBatchRequest request = {
+        custom_id: customId,
+        method: "POST",
+        url: "/v1/chat/completions",
+        body: {
+            model: check getModel(),
+            messages: [
+                {
+                    "role": "user",
+                    "content": prompt
+                }
+            ]
+        }
+    };
+    // The completion is assumed to be about as large as the prompt, as for the requests sent to the model.
+    int estimatedTokens = estimateTokens(prompt);
+    recordTokenUsage(operation, estimatedTokens, estimatedTokens, 2 * estimatedTokens);
+    return request.toJsonString();
+}
@@ -33,13 +33,18 @@ import ballerina/lang.regexp;
 #    [{ orderId: 2, customerName: "Bob", totalAmount: 10.5 }, { orderId: 3, customerName: "John", totalAmount: 15.0 }],
 #    [{ orderId: 4, customerName: "Charlie", totalAmount: 25.0 }, { orderId: 5, customerName: "David", totalAmount: 29.2 }]]
 # ```
+# When the number of categories is given instead of the ranges, equal-frequency ranges are derived from a t-digest of
+# the field values, without sorting the dataset.
+# ```ballerina
+# Order[][] categorized = check etl:categorizeNumeric(dataset, "totalAmount", 2);
+# ```
 #
 # + dataset - Array of records containing numeric values.
 # + fieldName - Name of the numeric field to categorize.
-# + categoryRanges - Numeric ranges for categorization.
+# + categoryRanges - Numeric ranges for categorization, or the number of equal-frequency categories, which must not exceed the number of records.
 # + returnType - The type of the return value (Ballerina record array).
 # + return - A nested array of categorized records or an `etl:Error`.
-public function categorizeNumeric(record {}[] dataset, string fieldName, CategoryRanges categoryRanges, typedesc<record {}> returnType = <>) returns returnType[][]|Error = @java:Method {
+public function categorizeNumeric(record {}[] dataset, string fieldName, CategoryRanges|int categoryRanges, typedesc<record {}> returnType = <>) returns returnType[][]|Error = @java:Method {
     'class: "io.ballerina.stdlib.etl.nativeimpl.EtlCategorization"
 } external;
 
@@ -69,6 +74,7 @@ public function categorizeRegex(record {}[] dataset, string fieldName, regexp:Re
 } external;
 
 # Categorizes a dataset based on a string field using semantic classification.
+# When `labelMemoConfig` is enabled, values similar to values labelled earlier take their labels without a request.
 # ```ballerina
 # Review[] dataset = [
 #     { id: 1, comment: "Great service!" },
@@ -90,3 +96,27 @@ public function categorizeRegex(record {}[] dataset, string fieldName, regexp:Re
 public function categorizeSemantic(record {}[] dataset, string fieldName, string[] categories, typedesc<record {}> returnType = <>) returns returnType[][]|Error = @java:Method {
     'class: "io.ballerina.stdlib.etl.nativeimpl.EtlCategorization"
 } external;
+
+# Partitions a dataset by the distinct values of a field in a single pass. Each partition keeps the records in the
+# order of the dataset, and the partitions are in the order of the first record of each value. Values are keyed
+# by their string form, so values with the same string form share a partition. For example, a nil value and an
+# empty string are both keyed by `""`, and the int `1` and the string `"1"` are both keyed by `"1"`.
+# ```ballerina
+# Customer[] dataset = [
+#     { name: "Alice", city: "New York" },
+#     { name: "Bob", city: "Colombo" },
+#     { name: "Charlie", city: "New York" }
+# ];
+# map<Customer[]> partitions = check etl:partitionBy(dataset, "city");
+#
+# => { "New York": [{ name: "Alice", city: "New York" }, { name: "Charlie", city: "New York" }],
+#      "Colombo": [{ name: "Bob", city: "Colombo" }] }
+# ```
+#
+# + dataset - Array of records to partition.
+# + fieldName - Name of the field whose values define the partitions.
+# + returnType - The type of the return value (Ballerina record array).
+# + return - A map from each value of the field to the records with that value or an `etl:Error`.
+public function partitionBy(record {}[] dataset, string fieldName, typedesc<record {}> returnType = <>) returns map<returnType[]>|Error = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlCategorization"
+} external;
@@ -0,0 +1,48 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Saves a dataset to a file in a compact columnar binary format, so that a later run of a pipeline can resume from
+# it with `loadDataset` instead of repeating the stages that produced it. The file holds a schema header with the name
+# and kind of each field, and the values of each field are stored together. Fields of strings with few distinct values
+# are dictionary encoded, and the fields can be compressed with Deflate. The file is replaced atomically.
+# ```ballerina
+# Review[] categorized = check etl:categorizeSemantic(reviews, "comment", ["Positive", "Negative"]);
+# check etl:saveDataset(categorized, "categorized.etl", true);
+# ```
+#
+# + dataset - Array of records to save.
+# + filePath - Path of the file to save the dataset to.
+# + compress - Whether the fields are compressed with Deflate.
+# + return - An `etl:Error` if the dataset cannot be saved.
+public function saveDataset(record {}[] dataset, string filePath, boolean compress = false) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlCheckpoint"
+} external;
+
+# Loads a dataset saved with `saveDataset` into an array of records. The fields of the file are memory-mapped and the
+# records of the return type are built directly from them. Values of fields whose saved kind differs from the field
+# type of the return type are converted to it.
+# ```ballerina
+# Review[] categorized = check etl:loadDataset("categorized.etl");
+# ```
+#
+# + filePath - Path of the file to load the dataset from.
+# + returnType - The type of the return value.
+# + return - An array of records of the return type or an `etl:Error`.
+public function loadDataset(string filePath, typedesc<record {}> returnType = <>) returns returnType[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlCheckpoint"
+} external;
@@ -130,6 +130,29 @@ public function removeEmptyValues(record {}[] dataset, typedesc<record {}> retur
     'class: "io.ballerina.stdlib.etl.nativeimpl.EtlCleaning"
 } external;
 
+# Returns the records of a dataset that were not seen by an earlier call with the same store, and records them.
+# Unlike `removeDuplicates`, which only removes duplicates within a single dataset, the fingerprints of the records
+# are kept in a persistent store file, so that records re-delivered by a later load are removed as well. Records are
+# identified by the given key fields, or by all of their fields when none are given. The records of a call are
+# recorded in the store together, either all of them or none of them.
+# ```ballerina
+# Customer[] monday = [{ id: 1, name: "Alice" }, { id: 2, name: "Bob" }];
+# Customer[] tuesday = [{ id: 2, name: "Bob" }, { id: 3, name: "Charlie" }];
+# Customer[] mondayRecords = check etl:removeSeenRecords(monday, "customers.dedup", ["id"]);
+# Customer[] tuesdayRecords = check etl:removeSeenRecords(tuesday, "customers.dedup", ["id"]);
+#
+# => [{ id: 3, name: "Charlie" }]
+# ```
+#
+# + dataset - Array of records that may contain records delivered earlier.
+# + storePath - Path of the file that stores the fingerprints of the seen records. It is created if it does not exist.
+# + keyFields - The fields that identify a record. All the fields are used when it is empty.
+# + returnType - The type of the return value (Ballerina record).
+# + return - A dataset with the records that were not seen before or an `etl:Error`.
+public function removeSeenRecords(record {}[] dataset, string storePath, string[] keyFields = [], typedesc<record {}> returnType = <>) returns returnType[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlCleaning"
+} external;
+
 # Returns a new dataset where matches of the given regex pattern in a specified string field are replaced with a new value.
 # ```ballerina
 # Customer[] dataset = [
@@ -194,7 +217,7 @@ public function sortData(record {}[] dataset, string fieldName, SortDirection di
 # ```
 #
 # + dataset - Array of records containing string values to be standardized.
-# + fieldName - The name of the field to standardize.
+# + fieldName - The name of the string field to standardize.
 # + standardValues - An array of standard values to replace approximate matches.
 # + returnType - The type of the return value (Ballerina record).
 # + return - An updated dataset with standardized string values or an error if the operation fails or an `etl:Error`.
@@ -15,19 +15,75 @@
 // under the License.
 
 import ballerina/http;
+import ballerina/jballerina.java;
 
 isolated client class OpenAiClient {
     final http:Client clientEp;
 
-    isolated function init(string openAIToken, decimal timeout) returns error? {
+    isolated function init(string openAIToken, decimal timeout, string serviceUrl = "https://api.openai.com/v1")
+            returns error? {
         http:ClientConfiguration httpClientConfig = {auth: {token: openAIToken}, timeout};
-        http:Client httpEp = check new ("https://api.openai.com/v1", httpClientConfig);
+        http:Client httpEp = check new (serviceUrl, httpClientConfig);
         self.clientEp = httpEp;
         return;
     }
 
     isolated function chat(OpenAiCreateChatCompletionRequest chatBody)
             returns OpenAiCreateChatCompletionResponse|error {
-        return self.clientEp->/chat/completions.post(chatBody);
+        http:Response response = check self.clientEp->/chat/completions.post(chatBody);
+        updateRateLimits(getRateLimitHeaders(response));
+        if response.statusCode >= 400 {
+            return getResponseError(response);
+        }
+        json payload = check response.getJsonPayload();
+        return payload.cloneWithType();
     }
+
+    isolated function chatStream(OpenAiCreateChatCompletionRequest chatBody)
+            returns stream<http:SseEvent, error?>|error {
+        http:Response response = check self.clientEp->/chat/completions.post(chatBody);
+        updateRateLimits(getRateLimitHeaders(response));
+        if response.statusCode >= 400 {
+            return getResponseError(response);
+        }
+        return response.getSseEventStream();
+    }
+}
+
+isolated function getRateLimitHeaders(http:Response response) returns map<string> {
+    map<string> headers = {};
+    foreach string name in response.getHeaderNames() {
+        string headerName = name.toLowerAscii();
+        string|http:HeaderNotFoundError value = response.getHeader(name);
+        if headerName.startsWith("x-ratelimit-") && value is string {
+            headers[headerName] = value;
+        }
+    }
+    return headers;
 }
+
+// Builds the same errors that the HTTP client returns for error responses when the payload is bound to a type, so
+// that the retries can still tell the transient errors apart.
+isolated function getResponseError(http:Response response) returns http:ClientRequestError|http:RemoteServerError {
+    map<string[]> headers = {};
+    foreach string name in response.getHeaderNames() {
+        string[]|http:HeaderNotFoundError values = response.getHeaders(name);
+        if values is string[] {
+            headers[name] = values;
+        }
+    }
+    json|error payload = response.getJsonPayload();
+    anydata body = payload is json ? payload : ();
+    if response.statusCode >= 500 {
+        http:RemoteServerError serverError = error(response.reasonPhrase, statusCode = response.statusCode,
+            headers = headers, body = body);
+        return serverError;
+    }
+    http:ClientRequestError requestError = error(response.reasonPhrase, statusCode = response.statusCode,
+        headers = headers, body = body);
+    return requestError;
+}
+
+isolated function updateRateLimits(map<string> headers) = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlRateLimiting"
+} external;
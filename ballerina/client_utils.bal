@@ -32,6 +32,11 @@ type OpenAiCreateChatCompletionRequest record {
     boolean? 'stream = false;
     decimal? temperature = 1;
     decimal? top_p = 1;
+    OpenAiChatCompletionStreamOptions stream_options?;
+};
+
+type OpenAiChatCompletionStreamOptions record {
+    boolean include_usage;
 };
 
 type OpenAiChatCompletionResponseMessage record {
@@ -42,6 +47,33 @@ type OpenAiCreateChatCompletionResponse_choices record {
     OpenAiChatCompletionResponseMessage message;
 };
 
+type OpenAiCompletionUsage record {
+    int prompt_tokens;
+    int completion_tokens;
+    int total_tokens;
+};
+
 type OpenAiCreateChatCompletionResponse record {
     OpenAiCreateChatCompletionResponse_choices[] choices;
+    OpenAiCompletionUsage usage?;
+};
+
+type OpenAiChatCompletionStreamResponseDelta record {
+    string? content?;
+};
+
+type OpenAiCreateChatCompletionStreamResponse_choices record {
+    OpenAiChatCompletionStreamResponseDelta delta;
+};
+
+type OpenAiCreateChatCompletionStreamResponse record {
+    OpenAiCreateChatCompletionStreamResponse_choices[] choices;
+    OpenAiCompletionUsage? usage?;
+};
+
+type OpenAiBatchRequest record {
+    string custom_id;
+    "POST" method;
+    string url;
+    OpenAiCreateChatCompletionRequest body;
 };
@@ -25,13 +25,44 @@ import ballerina/jballerina.java;
 # => [{ id: 1, name: "Alice", phone: 0123456789 },
 #     { id: 2, name: "Bob", phone: 0987654321 }]
 # ```
+# Left, semi and anti joins are also supported. An inner join returns an `etl:Error` when no records match, while the
+# other join types return an empty dataset.
+# ```ballerina
+# CustomerPersonalDetails[] withoutContacts = check etl:joinData(dataset1, dataset2, "id", etl:ANTI);
+# ```
 #
 # + dataset1 - First dataset containing base records.
 # + dataset2 - Second dataset with additional data to be merged.
 # + fieldName - The field used to match records between the datasets.
+# + joinType - The type of join to perform.
 # + returnType - The type of the return value (Ballerina record).
 # + return - A merged dataset with updated records or an `etl:Error`.
-public function joinData(record {}[] dataset1, record {}[] dataset2, string fieldName, typedesc<record {}> returnType = <>) returns returnType[]|Error = @java:Method {
+public function joinData(record {}[] dataset1, record {}[] dataset2, string fieldName, JoinType joinType = INNER, typedesc<record {}> returnType = <>) returns returnType[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlEnrichment"
+} external;
+
+# Joins two JSONL files based on a common specified field and writes the merged records to a JSONL file.
+# Unlike `joinData`, the files are never loaded into memory as a whole. When the second file is larger than
+# `joinConfig.memoryBudget`, both files are hash partitioned on the field into temporary files and the partitions
+# are joined in parallel. Merged records with the same key keep the order of the first file, but records of
+# different keys may be written in a different order. Every pair of matching records is written, so duplicate
+# records in the files produce duplicate merged records.
+# ```ballerina
+# // customers.jsonl => {"id": 1, "name": "Alice"}
+# //                   {"id": 2, "name": "Bob"}
+# // contacts.jsonl  => {"id": 1, "phone": "0123456789"}
+# int joined = check etl:joinDataFiles("customers.jsonl", "contacts.jsonl", "id", "joined.jsonl");
+#
+# => 1
+# // joined.jsonl    => {"id": 1, "name": "Alice", "phone": "0123456789"}
+# ```
+#
+# + filePath1 - Path of the first JSONL file containing base records.
+# + filePath2 - Path of the second JSONL file with additional data to be merged.
+# + fieldName - The field used to match records between the files.
+# + outputFilePath - Path of the JSONL file to write the merged records to.
+# + return - The number of merged records written or an `etl:Error`.
+public function joinDataFiles(string filePath1, string filePath2, string fieldName, string outputFilePath) returns int|Error = @java:Method {
     'class: "io.ballerina.stdlib.etl.nativeimpl.EtlEnrichment"
 } external;
 
@@ -55,3 +86,28 @@ public function joinData(record {}[] dataset1, record {}[] dataset2, string fiel
 public function mergeData(record {}[][] datasets, typedesc<record {}> returnType = <>) returns returnType[]|Error = @java:Method {
     'class: "io.ballerina.stdlib.etl.nativeimpl.EtlEnrichment"
 } external;
+
+# Merges multiple datasets that are each sorted on a specified field into a single dataset sorted on that field.
+# The datasets are merged with a k-way merge instead of being sorted again, so they must already be sorted in the
+# given direction, for example with `sortData`.
+# ```ballerina
+# Customer[][] dataSets = [
+#     [{ id: 1, name: "Alice" }, { id: 4, name: "David" }],
+#     [{ id: 2, name: "Bob" }, { id: 3, name: "Charlie" }]
+# ];
+# Customer[] mergedData = check etl:mergeSorted(dataSets, "id");
+#
+# => [{ id: 1, name: "Alice" },
+#     { id: 2, name: "Bob" },
+#     { id: 3, name: "Charlie" },
+#     { id: 4, name: "David" }]
+# ```
+#
+# + datasets - An array of datasets, where each dataset is an array of records sorted on the field.
+# + fieldName - The field the datasets are sorted on.
+# + direction - The direction the datasets are sorted in.
+# + returnType - The type of the return value (Ballerina record).
+# + return - A single merged dataset sorted on the field or an `etl:Error`.
+public function mergeSorted(record {}[][] datasets, string fieldName, SortDirection direction = ASCENDING, typedesc<record {}> returnType = <>) returns returnType[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlEnrichment"
+} external;
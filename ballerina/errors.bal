@@ -16,3 +16,7 @@
 
 # Represents ETL module related errors.
 public type Error distinct error;
+
+# Represents an error returned when some of the chunks sent to the OpenAI model fail after all retries while the rest succeed.
+# Returned only when `returnPartialResults` is enabled in the `chunkConfig`.
+public type PartialResultError distinct (Error & error<PartialResultErrorDetail>);
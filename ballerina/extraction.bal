@@ -38,3 +38,24 @@ import ballerina/jballerina.java;
 public function extractFromText(string sourceText, typedesc<record {}> returnType = <>) returns returnType|Error = @java:Method {
     'class: "io.ballerina.stdlib.etl.nativeimpl.EtlExtraction"
 } external;
+
+# Extracts structured data from many raw text inputs and maps each of them to a Ballerina record.
+# Short texts are packed into a shared request and the requests are sent concurrently, bounded by `maxConcurrentRequests`.
+# A text that cannot be extracted gets an `etl:Error` in its position instead of failing the whole batch.
+# ```ballerina
+# string[] reviews = [
+#     "The smartphone has an impressive camera. However, the battery drains quickly. The charging speed could be improved.",
+#     "The laptop is lightweight. But the keyboard feels cheap. A backlit keyboard would help."
+# ];
+# (Review|etl:Error)[] extractedDetails = check etl:extractFromTextBatch(reviews);
+#
+# => [{ goodPoints: "impressive camera", badPoints: "battery drains quickly", improvements: "charging speed" },
+#     { goodPoints: "lightweight", badPoints: "keyboard feels cheap", improvements: "backlit keyboard" }]
+# ```
+#
+# + sourceTexts - The raw text inputs from which structured data is to be extracted.
+# + returnType - The type of the return value (Ballerina record).
+# + return - The records extracted from each text, or an `etl:Error` for each text that could not be extracted, in the order of the texts.
+public function extractFromTextBatch(string[] sourceTexts, typedesc<record {}> returnType = <>) returns (returnType|Error)[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlExtraction"
+} external;
@@ -0,0 +1,80 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# A sorted index over a numeric field of a dataset, built once and reused by many queries. The values of the field
+# are kept sorted together with the positions of their records, so a comparison filter takes a binary search and a
+# copy of the matching records, and a categorization takes a single walk of the sorted values. Filtered records are in
+# ascending order of the field, with records of equal values in their dataset order, and categorized records keep
+# their dataset order.
+#
+# The index is rebuilt on its next use when records are added to or removed from the dataset, or when a record it
+# returns no longer holds the value it was indexed with. Call `rebuild` after changing the field of other records.
+# ```ballerina
+# etl:NumericIndex index = check new (orders, "totalAmount");
+# Order[] large = check index.filterDataByRelativeExp(etl:GREATER_THAN, 100);
+# Order[][] categorized = check index.categorizeNumeric([0, [10, 20], 30]);
+# ```
+public class NumericIndex {
+
+    private final record {}[] dataset;
+    private final string fieldName;
+
+    # Builds an index over a numeric field of a dataset.
+    #
+    # + dataset - Array of records to index.
+    # + fieldName - Name of the numeric field to index.
+    # + return - An `etl:Error` if the field is not a numeric field of the dataset.
+    public function init(record {}[] dataset, string fieldName) returns Error? {
+        self.dataset = dataset;
+        self.fieldName = fieldName;
+        check self.rebuild();
+    }
+
+    # Rebuilds the index from the current records of the dataset.
+    #
+    # + return - An `etl:Error` if the field is not a numeric field of the dataset.
+    public function rebuild() returns Error? = @java:Method {
+        'class: "io.ballerina.stdlib.etl.nativeimpl.EtlIndex"
+    } external;
+
+    # Filters the dataset by comparing the indexed field with a value, as `filterDataByRelativeExp` does.
+    # ```ballerina
+    # Order[] large = check index.filterDataByRelativeExp(etl:GREATER_THAN, 100);
+    # ```
+    #
+    # + operation - Comparison operator.
+    # + value - Numeric value to compare against.
+    # + returnType - The type of the return value (Ballerina record array).
+    # + return - The records that satisfy the comparison in ascending order of the field or an `etl:Error`.
+    public function filterDataByRelativeExp(Operation operation, float value, typedesc<record {}> returnType = <>) returns returnType[]|Error = @java:Method {
+        'class: "io.ballerina.stdlib.etl.nativeimpl.EtlIndex"
+    } external;
+
+    # Categorizes the dataset by ranges of the indexed field, as `categorizeNumeric` does. When the number of
+    # categories is given, the equal-frequency ranges are exact quantiles of the field values.
+    # ```ballerina
+    # Order[][] categorized = check index.categorizeNumeric([0, [10, 20], 30]);
+    # ```
+    #
+    # + categoryRanges - Numeric ranges for categorization, or the number of equal-frequency categories, which must not exceed the number of records.
+    # + returnType - The type of the return value (Ballerina record array).
+    # + return - A nested array of categorized records in their dataset order or an `etl:Error`.
+    public function categorizeNumeric(CategoryRanges|int categoryRanges, typedesc<record {}> returnType = <>) returns returnType[][]|Error = @java:Method {
+        'class: "io.ballerina.stdlib.etl.nativeimpl.EtlIndex"
+    } external;
+}
@@ -18,8 +18,44 @@ import ballerina/jballerina.java;
 
 type ModelConfig record {|
     string openAiToken;
+    string serviceUrl = "https://api.openai.com/v1";
     decimal timeout?;
     Model model;
+    TokenBudget tokenBudget?;
+|};
+
+type TokenBudget record {|
+    int maxTokens;
+    BudgetExceededAction onExceeded = REJECT;
+    Model fallbackModel = GPT_4O_MINI;
+|};
+
+type ChunkConfig record {|
+    int maxRetries = 3;
+    decimal retryInterval = 1;
+    float backOffFactor = 2.0;
+    decimal maxRetryInterval = 30;
+    string checkpointDirectory?;
+    boolean returnPartialResults = false;
+    boolean streamResponses = false;
+    int maxConcurrentRequests = 4;
+|};
+
+type JoinConfig record {|
+    int memoryBudget = 67108864;
+    string spillDirectory?;
+|};
+
+type RateLimitConfig record {|
+    int requestsPerMinute = 0;
+    int tokensPerMinute = 0;
+    float utilization = 0.9;
+|};
+
+type LabelMemoConfig record {|
+    boolean enabled = false;
+    float similarityThreshold = 0.8;
+    int maxEntries = 100000;
 |};
 
 configurable ModelConfig modelConfig = {
@@ -28,14 +64,46 @@ configurable ModelConfig modelConfig = {
     model: GPT_4O_MINI
 };
 
+configurable ChunkConfig chunkConfig = {};
+
+configurable JoinConfig joinConfig = {};
+
+configurable LabelMemoConfig labelMemoConfig = {};
+
+configurable RateLimitConfig rateLimitConfig = {};
+
 OpenAiClient openAIModel;
 
 function init() returns error? {
     decimal timeout = modelConfig.timeout ?: 60;
-    openAIModel = check new OpenAiClient(modelConfig.openAiToken, timeout);
+    openAIModel = check new OpenAiClient(modelConfig.openAiToken, timeout, modelConfig.serviceUrl);
     setModule();
+    setChunkConfig(chunkConfig);
+    setJoinConfig(joinConfig);
+    setLabelMemoConfig(labelMemoConfig);
+    setRateLimitConfig(rateLimitConfig);
 }
 
 function setModule() = @java:Method {
     'class: "io.ballerina.stdlib.etl.nativeimpl.ModuleUtils"
 } external;
+
+isolated function getChunkSize() returns int = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.ModuleUtils"
+} external;
+
+function setChunkConfig(ChunkConfig config) = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.ModuleUtils"
+} external;
+
+function setJoinConfig(JoinConfig config) = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.ModuleUtils"
+} external;
+
+function setLabelMemoConfig(LabelMemoConfig config) = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.ModuleUtils"
+} external;
+
+function setRateLimitConfig(RateLimitConfig config) = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.ModuleUtils"
+} external;
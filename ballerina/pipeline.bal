@@ -0,0 +1,200 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/lang.regexp;
+
+type PipelineStep record {|
+    string operation;
+    string fieldName = "";
+    regexp:RegExp? pattern = ();
+    string text = "";
+    float value = 0;
+    string[] values = [];
+    record {}[] dataset = [];
+|};
+
+# A lazy pipeline over a dataset. The methods of a pipeline record the operations in the order they are called and
+# return the pipeline, so that the operations can be chained. Nothing is run until `collect` is called, at which point
+# the operations are rewritten into an optimized plan. Filters are moved ahead of the operations they do not depend on,
+# fields removed with `removeField` are dropped before the operations that do not use them, and consecutive operations
+# that work on one record at a time are run together in a single pass over the dataset.
+# ```ballerina
+# etl:Dataset pipeline = etl:fromRecords(customers)
+#     .standardizeData("city", ["New York", "Colombo"])
+#     .removeField("notes")
+#     .filterDataByRelativeExp("age", etl:GREATER_THAN, 18);
+# Customer[] result = check pipeline.collect();
+# ```
+public class Dataset {
+
+    private final record {}[] records;
+    private final PipelineStep[] steps = [];
+
+    # Creates a pipeline over a dataset.
+    #
+    # + records - Array of records the pipeline starts from.
+    public function init(record {}[] records) {
+        self.records = records;
+    }
+
+    # Adds a step that keeps the records whose field matches a regex pattern, as `filterDataByRegex` does.
+    #
+    # + fieldName - Name of the field to apply the regex filter.
+    # + regexPattern - Regular expression to match values in the field.
+    # + return - The pipeline.
+    public function filterDataByRegex(string fieldName, regexp:RegExp regexPattern) returns Dataset {
+        self.steps.push({operation: "filterDataByRegex", fieldName, pattern: regexPattern});
+        return self;
+    }
+
+    # Adds a step that keeps the records whose field satisfies a comparison, as `filterDataByRelativeExp` does.
+    #
+    # + fieldName - Name of the field to evaluate.
+    # + operation - Comparison operator.
+    # + value - Value to compare the field against.
+    # + return - The pipeline.
+    public function filterDataByRelativeExp(string fieldName, Operation operation, float value) returns Dataset {
+        self.steps.push({operation: "filterDataByRelativeExp", fieldName, text: operation, value});
+        return self;
+    }
+
+    # Adds a step that drops the records with empty fields, as `removeEmptyValues` does.
+    #
+    # + return - The pipeline.
+    public function removeEmptyValues() returns Dataset {
+        self.steps.push({operation: "removeEmptyValues"});
+        return self;
+    }
+
+    # Adds a step that removes a field from all records, as `removeField` does.
+    #
+    # + fieldName - Name of the field to remove.
+    # + return - The pipeline.
+    public function removeField(string fieldName) returns Dataset {
+        self.steps.push({operation: "removeField", fieldName});
+        return self;
+    }
+
+    # Adds a step that removes extra whitespace from string fields, as `handleWhiteSpaces` does.
+    #
+    # + return - The pipeline.
+    public function handleWhiteSpaces() returns Dataset {
+        self.steps.push({operation: "handleWhiteSpaces"});
+        return self;
+    }
+
+    # Adds a step that replaces text in a field, as `replaceText` does.
+    #
+    # + fieldName - Name of the field in which text replacement will occur.
+    # + searchValue - Regular expression to match text that will be replaced.
+    # + replaceValue - Value to replace the matched text.
+    # + return - The pipeline.
+    public function replaceText(string fieldName, regexp:RegExp searchValue, string replaceValue) returns Dataset {
+        self.steps.push({operation: "replaceText", fieldName, pattern: searchValue, text: replaceValue});
+        return self;
+    }
+
+    # Adds a step that sorts the records by a field, as `sortData` does.
+    #
+    # + fieldName - Name of the field by which sorting occurs.
+    # + direction - The direction of the sort.
+    # + return - The pipeline.
+    public function sortData(string fieldName, SortDirection direction = ASCENDING) returns Dataset {
+        self.steps.push({operation: "sortData", fieldName, text: direction});
+        return self;
+    }
+
+    # Adds a step that removes duplicate records, as `removeDuplicates` does.
+    #
+    # + return - The pipeline.
+    public function removeDuplicates() returns Dataset {
+        self.steps.push({operation: "removeDuplicates"});
+        return self;
+    }
+
+    # Adds a step that joins the records with a second dataset, as `joinData` does.
+    #
+    # + dataset - The dataset to join with.
+    # + fieldName - Name of the field to join on.
+    # + joinType - The type of join to perform.
+    # + return - The pipeline.
+    public function joinData(record {}[] dataset, string fieldName, JoinType joinType = INNER) returns Dataset {
+        self.steps.push({operation: "joinData", fieldName, text: joinType, dataset});
+        return self;
+    }
+
+    # Adds a step that standardizes the values of a field, as `standardizeData` does.
+    #
+    # + fieldName - The name of the field to standardize.
+    # + standardValues - An array of standard values to replace approximate matches.
+    # + return - The pipeline.
+    public function standardizeData(string fieldName, string[] standardValues) returns Dataset {
+        self.steps.push({operation: "standardizeData", fieldName, values: standardValues});
+        return self;
+    }
+
+    # Adds a step that masks personally identifiable information, as `maskSensitiveData` does.
+    #
+    # + maskingCharacter - The character to use for masking sensitive information.
+    # + return - The pipeline.
+    public function maskSensitiveData(string:Char maskingCharacter = "X") returns Dataset {
+        self.steps.push({operation: "maskSensitiveData", text: maskingCharacter});
+        return self;
+    }
+
+    # Adds a step that keeps the records that `categorizeSemantic` puts in a category.
+    #
+    # + fieldName - Name of the field to categorize.
+    # + categories - Array of category names for classification.
+    # + category - The category whose records are kept.
+    # + return - The pipeline.
+    public function categorizeSemantic(string fieldName, string[] categories, string category) returns Dataset {
+        self.steps.push({operation: "categorizeSemantic", fieldName, text: category, values: categories});
+        return self;
+    }
+
+    # Returns the optimized plan of the pipeline, listing the stages in the order they are run and the steps each
+    # stage runs.
+    #
+    # + return - A description of the optimized plan or an `etl:Error` if a step refers to a field that is not in
+    # the records at that step.
+    public function explain() returns string|Error = @java:Method {
+        'class: "io.ballerina.stdlib.etl.nativeimpl.EtlPipeline"
+    } external;
+
+    # Runs the optimized plan of the pipeline and returns the resulting records.
+    #
+    # + returnType - The type of the return value (Ballerina record array).
+    # + return - The records produced by the pipeline or an `etl:Error`.
+    public function collect(typedesc<record {}> returnType = <>) returns returnType[]|Error = @java:Method {
+        'class: "io.ballerina.stdlib.etl.nativeimpl.EtlPipeline"
+    } external;
+}
+
+# Creates a lazy pipeline over a dataset.
+# ```ballerina
+# Customer[] adults = check etl:fromRecords(customers)
+#     .filterDataByRelativeExp("age", etl:GREATER_THAN_OR_EQUAL, 18)
+#     .sortData("name")
+#     .collect();
+# ```
+#
+# + dataset - Array of records the pipeline starts from.
+# + return - A pipeline with no steps.
+public function fromRecords(record {}[] dataset) returns Dataset {
+    return new (dataset);
+}
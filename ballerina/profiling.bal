@@ -0,0 +1,40 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Profiles the fields of a dataset in a single pass. For each field, it returns the ratios of nil and empty values,
+# the approximate number of distinct values, the minimum, maximum and mean of the numeric values with approximate
+# percentiles, and the most frequent values. Distinct counts, percentiles and frequent values are estimated with
+# fixed-size sketches, so the dataset is never sorted or copied.
+# ```ballerina
+# Order[] dataset = [
+#     { orderId: 1, customerName: "Alice", totalAmount: 5.3 },
+#     { orderId: 2, customerName: "Bob", totalAmount: 10.5 },
+#     { orderId: 3, customerName: "Alice", totalAmount: 15.0 }
+# ];
+# etl:DatasetProfile profile = check etl:profileData(dataset, 1);
+#
+# => { rowCount: 3, fields: { ..., customerName: { nullRatio: 0.0, emptyRatio: 0.0, distinctCount: 2, min: (),
+#      max: (), mean: (), quantiles: {}, topValues: [{ value: "Alice", count: 2 }] }, totalAmount: { ... } } }
+# ```
+#
+# + dataset - Array of records to profile.
+# + topK - Number of most frequent values returned for each field.
+# + return - The profile of the dataset or an `etl:Error`.
+public function profileData(record {}[] dataset, int topK = 10) returns DatasetProfile|Error = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlProfiling"
+} external;
@@ -0,0 +1,59 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Reads a CSV file with a header row into an array of records. The file is memory-mapped and split into chunks that
+# end at record boundaries, and the chunks are parsed in parallel directly into records of the return type. Each column
+# is converted to the type of the record field with the same name, which can be `string`, `int`, `float`, `decimal` or
+# `boolean`, optionally with nil. Empty values of nilable fields are read as nil.
+# ```ballerina
+# // customers.csv => id,name,age
+# //                  1,Alice,25
+# //                  2,"Smith, Bob",
+# type Customer record {|
+#     int id;
+#     string name;
+#     int? age;
+# |};
+# Customer[] customers = check etl:readCsv("customers.csv");
+#
+# => [{ id: 1, name: "Alice", age: 25 }, { id: 2, name: "Smith, Bob", age: () }]
+# ```
+#
+# + filePath - Path of the CSV file.
+# + returnType - The type of the return value.
+# + return - An array of records of the return type or an `etl:Error`.
+public function readCsv(string filePath, typedesc<record {}> returnType = <>) returns returnType[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlReader"
+} external;
+
+# Reads a JSONL file, with one JSON object on each line, into an array of records. The file is memory-mapped and split
+# into chunks that end at line breaks, and the chunks are parsed in parallel. Blank lines are skipped.
+# ```ballerina
+# // customers.jsonl => {"id": 1, "name": "Alice"}
+# //                    {"id": 2, "name": "Bob"}
+# Customer[] customers = check etl:readJsonl("customers.jsonl");
+#
+# => [{ id: 1, name: "Alice" }, { id: 2, name: "Bob" }]
+# ```
+#
+# + filePath - Path of the JSONL file.
+# + returnType - The type of the return value.
+# + return - An array of records of the return type or an `etl:Error`.
+public function readJsonl(string filePath, typedesc<record {}> returnType = <>) returns returnType[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlReader"
+} external;
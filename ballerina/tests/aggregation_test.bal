@@ -0,0 +1,85 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+type CustomerTotal record {|
+    string customerName;
+    int orders;
+    float total;
+    float? maxAmount;
+|};
+
+type Sale record {|
+    int region;
+    int units;
+    int? discount;
+|};
+
+type RegionSales record {|
+    int region;
+    int sales;
+    int units;
+    float averageUnits;
+    int? minDiscount;
+|};
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testAggregate() returns error? {
+    Order[] dataset = [
+        {orderId: 1, customerName: "Alice", totalAmount: 5.5},
+        {orderId: 2, customerName: "Bob", totalAmount: 10.25},
+        {orderId: 3, customerName: "Alice", totalAmount: 15.0}
+    ];
+    CustomerTotal[] expected = [
+        {customerName: "Alice", orders: 2, total: 20.5, maxAmount: 15.0},
+        {customerName: "Bob", orders: 1, total: 10.25, maxAmount: 10.25}
+    ];
+    CustomerTotal[] totals = check aggregate(dataset, ["customerName"], [
+        {'function: COUNT, outputField: "orders"},
+        {'function: SUM, fieldName: "totalAmount", outputField: "total"},
+        {'function: MAX, fieldName: "totalAmount", outputField: "maxAmount"}
+    ]);
+    test:assertEquals(totals, expected);
+    CustomerTotal[]|Error invalid = aggregate(dataset, ["customerName"], [
+        {'function: SUM, fieldName: "customerName", outputField: "total"}
+    ]);
+    test:assertTrue(invalid is Error);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testAggregateLargeDataset() returns error? {
+    Sale[] dataset = [];
+    foreach int i in 0 ..< 200000 {
+        dataset.push({region: i % 3, units: i % 10, discount: i % 3 == 2 ? () : i % 5});
+    }
+    RegionSales[] sales = check aggregate(dataset, ["region"], [
+        {'function: COUNT, outputField: "sales"},
+        {'function: SUM, fieldName: "units", outputField: "units"},
+        {'function: AVG, fieldName: "units", outputField: "averageUnits"},
+        {'function: MIN, fieldName: "discount", outputField: "minDiscount"}
+    ]);
+    test:assertEquals(sales.length(), 3);
+    test:assertEquals(sales.map(sale => sale.region), [0, 1, 2]);
+    test:assertEquals(sales.map(sale => sale.sales), [66667, 66667, 66666]);
+    test:assertEquals(sales[0].units, 300003);
+    test:assertEquals(sales[0].averageUnits, 300003.0 / 66667.0);
+    test:assertEquals(sales.map(sale => sale.minDiscount), [0, 0, ()]);
+}
@@ -0,0 +1,98 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/test;
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testStandardizeDataBatch() returns error? {
+    Person2[] dataset = [
+        {name: "Alice", city: "New York"},
+        {name: "John", city: "newyork - usa "},
+        {name: "Charlie", city: "los-angeles"}
+    ];
+    Person2[] expected = [
+        {name: "Alice", city: "New York"},
+        {name: "John", city: "New York"},
+        {name: "Charlie", city: "Los Angeles"}
+    ];
+    string requestFile = "target/etl-batch/standardize-requests.jsonl";
+    string resultFile = "target/etl-batch/standardize-results.jsonl";
+    resetTokenUsage();
+    check writeStandardizeDataBatch(dataset, "city", ["New York", "Los Angeles"], requestFile);
+    string[] requests = check io:fileReadLines(requestFile);
+    test:assertEquals(requests.length(), 1);
+    OpenAiBatchRequest request = check requests[0].fromJsonWithType();
+    test:assertEquals(request.custom_id, "standardizeData-0-3");
+    test:assertEquals(request.url, "/v1/chat/completions");
+    test:assertEquals(request.body.model, modelConfig.model);
+    // The written requests are counted against the token budget with their estimated tokens.
+    TokenUsageReport report = getTokenUsage();
+    test:assertEquals(report.operations.keys(), ["standardizeData"]);
+    test:assertEquals(report.total.requests, 1);
+    test:assertTrue(report.total.totalTokens > 0);
+    resetTokenUsage();
+    json completion = [{id: 1, value: "New York"}, {id: 2, value: "Los Angeles"}];
+    check io:fileWriteLines(resultFile, [getBatchResult("standardizeData-0-3", completion)]);
+    Person2[] result = check readStandardizeDataBatch(resultFile, dataset, "city");
+    test:assertEquals(result, expected);
+}
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testExtractFromTextBatch() returns error? {
+    string[] dataset = [
+        "The smartphone has an impressive camera. However, the battery drains quickly.",
+        "The laptop is lightweight. But the keyboard feels cheap.",
+        "The headphones are comfortable. But the sound leaks."
+    ];
+    string requestFile = "target/etl-batch/extract-requests.jsonl";
+    string resultFile = "target/etl-batch/extract-results.jsonl";
+    check writeExtractFromTextBatch(dataset, requestFile, ReviewSummary);
+    string[] requests = check io:fileReadLines(requestFile);
+    test:assertEquals(requests.length(), 3);
+    ReviewSummary[] expected = [
+        {goodPoints: "impressive camera", badPoints: "battery drains quickly", improvements: "battery life"},
+        {goodPoints: "lightweight", badPoints: "keyboard feels cheap", improvements: "keyboard quality"}
+    ];
+    check io:fileWriteLines(resultFile, [
+        getBatchResult("extractFromText-1-2", expected[1]),
+        getBatchResult("extractFromText-0-1", expected[0])
+    ]);
+    ReviewSummary[]|Error result = readExtractFromTextBatch(resultFile, dataset.slice(0, 2));
+    test:assertEquals(result, expected);
+    result = readExtractFromTextBatch(resultFile, dataset);
+    if result !is Error {
+        test:assertFail("Expected an error for the text without a batch result");
+    }
+    test:assertEquals(result.message(), "No batch result found for the rows 2 to 3");
+}
+
+function getBatchResult(string customId, json completion) returns string {
+    json result = {
+        id: "batch_req_" + customId,
+        custom_id: customId,
+        response: {
+            status_code: 200,
+            body: {choices: [{message: {content: completion.toJsonString()}}]}
+        },
+        'error: ()
+    };
+    return result.toJsonString();
+}
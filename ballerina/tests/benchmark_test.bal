@@ -0,0 +1,43 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/test;
+import ballerina/time;
+
+const int BENCHMARK_ITERATIONS = 5;
+
+@test:Config {
+    groups: ["benchmarks"]
+}
+function benchmarkSelectiveJoinData() returns error? {
+    // 100 of the 100000 rows of the second dataset match, so most of them are dropped by the Bloom filter.
+    Customer[] dataset1 = from int i in 0 ..< 200
+        select {"id": i % 2 == 0 ? i * 500 : -i, "name": string `Customer ${i}`};
+    Customer[] dataset2 = from int i in 0 ..< 100000
+        select {"id": i, "age": i % 100};
+    foreach JoinType joinType in [INNER, LEFT, SEMI, ANTI] {
+        decimal startTime = time:monotonicNow();
+        int joinedRows = 0;
+        foreach int i in 0 ..< BENCHMARK_ITERATIONS {
+            Customer[] joined = check joinData(dataset1, dataset2, "id", joinType);
+            joinedRows = joined.length();
+        }
+        decimal elapsedTime = (time:monotonicNow() - startTime) / BENCHMARK_ITERATIONS;
+        test:assertEquals(joinedRows, joinType == LEFT ? 200 : 100);
+        io:println(string `joinData ${joinType}: ${dataset1.length()} x ${dataset2.length()} rows in ${elapsedTime}s`);
+    }
+}
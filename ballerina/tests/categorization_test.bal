@@ -50,6 +50,41 @@ function testCategorizeNumeric() returns error? {
     test:assertEquals(categorized, expected);
 }
 
+@test:Config {
+    groups: ["live_tests"]
+}
+function testCategorizeNumericByQuantiles() returns error? {
+    Order[] dataset = [
+        {orderId: 1, customerName: "Alice", totalAmount: 40.0},
+        {orderId: 2, customerName: "Bob", totalAmount: 10.0},
+        {orderId: 3, customerName: "John", totalAmount: 30.0},
+        {orderId: 4, customerName: "Charlie", totalAmount: 20.0}
+    ];
+    Order[][] expected = [
+        [{orderId: 2, customerName: "Bob", totalAmount: 10.0}, {orderId: 4, customerName: "Charlie", totalAmount: 20.0}],
+        [{orderId: 1, customerName: "Alice", totalAmount: 40.0}, {orderId: 3, customerName: "John", totalAmount: 30.0}]
+    ];
+    Order[][] categorized = check categorizeNumeric(dataset, "totalAmount", 2);
+    test:assertEquals(categorized, expected);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testCategorizeNumericWithTooManyCategories() {
+    Order[] dataset = [
+        {orderId: 1, customerName: "Alice", totalAmount: 40.0},
+        {orderId: 2, customerName: "Bob", totalAmount: 10.0}
+    ];
+    foreach int numCategories in [3, 4294967297, int:MAX_VALUE] {
+        Order[][]|Error categorized = categorizeNumeric(dataset, "totalAmount", numCategories);
+        if categorized !is Error {
+            test:assertFail(string `Expected an error for ${numCategories} categories`);
+        }
+        test:assertEquals(categorized.message(), "The number of categories must not exceed the number of records");
+    }
+}
+
 @test:Config {
     groups: ["live_tests"]
 }
@@ -90,7 +125,7 @@ function testCategorizeSemantic() returns error? {
         choices: [
             {
                 message: {
-                    content: expected.toJsonString()
+                    content: [{id: 0, category: 0}, {id: 1, category: 0}, {id: 2, category: 1}].toJsonString()
                 }
             }
         ]
@@ -100,3 +135,71 @@ function testCategorizeSemantic() returns error? {
     Review[][] categorized = check categorizeSemantic(dataset, fieldName, categories);
     test:assertEquals(categorized, expected);
 }
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testPartitionBy() returns error? {
+    Order[] dataset = [
+        {orderId: 1, customerName: "Alice", totalAmount: 5.0},
+        {orderId: 2, customerName: "Bob", totalAmount: 10.0},
+        {orderId: 3, customerName: "Alice", totalAmount: 15.0}
+    ];
+    map<Order[]> expected = {
+        "Alice": [
+            {orderId: 1, customerName: "Alice", totalAmount: 5.0},
+            {orderId: 3, customerName: "Alice", totalAmount: 15.0}
+        ],
+        "Bob": [{orderId: 2, customerName: "Bob", totalAmount: 10.0}]
+    };
+    map<Order[]> partitions = check partitionBy(dataset, "customerName");
+    test:assertEquals(partitions, expected);
+    test:assertEquals(partitions.keys(), ["Alice", "Bob"]);
+
+    map<Order[]>|Error invalid = partitionBy(dataset, "city");
+    test:assertTrue(invalid is Error);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testPartitionByLargeDataset() returns error? {
+    Order[] dataset = from int i in 0 ..< 200000
+        select {orderId: i, customerName: string `Customer ${i % 7}`, totalAmount: <float>i};
+    map<Order[]> partitions = check partitionBy(dataset, "customerName");
+    test:assertEquals(partitions.length(), 7);
+    Order[] first = partitions.get("Customer 0");
+    test:assertEquals(first.length(), 28572);
+    foreach int i in 1 ..< first.length() {
+        test:assertTrue(first[i - 1].orderId < first[i].orderId);
+    }
+}
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testCategorizeSemanticWithLabelMemo() returns error? {
+    setLabelMemoConfig({enabled: true, similarityThreshold: 0.7});
+    check runWithStubServer({}, function() returns error? {
+        Review[] dataset = [{id: 1, comment: "Great service today!"}];
+        Review[][] categorized = check categorizeSemantic(dataset, "comment", ["Positive", "Negative"]);
+        test:assertEquals(categorized, [[{id: 1, comment: "Great service today!"}], []]);
+        test:assertEquals(getStubRequestCount(), 1);
+
+        Review[] similarDataset = [{id: 2, comment: "great service  today!!"}];
+        categorized = check categorizeSemantic(similarDataset, "comment", ["Positive", "Negative"]);
+        test:assertEquals(categorized, [[{id: 2, comment: "great service  today!!"}], []]);
+        test:assertEquals(getStubRequestCount(), 1);
+
+        // Records labelled from the memo and by the model keep the order of the dataset.
+        Review[] mixedDataset = [
+            {id: 3, comment: "Slow delivery"},
+            {id: 4, comment: "Great service today"},
+            {id: 5, comment: "Cold food"}
+        ];
+        categorized = check categorizeSemantic(mixedDataset, "comment", ["Positive", "Negative"]);
+        test:assertEquals(categorized, [mixedDataset, []]);
+        test:assertEquals(getStubRequestCount(), 2);
+    });
+    setLabelMemoConfig(labelMemoConfig);
+}
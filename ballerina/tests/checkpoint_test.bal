@@ -0,0 +1,79 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/test;
+
+type Shipment record {|
+    int id;
+    string status;
+    decimal? weight;
+    boolean express;
+    float distance?;
+    map<string> tags;
+|};
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testSaveAndLoadDataset() returns error? {
+    Shipment[] dataset = [
+        {id: 1, status: "Delivered", weight: 2.5, express: true, distance: 10.0, tags: {region: "EU"}},
+        {id: 2, status: "Delivered", weight: (), express: false, tags: {}},
+        {id: 3, status: "Pending", weight: 1.25, express: false, distance: 3.5, tags: {region: "US"}},
+        {id: 4, status: "Delivered", weight: 0, express: true, tags: {priority: "high"}}
+    ];
+    check saveDataset(dataset, "target/shipments.etl");
+    Shipment[] loaded = check loadDataset("target/shipments.etl");
+    test:assertEquals(loaded, dataset);
+
+    check saveDataset(dataset, "target/shipments-compressed.etl", true);
+    Shipment[] loadedCompressed = check loadDataset("target/shipments-compressed.etl");
+    test:assertEquals(loadedCompressed, dataset);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testLoadDatasetWithDifferentType() returns error? {
+    Customer[] dataset = [{id: 1, name: "Alice", age: 25}, {id: 2, name: "Bob"}];
+    check saveDataset(dataset, "target/customers.etl");
+    Account[]|Error accounts = loadDataset("target/customers.etl");
+    test:assertTrue(accounts is Error);
+    if accounts is Error {
+        test:assertEquals(accounts.message(), "The column 'age' is not a field of the return type");
+    }
+
+    Customer[] empty = [];
+    check saveDataset(empty, "target/empty.etl", true);
+    Customer[] customers = check loadDataset("target/empty.etl");
+    test:assertEquals(customers, empty);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testLoadTruncatedDataset() returns error? {
+    Shipment[] dataset = from int i in 0 ..< 100
+        select {id: i, status: i % 2 == 0 ? "Delivered" : "Pending", weight: 1.5, express: false, tags: {}};
+    check saveDataset(dataset, "target/shipments-truncated.etl", true);
+    byte[] bytes = check io:fileReadBytes("target/shipments-truncated.etl");
+    foreach int length in [bytes.length() - 10, 40, 10] {
+        check io:fileWriteBytes("target/shipments-truncated.etl", bytes.slice(0, length));
+        Shipment[]|Error loaded = loadDataset("target/shipments-truncated.etl");
+        test:assertTrue(loaded is Error, string `Expected an error for a dataset truncated to ${length} bytes`);
+    }
+}
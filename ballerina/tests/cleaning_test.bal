@@ -14,7 +14,9 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/io;
 import ballerina/test;
+import ballerina/time;
 
 type Person1 record {|
     string? name;
@@ -142,6 +144,125 @@ function testRemoveEmptyValues() returns error? {
     test:assertEquals(result, expected);
 }
 
+@test:Config {
+    groups: ["live_tests"]
+}
+function testRemoveSeenRecords() returns error? {
+    string storePath = "target/remove-seen-records.dedup";
+    check io:fileWriteBytes(storePath, []);
+    Person2[] firstLoad = [
+        {name: "Alice", city: "New York"},
+        {name: "Bob", city: "Los Angeles"},
+        {name: "Alice", city: "New York"}
+    ];
+    Person2[] secondLoad = [
+        {name: "Bob", city: "Los Angeles"},
+        {name: "Charlie", city: "Chicago"},
+        {name: "Alice", city: "Boston"}
+    ];
+    Person2[] firstResult = check removeSeenRecords(firstLoad, storePath);
+    test:assertEquals(firstResult, [{name: "Alice", city: "New York"}, {name: "Bob", city: "Los Angeles"}]);
+    Person2[] secondResult = check removeSeenRecords(secondLoad, storePath);
+    test:assertEquals(secondResult, [{name: "Charlie", city: "Chicago"}, {name: "Alice", city: "Boston"}]);
+    Person2[] byName = check removeSeenRecords(secondLoad, storePath, ["name"]);
+    test:assertEquals(byName, secondLoad);
+    Person2[] secondResultAgain = check removeSeenRecords(secondLoad, storePath);
+    test:assertEquals(secondResultAgain, []);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testRemoveSeenRecordsGrowsStore() returns error? {
+    string storePath = "target/remove-seen-records-growth.dedup";
+    check io:fileWriteBytes(storePath, []);
+    // More records than the 65,536 slots of a new store hold at the maximum load factor of 0.7.
+    Employee[] dataset = from int id in 0 ..< 50000
+        select {id};
+    Employee[] firstResult = check removeSeenRecords(dataset, storePath);
+    test:assertEquals(firstResult.length(), 50000);
+    Employee[] secondResult = check removeSeenRecords(dataset, storePath);
+    test:assertEquals(secondResult, []);
+    test:assertEquals(check readStoreHeader(storePath), [131072, 50000]);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testRemoveSeenRecordsReplaysJournal() returns error? {
+    string storePath = "target/remove-seen-records-journal.dedup";
+    check io:fileWriteBytes(storePath, []);
+    // A journal left by a call that stopped before its fingerprints were inserted. It holds more fingerprints than
+    // a new store holds, so it can only be applied after the store has grown.
+    check io:fileWriteBytes(storePath + ".journal", getJournal(50000));
+    Employee[] dataset = [{id: 1}, {id: 2}];
+    Employee[] result = check removeSeenRecords(dataset, storePath);
+    test:assertEquals(result, dataset);
+    test:assertTrue(io:fileReadBytes(storePath + ".journal") is error);
+    test:assertEquals(check readStoreHeader(storePath), [131072, 50002]);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testRemoveSeenRecordsRecountsAfterPartialReplay() returns error? {
+    string storePath = "target/remove-seen-records-recount.dedup";
+    check io:fileWriteBytes(storePath, []);
+    check io:fileWriteBytes(storePath + ".journal", getJournal(10));
+    Employee[] result = check removeSeenRecords([{id: 1}, {id: 2}], storePath);
+    test:assertEquals(result.length(), 2);
+    test:assertEquals(check readStoreHeader(storePath), [65536, 12]);
+
+    // A call that stopped after its fingerprints were written to the slots, but before the count in the header was
+    // updated, leaves the journal behind with fingerprints that are already stored.
+    byte[] store = check io:fileReadBytes(storePath);
+    byte[] count = getBytes(0, 8);
+    foreach int i in 0 ..< 8 {
+        store[24 + i] = count[i];
+    }
+    check io:fileWriteBytes(storePath, store);
+    check io:fileWriteBytes(storePath + ".journal", getJournal(10));
+    result = check removeSeenRecords([{id: 2}, {id: 3}], storePath);
+    test:assertEquals(result, [{id: 3}]);
+    test:assertEquals(check readStoreHeader(storePath), [65536, 13]);
+}
+
+// Returns the capacity and the number of fingerprints in the header of a dedup store.
+function readStoreHeader(string storePath) returns int[]|error {
+    byte[] store = check io:fileReadBytes(storePath);
+    return [getLong(store, 16), getLong(store, 24)];
+}
+
+// Builds a journal of distinct fingerprints. The fingerprints are chosen so that the running checksum of the journal
+// stays at zero and does not overflow.
+function getJournal(int size) returns byte[] {
+    byte[] journal = getBytes(size, 4);
+    foreach int i in 0 ..< size {
+        int high = i + 1;
+        int low = i == 0 ? -31 * size - 17 * high : -17 * high;
+        journal.push(...getBytes(high, 8));
+        journal.push(...getBytes(low, 8));
+    }
+    journal.push(...getBytes(0, 8));
+    return journal;
+}
+
+function getBytes(int value, int length) returns byte[] {
+    byte[] bytes = [];
+    foreach int i in 0 ..< length {
+        bytes.push(<byte>((value >> (8 * (length - 1 - i))) & 0xff));
+    }
+    return bytes;
+}
+
+function getLong(byte[] bytes, int offset) returns int {
+    int value = 0;
+    foreach int i in offset ..< offset + 8 {
+        value = (value << 8) | bytes[i];
+    }
+    return value;
+}
+
 @test:Config {
     groups: ["live_tests"]
 }
@@ -200,7 +321,7 @@ function testStandardizeData() returns error? {
         choices: [
             {
                 message: {
-                    content: expected.toJsonString()
+                    content: [{id: 1, value: "New York"}, {id: 2, value: "Los Angeles"}].toJsonString()
                 }
             }
         ]
@@ -209,3 +330,40 @@ function testStandardizeData() returns error? {
     Person2[] result = check standardizeData(dataset, fieldName, searchValues);
     test:assertEquals(result, expected);
 }
+
+@test:Config {
+    groups: ["live_tests", "mock_tests"]
+}
+function testStandardizeDataOnNonStringField() {
+    Order[] dataset = [
+        {orderId: 1, customerName: "Alice", totalAmount: 25.0}
+    ];
+    Order[]|Error result = standardizeData(dataset, "totalAmount", ["25.0"]);
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(result.message(),
+                "The field 'totalAmount' is expected to be of type 'string' but found 'float'");
+    }
+}
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testConcurrentStandardizeDataWithStubServer() returns error? {
+    check runWithStubServer({latency: 0.5}, function() returns error? {
+        Person2[] dataset = [{name: "John", city: "newyork - usa "}];
+        future<Person2[]|Error>[] futures = [];
+        decimal startTime = time:monotonicNow();
+        foreach int i in 0 ..< 4 {
+            futures.push(start standardizeData(dataset, "city", ["New York"]));
+        }
+        foreach future<Person2[]|Error> f in futures {
+            Person2[] standardized = check wait f;
+            test:assertEquals(standardized, [{name: "John", city: "New York"}]);
+        }
+        // Four calls that each wait 0.5 seconds for the stub take 2 seconds when they do not overlap.
+        decimal elapsedTime = time:monotonicNow() - startTime;
+        test:assertTrue(elapsedTime < 1.5d, string `The calls took ${elapsedTime} seconds`);
+        test:assertEquals(getStubRequestCount(), 4);
+    });
+}
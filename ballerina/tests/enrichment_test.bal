@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/io;
 import ballerina/test;
 
 type Customer record {|
@@ -43,6 +44,109 @@ function testJoinData() returns error? {
     test:assertEquals(mergedData, expected);
 }
 
+@test:Config {
+    groups: ["live_tests"]
+}
+function testJoinDataWithJoinTypes() returns error? {
+    Customer[] dataset1 = [
+        {"id": 1, "name": "Alice"},
+        {"id": 2, "name": "Bob"},
+        {"id": 3, "name": "Charlie"}
+    ];
+    Customer[] dataset2 = [
+        {"id": 1, "age": 25},
+        {"id": 4, "age": 40}
+    ];
+    Customer[] left = check joinData(dataset1, dataset2, "id", LEFT);
+    test:assertEquals(left, [
+        {"id": 1, "name": "Alice", "age": 25},
+        {"id": 2, "name": "Bob"},
+        {"id": 3, "name": "Charlie"}
+    ]);
+    Customer[] semi = check joinData(dataset1, dataset2, "id", SEMI);
+    test:assertEquals(semi, [{"id": 1, "name": "Alice"}]);
+    Customer[] anti = check joinData(dataset1, dataset2, "id", ANTI);
+    test:assertEquals(anti, [{"id": 2, "name": "Bob"}, {"id": 3, "name": "Charlie"}]);
+    Customer[] noMatches = check joinData([{"id": 5, "name": "David"}], dataset2, "id", SEMI);
+    test:assertEquals(noMatches, []);
+    Customer[]|Error inner = joinData([{"id": 5, "name": "David"}], dataset2, "id");
+    test:assertTrue(inner is Error);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testSelectiveJoinData() returns error? {
+    Customer[] dataset1 = [{"id": 10, "name": "Alice"}, {"id": 5000, "name": "Bob"}];
+    Customer[] dataset2 = [];
+    foreach int i in 0 ..< 2000 {
+        dataset2.push({"id": i * 2, "age": i % 100});
+    }
+    Customer[] joined = check joinData(dataset1, dataset2, "id");
+    test:assertEquals(joined, [{"id": 10, "name": "Alice", "age": 5}]);
+    Customer[] anti = check joinData(dataset1, dataset2, "id", ANTI);
+    test:assertEquals(anti, [{"id": 5000, "name": "Bob"}]);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testSelectiveJoinDataWithBloomFilter() returns error? {
+    // The second dataset is more than eight times larger than the first one, so its rows are checked against a Bloom
+    // filter over the keys of the first one. Only 20 of its 20000 rows match.
+    Customer[] dataset1 = [];
+    foreach int i in 0 ..< 40 {
+        dataset1.push({"id": i % 2 == 0 ? i * 500 : 100000 + i, "name": string `Customer ${i}`});
+    }
+    Customer[] dataset2 = from int i in 0 ..< 20000
+        select {"id": i, "age": i % 100};
+    Customer[] joined = check joinData(dataset1, dataset2, "id");
+    Customer[] expected = from int i in 0 ..< 40
+        where i % 2 == 0
+        select {"id": i * 500, "name": string `Customer ${i}`, "age": 0};
+    test:assertEquals(joined, expected);
+
+    Customer[] left = check joinData(dataset1, dataset2, "id", LEFT);
+    test:assertEquals(left.length(), 40);
+    test:assertEquals(left[1], {"id": 100001, "name": "Customer 1"});
+    Customer[] semi = check joinData(dataset1, dataset2, "id", SEMI);
+    test:assertEquals(semi, from Customer customer in dataset1 where customer.id < 100000 select customer);
+    Customer[] anti = check joinData(dataset1, dataset2, "id", ANTI);
+    test:assertEquals(anti, from Customer customer in dataset1 where customer.id >= 100000 select customer);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testJoinDataFiles() returns error? {
+    string[] expected = [
+        "{\"id\":1, \"name\":\"Alice\", \"age\":25}",
+        "{\"id\":2, \"name\":\"Bob\", \"age\":30}"
+    ];
+    check io:fileWriteLines("target/join-customers.jsonl", [
+        "{\"id\": 1, \"name\": \"Alice\"}",
+        "{\"id\": 2, \"name\": \"Bob\"}",
+        "{\"id\": 3, \"name\": \"Charlie\"}"
+    ]);
+    check io:fileWriteLines("target/join-ages.jsonl", [
+        "{\"id\": 1, \"age\": 25}",
+        "{\"id\": 2, \"age\": 30}"
+    ]);
+    int joined = check joinDataFiles("target/join-customers.jsonl", "target/join-ages.jsonl", "id",
+            "target/etl-join/joined.jsonl");
+    test:assertEquals(joined, 2);
+    test:assertEquals(check io:fileReadLines("target/etl-join/joined.jsonl"), expected);
+
+    // A budget smaller than the second file forces both files to be partitioned on disk.
+    setJoinConfig({memoryBudget: 16});
+    int|Error spilled = joinDataFiles("target/join-customers.jsonl", "target/join-ages.jsonl", "id",
+            "target/etl-join/spilled.jsonl");
+    setJoinConfig(joinConfig);
+    test:assertEquals(spilled, 2);
+    string[] spilledLines = check io:fileReadLines("target/etl-join/spilled.jsonl");
+    test:assertEquals(spilledLines.sort(), expected);
+}
+
 @test:Config {
     groups: ["live_tests"]
 }
@@ -60,3 +164,29 @@ function testMergeData() returns error? {
     record {}[] mergedData = check mergeData(dataSets);
     test:assertEquals(mergedData, expected);
 }
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testMergeSorted() returns error? {
+    Customer[][] dataSets = [
+        [{"id": 1, "name": "Alice"}, {"id": 4, "name": "David"}],
+        [],
+        [{"id": 2, "name": "Bob"}, {"id": 3, "name": "Charlie"}, {"id": 5, "name": "Eve"}]
+    ];
+    Customer[] expected = [
+        {"id": 1, "name": "Alice"},
+        {"id": 2, "name": "Bob"},
+        {"id": 3, "name": "Charlie"},
+        {"id": 4, "name": "David"},
+        {"id": 5, "name": "Eve"}
+    ];
+    Customer[] mergedData = check mergeSorted(dataSets, "id");
+    test:assertEquals(mergedData, expected);
+    Customer[][] descending = [
+        [{"id": 4, "name": "David"}, {"id": 1, "name": "Alice"}],
+        [{"id": 3, "name": "Charlie"}, {"id": 2, "name": "Bob"}]
+    ];
+    Customer[] descendingData = check mergeSorted(descending, "id", DESCENDING);
+    test:assertEquals(descendingData, expected.slice(0, 4).reverse());
+}
@@ -47,3 +47,34 @@ public function testExtractFromUnstructuredData() returns error? {
     test:assertNotEquals(extractedDetails["badPoints"], null);
     test:assertNotEquals(extractedDetails["improvements"], null);
 }
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testExtractFromMultipleTexts() returns error? {
+    string[] reviews = [
+        "The smartphone has an impressive camera. However, the battery drains quickly.",
+        ":)",
+        "The laptop is lightweight. But the keyboard feels cheap."
+    ];
+    ReviewSummary[] extracted = [
+        {goodPoints: "Impressive camera", badPoints: "Battery drains quickly", improvements: "Battery life"},
+        {goodPoints: "Lightweight", badPoints: "Keyboard feels cheap", improvements: "Keyboard quality"}
+    ];
+    OpenAiCreateChatCompletionResponse mockResponse = {
+        choices: [
+            {
+                message: {
+                    content: [{id: 0, data: extracted[0]}, {id: 2, data: extracted[1]}].toJsonString()
+                }
+            }
+        ]
+    };
+    openAIModel = test:mock(OpenAiClient);
+    test:prepare(openAIModel).when("chat").thenReturn(mockResponse);
+    (ReviewSummary|Error)[] extractedDetails = check extractFromTextBatch(reviews);
+    test:assertEquals(extractedDetails.length(), 3);
+    test:assertEquals(extractedDetails[0], extracted[0]);
+    test:assertTrue(extractedDetails[1] is Error);
+    test:assertEquals(extractedDetails[2], extracted[1]);
+}
@@ -0,0 +1,88 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testNumericIndex() returns error? {
+    Order[] dataset = [
+        {orderId: 1, customerName: "Alice", totalAmount: 25.0},
+        {orderId: 2, customerName: "Bob", totalAmount: 5.3},
+        {orderId: 3, customerName: "John", totalAmount: 15.0},
+        {orderId: 4, customerName: "Charlie", totalAmount: 10.5},
+        {orderId: 5, customerName: "David", totalAmount: 29.0}
+    ];
+    NumericIndex index = check new (dataset, "totalAmount");
+    Order[] expectedFiltered = [
+        {orderId: 4, customerName: "Charlie", totalAmount: 10.5},
+        {orderId: 3, customerName: "John", totalAmount: 15.0},
+        {orderId: 1, customerName: "Alice", totalAmount: 25.0},
+        {orderId: 5, customerName: "David", totalAmount: 29.0}
+    ];
+    Order[] filtered = check index.filterDataByRelativeExp(GREATER_THAN, 10);
+    test:assertEquals(filtered, expectedFiltered);
+    Order[][] expectedCategorized = [
+        [{orderId: 2, customerName: "Bob", totalAmount: 5.3}],
+        [{orderId: 3, customerName: "John", totalAmount: 15.0}, {orderId: 4, customerName: "Charlie", totalAmount: 10.5}],
+        [{orderId: 1, customerName: "Alice", totalAmount: 25.0}, {orderId: 5, customerName: "David", totalAmount: 29.0}]
+    ];
+    Order[][] categorized = check index.categorizeNumeric([0, [10, 20], 30]);
+    test:assertEquals(categorized, expectedCategorized);
+    Order[][] eagerCategorized = check categorizeNumeric(dataset, "totalAmount", [0, [10, 20], 30]);
+    test:assertEquals(categorized, eagerCategorized);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testNumericIndexAfterDatasetChange() returns error? {
+    Order[] dataset = [
+        {orderId: 1, customerName: "Alice", totalAmount: 25.0},
+        {orderId: 2, customerName: "Bob", totalAmount: 5.3},
+        {orderId: 3, customerName: "Charlie", totalAmount: 10.5}
+    ];
+    NumericIndex index = check new (dataset, "totalAmount");
+    dataset.push({orderId: 4, customerName: "Eve", totalAmount: 12.0});
+    Order[] filtered = check index.filterDataByRelativeExp(LESS_THAN, 13);
+    test:assertEquals(filtered, [
+        {orderId: 2, customerName: "Bob", totalAmount: 5.3},
+        {orderId: 3, customerName: "Charlie", totalAmount: 10.5},
+        {orderId: 4, customerName: "Eve", totalAmount: 12.0}
+    ]);
+    dataset[1].totalAmount = 50.0;
+    filtered = check index.filterDataByRelativeExp(LESS_THAN, 13);
+    test:assertEquals(filtered, [
+        {orderId: 3, customerName: "Charlie", totalAmount: 10.5},
+        {orderId: 4, customerName: "Eve", totalAmount: 12.0}
+    ]);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testNumericIndexOnStringField() {
+    Order[] dataset = [
+        {orderId: 1, customerName: "Alice", totalAmount: 25.0}
+    ];
+    NumericIndex|Error index = new (dataset, "customerName");
+    test:assertTrue(index is Error);
+    if index is Error {
+        test:assertEquals(index.message(),
+                "The field 'customerName' is expected to be of type 'int or float' but found 'string'");
+    }
+}
@@ -0,0 +1,185 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+type Salary record {|
+    int id;
+    float salary;
+|};
+
+type EmployeeSalary record {|
+    int id;
+    string name?;
+    int age?;
+    float salary?;
+|};
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testDatasetPipeline() returns error? {
+    Employee[] dataset = [
+        {id: 1, name: "  David ", city: "Boston", age: 28},
+        {id: 2, name: "Alice", city: "New  York", age: 25},
+        {id: 3, name: "Eve", city: "Colombo", age: 35},
+        {id: 4, name: "Charlie", city: "Boston", age: 22},
+        {id: 5, name: "Bob", city: "Colombo", age: 30}
+    ];
+    Dataset pipeline = fromRecords(dataset)
+        .sortData("name")
+        .handleWhiteSpaces()
+        .removeField("city")
+        .filterDataByRelativeExp("age", GREATER_THAN, 24)
+        .filterDataByRegex("name", re `^[A-D].*$`);
+    string expectedPlan = string `Stage 1: single pass over the records
+  filterDataByRelativeExp(age > 24.0)
+  removeField(city)
+  sortData(name, ascending)
+Stage 2: single pass over the records
+  handleWhiteSpaces()
+  filterDataByRegex(name, "^[A-D].*$")`;
+    test:assertEquals(check pipeline.explain(), expectedPlan);
+    Employee[] expected = [
+        {id: 1, name: "David", age: 28},
+        {id: 2, name: "Alice", age: 25},
+        {id: 5, name: "Bob", age: 30}
+    ];
+    Employee[] result = check pipeline.collect();
+    test:assertEquals(result, expected);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testDatasetPipelineWithJoin() returns error? {
+    Employee[] dataset = [
+        {id: 1, name: "David", city: "Boston", age: 28},
+        {id: 2, name: "Alice", city: "New York", age: 25},
+        {id: 3, name: "Eve", city: "Colombo", age: 35},
+        {id: 4, name: "Charlie", city: "Boston", age: 22},
+        {id: 5, name: "Bob", city: "Colombo", age: 30}
+    ];
+    Salary[] salaries = [
+        {id: 1, salary: 1000.0},
+        {id: 2, salary: 2000.0},
+        {id: 4, salary: 3000.0}
+    ];
+    Dataset pipeline = fromRecords(dataset)
+        .joinData(salaries, "id", LEFT)
+        .filterDataByRelativeExp("age", GREATER_THAN, 24)
+        .removeField("city");
+    string expectedPlan = string `Stage 1: single pass over the records
+  filterDataByRelativeExp(age > 24.0)
+Stage 2: joinData(id, left)
+Stage 3: single pass over the records
+  removeField(city)`;
+    test:assertEquals(check pipeline.explain(), expectedPlan);
+    EmployeeSalary[] expected = [
+        {id: 1, name: "David", age: 28, salary: 1000.0},
+        {id: 2, name: "Alice", age: 25, salary: 2000.0},
+        {id: 3, name: "Eve", age: 35},
+        {id: 5, name: "Bob", age: 30}
+    ];
+    EmployeeSalary[] result = check pipeline.collect();
+    test:assertEquals(result, expected);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testDatasetPipelineWithRemovedField() {
+    Employee[] dataset = [
+        {id: 1, name: "David", city: "Boston", age: 28},
+        {id: 2, name: "Alice", city: "New York", age: 25}
+    ];
+    Employee[]|Error result = fromRecords(dataset)
+        .removeField("city")
+        .filterDataByRegex("city", re `^New.*$`)
+        .collect();
+    test:assertTrue(result is Error);
+    if result is Error {
+        test:assertEquals(result.message(), "The dataset does not contain the field - 'city'");
+    }
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testDatasetPipelineWithInnerJoin() returns error? {
+    Employee[] dataset = [
+        {id: 1, name: "David", city: "Boston", age: 28},
+        {id: 2, name: "Alice", city: "New York", age: 25},
+        {id: 3, name: "Eve", city: "Colombo", age: 35}
+    ];
+    Salary[] salaries = [{id: 1, salary: 1000.0}, {id: 2, salary: 2000.0}];
+    Dataset pipeline = fromRecords(dataset)
+        .joinData(salaries, "id")
+        .removeField("city")
+        .filterDataByRelativeExp("age", GREATER_THAN, 26);
+    string expectedPlan = string `Stage 1: single pass over the records
+  filterDataByRelativeExp(age > 26.0)
+Stage 2: joinData(id, inner)
+Stage 3: single pass over the records
+  removeField(city)`;
+    test:assertEquals(check pipeline.explain(), expectedPlan);
+    EmployeeSalary[] result = check pipeline.collect();
+    test:assertEquals(result, [{id: 1, name: "David", age: 28, salary: 1000.0}]);
+
+    // The join finds matches without the filter, which then drops all of them.
+    result = check fromRecords(dataset)
+        .joinData(salaries, "id")
+        .removeField("city")
+        .filterDataByRelativeExp("age", GREATER_THAN, 40)
+        .collect();
+    test:assertEquals(result, []);
+
+    EmployeeSalary[]|Error unmatched = fromRecords(dataset)
+        .joinData([{id: 10, salary: 1000.0}], "id")
+        .removeField("city")
+        .filterDataByRelativeExp("age", GREATER_THAN, 26)
+        .collect();
+    test:assertTrue(unmatched is Error);
+    if unmatched is Error {
+        test:assertEquals(unmatched.message(), "No matching records found");
+    }
+}
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testDatasetPipelineWithCategorizeSemantic() returns error? {
+    check runWithStubServer({}, function() returns error? {
+        Review[] dataset = from int i in 0 ..< 4
+            select {id: i, comment: "Great service!"};
+        Dataset pipeline = fromRecords(dataset)
+            .categorizeSemantic("comment", ["Positive", "Negative"], "Positive")
+            .filterDataByRelativeExp("id", GREATER_THAN_OR_EQUAL, 2);
+        string expectedPlan = string `Stage 1: single pass over the records
+  filterDataByRelativeExp(id >= 2.0)
+Stage 2: categorizeSemantic(comment, Positive)`;
+        test:assertEquals(check pipeline.explain(), expectedPlan);
+        Review[] result = check pipeline.collect();
+        test:assertEquals(result, dataset.slice(2));
+        test:assertEquals(getStubRequestCount(), 1);
+
+        Review[]|Error invalid = fromRecords(dataset).categorizeSemantic("comment", ["Positive"], "Neutral").collect();
+        test:assertTrue(invalid is Error);
+        if invalid is Error {
+            test:assertEquals(invalid.message(), "The category 'Neutral' is not one of the categories");
+        }
+    });
+}
@@ -0,0 +1,42 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testProfileData() returns error? {
+    Order[] dataset = [
+        {orderId: 1, customerName: "Alice", totalAmount: 5.0},
+        {orderId: 2, customerName: "", totalAmount: 10.0},
+        {orderId: 3, customerName: "Alice", totalAmount: 15.0}
+    ];
+    DatasetProfile profile = check profileData(dataset, 1);
+    test:assertEquals(profile.rowCount, 3);
+    FieldProfile customerName = profile.fields.get("customerName");
+    test:assertEquals(customerName.distinctCount, 2);
+    test:assertEquals(customerName.emptyRatio, 1.0 / 3.0);
+    test:assertEquals(customerName.nullRatio, 0.0);
+    test:assertEquals(customerName.mean, ());
+    test:assertEquals(customerName.topValues, [{value: "Alice", count: 2}]);
+    FieldProfile totalAmount = profile.fields.get("totalAmount");
+    test:assertEquals(totalAmount.distinctCount, 3);
+    test:assertEquals(totalAmount.min, 5.0);
+    test:assertEquals(totalAmount.max, 15.0);
+    test:assertEquals(totalAmount.mean, 10.0);
+    test:assertEquals(totalAmount.quantiles["p50"], 10.0);
+}
@@ -0,0 +1,108 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/test;
+
+type Account record {|
+    int id;
+    string name;
+    decimal? balance;
+    boolean active;
+|};
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testReadCsv() returns error? {
+    check io:fileWriteLines("target/read-accounts.csv", [
+        "id,name,balance,active",
+        "1,Alice,10.50,true",
+        "2,\"Smith, \"\"Bob\"\"\",,false",
+        "3,\"Line",
+        "Break\",0,TRUE"
+    ]);
+    Account[] accounts = check readCsv("target/read-accounts.csv");
+    Account[] expected = [
+        {id: 1, name: "Alice", balance: 10.50, active: true},
+        {id: 2, name: "Smith, \"Bob\"", balance: (), active: false},
+        {id: 3, name: "Line\nBreak", balance: 0, active: true}
+    ];
+    test:assertEquals(accounts, expected);
+
+    Customer[]|Error customers = readCsv("target/read-accounts.csv");
+    test:assertTrue(customers is Error, "Expected an error for a column that is not a field of the record");
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testReadCsvWithInvalidValue() returns error? {
+    check io:fileWriteLines("target/read-invalid.csv", ["id,name,balance,active", "one,Alice,1.0,true"]);
+    Account[]|Error accounts = readCsv("target/read-invalid.csv");
+    test:assertTrue(accounts is Error);
+    if accounts is Error {
+        test:assertEquals(accounts.message(), "Invalid value 'one' for the field 'id'");
+    }
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testReadJsonl() returns error? {
+    check io:fileWriteLines("target/read-customers.jsonl", [
+        "{\"id\": 1, \"name\": \"Alice\", \"age\": 25}",
+        "",
+        "{\"id\": 2, \"name\": \"Bob\"}"
+    ]);
+    Customer[] customers = check readJsonl("target/read-customers.jsonl");
+    Customer[] expected = [
+        {id: 1, name: "Alice", age: 25},
+        {id: 2, name: "Bob"}
+    ];
+    test:assertEquals(customers, expected);
+}
+
+type Basket record {|
+    int id;
+    string[] items;
+    map<int> counts?;
+|};
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testReadJsonlWithStructuredFields() returns error? {
+    check io:fileWriteLines("target/read-baskets.jsonl", [
+        "{\"id\": 1, \"items\": [\"apple\", \"pear\"], \"counts\": {\"apple\": 2}}",
+        "{\"id\": 2, \"items\": []}"
+    ]);
+    Basket[] baskets = check readJsonl("target/read-baskets.jsonl");
+    Basket[] expected = [
+        {id: 1, items: ["apple", "pear"], counts: {"apple": 2}},
+        {id: 2, items: []}
+    ];
+    test:assertEquals(baskets, expected);
+}
+
+@test:Config {
+    groups: ["live_tests"]
+}
+function testReadCsvWithHeaderOnly() returns error? {
+    check io:fileWriteString("target/read-header-only.csv", "id,name,balance,active");
+    Account[] accounts = check readCsv("target/read-header-only.csv");
+    test:assertEquals(accounts, []);
+}
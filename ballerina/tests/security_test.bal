@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/http;
 import ballerina/test;
 
 type User1 record {|
@@ -90,3 +91,28 @@ function testMaskSensitiveData() returns error? {
     test:assertEquals(maskedData.length(), dataset.length());
     test:assertTrue(maskedData.every(data => data.name.includes("X") && data.email.includes("X")));
 }
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testMaskSensitiveDataRetry() returns error? {
+    User2[] dataset = [
+        {id: 1, name: "John Doe", email: "john@example.com"}
+    ];
+    User2[] expected = [
+        {id: 1, name: "XXXX XXX", email: "XXXXXXXXXXXXXXXX"}
+    ];
+    OpenAiCreateChatCompletionResponse mockResponse = {
+        choices: [
+            {
+                message: {
+                    content: expected.toJsonString()
+                }
+            }
+        ]
+    };
+    http:ClientRequestError rateLimitError = error("Too Many Requests", statusCode = 429, headers = {}, body = ());
+    test:prepare(openAIModel).when("chat").thenReturnSequence(rateLimitError, mockResponse);
+    User2[] maskedData = check maskSensitiveData(dataset);
+    test:assertEquals(maskedData, expected);
+}
@@ -0,0 +1,166 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/lang.runtime;
+
+const int STUB_SERVER_PORT = 9095;
+const string STUB_SERVICE_URL = "http://localhost:9095/v1";
+const int STUB_DELTA_LENGTH = 16;
+const int STUB_REQUESTS_PER_MINUTE = 100000;
+
+# Behaviour of the stub chat completions service.
+#
+# + latency - The delay in seconds added before each response
+# + rateLimitInterval - Every n-th request is rejected with a `429` response. `0` disables the rate limiting
+# + serverErrorInterval - Every n-th request fails with a `500` response. `0` disables the errors
+# + requestsPerMinute - The request limit reported in the rate limit headers of the responses
+type StubConfig record {|
+    decimal latency = 0;
+    int rateLimitInterval = 0;
+    int serverErrorInterval = 0;
+    int requestsPerMinute = STUB_REQUESTS_PER_MINUTE;
+|};
+
+isolated StubConfig stubConfig = {};
+isolated int stubRequestCount = 0;
+
+isolated function configureStub(StubConfig config) {
+    lock {
+        stubConfig = config.clone();
+    }
+    lock {
+        stubRequestCount = 0;
+    }
+}
+
+isolated function getStubRequestCount() returns int {
+    lock {
+        return stubRequestCount;
+    }
+}
+
+// Answers the chat completion requests of the LLM-backed APIs deterministically, without any network access.
+// Categorization requests are answered with the first category, standardization requests with the first
+// standard value, and masking requests with every string value masked. Streamed requests are answered with
+// server-sent events that split the completion into small content deltas. The completions carry rate limit
+// headers.
+service /v1 on new http:Listener(STUB_SERVER_PORT) {
+
+    isolated resource function post chat/completions(OpenAiCreateChatCompletionRequest request)
+            returns http:Ok|http:Response|http:TooManyRequests|http:InternalServerError|error {
+        int requestCount;
+        lock {
+            stubRequestCount += 1;
+            requestCount = stubRequestCount;
+        }
+        StubConfig config;
+        lock {
+            config = stubConfig.clone();
+        }
+        if config.latency > 0d {
+            runtime:sleep(config.latency);
+        }
+        if config.rateLimitInterval > 0 && requestCount % config.rateLimitInterval == 0 {
+            return <http:TooManyRequests>{body: {'error: {message: "Rate limit reached for requests"}}};
+        }
+        if config.serverErrorInterval > 0 && requestCount % config.serverErrorInterval == 0 {
+            return <http:InternalServerError>{body: {'error: {message: "The server had an error"}}};
+        }
+        string prompt = request.messages[0].content;
+        string content = check getStubCompletion(prompt);
+        int promptTokens = prompt.length() / 4;
+        int completionTokens = content.length() / 4;
+        OpenAiCompletionUsage usage = {
+            prompt_tokens: promptTokens,
+            completion_tokens: completionTokens,
+            total_tokens: promptTokens + completionTokens
+        };
+        map<string> headers = {
+            "x-ratelimit-limit-requests": config.requestsPerMinute.toString(),
+            "x-ratelimit-remaining-requests": (config.requestsPerMinute - 1).toString()
+        };
+        if request.'stream == true {
+            http:Response response = new;
+            foreach [string, string] [name, value] in headers.entries() {
+                response.setHeader(name, value);
+            }
+            response.setSseEventStream(getStubEvents(content, usage).toStream());
+            return response;
+        }
+        OpenAiCreateChatCompletionResponse response = {choices: [{message: {content}}], usage};
+        return <http:Ok>{body: response, headers};
+    }
+}
+
+isolated function getStubCompletion(string prompt) returns string|error {
+    if prompt.startsWith("Classify") {
+        json[] inputValues = check (check getPromptArgument(prompt, "- Input Values: ")).ensureType();
+        json[] completion = [];
+        foreach json value in inputValues {
+            completion.push({id: check value.id, category: 0});
+        }
+        return completion.toJsonString();
+    }
+    if prompt.startsWith("Identify the input values") {
+        string[] standardValues = check (check getPromptArgument(prompt, "- Standard Values: ")).cloneWithType();
+        json[] inputValues = check (check getPromptArgument(prompt, "- Input Values: ")).ensureType();
+        json[] completion = [];
+        foreach json value in inputValues {
+            completion.push({id: check value.id, value: standardValues[0]});
+        }
+        return completion.toJsonString();
+    }
+    map<json>[] dataset = check (check getPromptArgument(prompt, "- Dataset: ")).cloneWithType();
+    foreach map<json> data in dataset {
+        foreach [string, json] [key, value] in data.entries() {
+            if value is string {
+                data[key] = maskStubValue(value);
+            }
+        }
+    }
+    return dataset.toJsonString();
+}
+
+isolated function getStubEvents(string content, OpenAiCompletionUsage usage) returns http:SseEvent[] {
+    http:SseEvent[] events = [];
+    int index = 0;
+    while index < content.length() {
+        string delta = content.substring(index, int:min(index + STUB_DELTA_LENGTH, content.length()));
+        events.push({data: {choices: [{delta: {content: delta}}]}.toJsonString()});
+        index += STUB_DELTA_LENGTH;
+    }
+    events.push({data: {choices: [], usage}.toJsonString()});
+    events.push({data: "[DONE]"});
+    return events;
+}
+
+isolated function getPromptArgument(string prompt, string label) returns json|error {
+    int? startIndex = prompt.indexOf(label);
+    if startIndex is () {
+        return error(string `The prompt does not contain '${label}'`);
+    }
+    int endIndex = prompt.indexOf("\n", startIndex) ?: prompt.length();
+    return prompt.substring(startIndex + label.length(), endIndex).trim().fromJsonString();
+}
+
+isolated function maskStubValue(string value) returns string {
+    string masked = "";
+    foreach int _ in 0 ..< value.length() {
+        masked += "X";
+    }
+    return masked;
+}
@@ -0,0 +1,141 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testStandardizeDataWithStubServer() returns error? {
+    check runWithStubServer({latency: 0.01, rateLimitInterval: 2}, function() returns error? {
+        Person2[] dataset = [
+            {name: "Alice", city: "New York"},
+            {name: "John", city: "newyork - usa "},
+            {name: "Charlie", city: "new-york"}
+        ];
+        Person2[] expected = [
+            {name: "Alice", city: "New York"},
+            {name: "John", city: "New York"},
+            {name: "Charlie", city: "New York"}
+        ];
+        Person2[] result = check standardizeData(dataset, "city", ["New York"]);
+        test:assertEquals(result, expected);
+        result = check standardizeData(dataset, "city", ["New York"]);
+        test:assertEquals(result, expected);
+        test:assertEquals(getStubRequestCount(), 3);
+    });
+}
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testMaskSensitiveDataWithStubServer() returns error? {
+    check runWithStubServer({latency: 0.01}, function() returns error? {
+        User2[] dataset = from int i in 0 ..< 450
+            select {id: i, name: "John Doe", email: "john@example.com"};
+        User2[] maskedData = check maskSensitiveData(dataset);
+        test:assertEquals(maskedData.length(), dataset.length());
+        test:assertEquals(maskedData[449], {id: 449, name: "XXXXXXXX", email: "XXXXXXXXXXXXXXXX"});
+        test:assertEquals(getStubRequestCount(), 3);
+    });
+}
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testCategorizeSemanticWithStubServerErrors() returns error? {
+    setChunkConfig({maxRetries: 1, retryInterval: 0.01});
+    check runWithStubServer({serverErrorInterval: 1}, function() returns error? {
+        Review[] dataset = [
+            {id: 1, comment: "Great service!"},
+            {id: 2, comment: "Terrible experience"}
+        ];
+        Review[][]|Error categorized = categorizeSemantic(dataset, "comment", ["Positive", "Negative"]);
+        test:assertTrue(categorized is Error);
+        test:assertEquals(getStubRequestCount(), 2);
+    });
+}
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testCategorizeSemanticWithStreamingStubServer() returns error? {
+    setChunkConfig({streamResponses: true});
+    check runWithStubServer({}, function() returns error? {
+        Review[] dataset = [
+            {id: 1, comment: "Great service!"},
+            {id: 2, comment: "Good service!"}
+        ];
+        Review[][] expected = [
+            [{id: 1, comment: "Great service!"}, {id: 2, comment: "Good service!"}],
+            []
+        ];
+        resetTokenUsage();
+        Review[][] categorized = check categorizeSemantic(dataset, "comment", ["Positive", "Negative"]);
+        test:assertEquals(categorized, expected);
+        test:assertEquals(getTokenUsage().total.requests, 1);
+        resetTokenUsage();
+    });
+}
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testStandardizeDataWithStreamingStubServer() returns error? {
+    setChunkConfig({streamResponses: true, retryInterval: 0.01});
+    check runWithStubServer({rateLimitInterval: 2}, function() returns error? {
+        Person2[] dataset = from int i in 0 ..< 450
+            select {name: string `Person ${i}`, city: "new york"};
+        Person2[] expected = from Person2 person in dataset
+            select {name: person.name, city: "New York"};
+        Person2[] standardized = check standardizeData(dataset, "city", ["New York"]);
+        test:assertEquals(standardized, expected);
+        // Every second request is rejected, so the second and the third chunks are each sent twice.
+        test:assertEquals(getStubRequestCount(), 5);
+    });
+}
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testCategorizeSemanticWithStreamingPartialResults() returns error? {
+    setChunkConfig({streamResponses: true, maxRetries: 0, returnPartialResults: true});
+    check runWithStubServer({serverErrorInterval: 2}, function() returns error? {
+        Review[] dataset = from int i in 0 ..< 450
+            select {id: i, comment: "Great service!"};
+        Review[][]|Error categorized = categorizeSemantic(dataset, "comment", ["Positive", "Negative"]);
+        if categorized !is PartialResultError {
+            test:assertFail("Expected a partial result error");
+            return;
+        }
+        // Only the records of the first and the third chunks are categorized, in the dataset order.
+        Review[][] expected = [[...dataset.slice(0, 200), ...dataset.slice(400)], []];
+        test:assertEquals(categorized.detail().partialResult, expected);
+        test:assertEquals(categorized.detail().failedRanges.length(), 1);
+        test:assertEquals(categorized.detail().failedRanges[0].startIndex, 200);
+        test:assertEquals(categorized.detail().failedRanges[0].endIndex, 400);
+    });
+}
+
+function runWithStubServer(StubConfig config, function () returns error? testFunction) returns error? {
+    OpenAiClient previousModel = openAIModel;
+    configureStub(config);
+    openAIModel = check new OpenAiClient("stub-token", 60, STUB_SERVICE_URL);
+    error? result = testFunction();
+    openAIModel = previousModel;
+    setChunkConfig(chunkConfig);
+    return result;
+}
@@ -0,0 +1,118 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+import ballerina/time;
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testGetTokenUsage() returns error? {
+    Person2[] dataset = [
+        {name: "Alice", city: "New York"},
+        {name: "Bob", city: "new york"}
+    ];
+    Person2[] expected = [
+        {name: "Alice", city: "New York"},
+        {name: "Bob", city: "New York"}
+    ];
+    OpenAiCreateChatCompletionResponse mockResponse = {
+        choices: [
+            {
+                message: {
+                    content: [{id: 1, value: "New York"}].toJsonString()
+                }
+            }
+        ],
+        usage: {prompt_tokens: 120, completion_tokens: 30, total_tokens: 150}
+    };
+    resetTokenUsage();
+    openAIModel = test:mock(OpenAiClient);
+    test:prepare(openAIModel).when("chat").thenReturn(mockResponse);
+    Person2[] _ = check standardizeData(dataset, "city", ["New York"]);
+    Person2[] result = check standardizeData(dataset, "city", ["New York"]);
+    test:assertEquals(result, expected);
+    TokenUsage expectedUsage = {promptTokens: 240, completionTokens: 60, totalTokens: 300, requests: 2};
+    TokenUsageReport report = getTokenUsage();
+    test:assertEquals(report.total, expectedUsage);
+    test:assertEquals(report.operations, {standardizeData: expectedUsage});
+    resetTokenUsage();
+    test:assertEquals(getTokenUsage().total, {promptTokens: 0, completionTokens: 0, totalTokens: 0, requests: 0});
+}
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testEstimateTokenUsage() returns error? {
+    Person2[] dataset = [];
+    foreach int i in 0 ..< 450 {
+        dataset.push({name: string `Person ${i}`, city: "New York"});
+    }
+    TokenUsage estimate = check estimateTokenUsage(dataset, MASK_SENSITIVE_DATA);
+    test:assertEquals(estimate.requests, 3);
+    test:assertTrue(estimate.promptTokens > estimate.completionTokens);
+    test:assertEquals(estimate.totalTokens, estimate.promptTokens + estimate.completionTokens);
+    TokenUsage|Error invalidEstimate = estimateTokenUsage("Some text", CATEGORIZE_SEMANTIC, "comment", ["Positive"]);
+    test:assertTrue(invalidEstimate is Error);
+    string text = "Alice lives in New York";
+    TokenUsage extractEstimate = check estimateTokenUsage(text, EXTRACT_FROM_TEXT, targetType = Person3);
+    TokenUsage smallerEstimate = check estimateTokenUsage(text, EXTRACT_FROM_TEXT, targetType = Person2);
+    test:assertTrue(extractEstimate.promptTokens > smallerEstimate.promptTokens);
+    TokenUsage|Error untypedEstimate = estimateTokenUsage(text, EXTRACT_FROM_TEXT);
+    test:assertTrue(untypedEstimate is Error);
+}
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testRateLimitsLearnedFromStreamedResponses() returns error? {
+    setChunkConfig({streamResponses: true});
+    check runWithStubServer({requestsPerMinute: 60}, function() returns error? {
+        Review[] dataset = [{id: 1, comment: "Great service!"}];
+        decimal startTime = time:monotonicNow();
+        foreach int i in 0 ..< 9 {
+            Review[][] categorized = check categorizeSemantic(dataset, "comment", ["Positive", "Negative"]);
+            test:assertEquals(categorized, [[{id: 1, comment: "Great service!"}], []]);
+        }
+        // The first response sets the limit to 60 requests per minute. The bucket then holds 5.4 requests and
+        // refills 0.9 requests per second, so the three requests after the burst wait for about 2.9 seconds.
+        decimal elapsedTime = time:monotonicNow() - startTime;
+        test:assertTrue(elapsedTime >= 2.5d, string `The requests took ${elapsedTime} seconds`);
+        test:assertEquals(getStubRequestCount(), 9);
+    });
+    setRateLimitConfig(rateLimitConfig);
+}
+
+@test:Config {
+    groups: ["mock_tests"]
+}
+function testCategorizeSemanticWithRateLimit() returns error? {
+    setRateLimitConfig({requestsPerMinute: 60, tokensPerMinute: 100000});
+    check runWithStubServer({requestsPerMinute: 60}, function() returns error? {
+        Review[] dataset = [{id: 1, comment: "Great service!"}];
+        decimal startTime = time:monotonicNow();
+        foreach int i in 0 ..< 8 {
+            Review[][] categorized = check categorizeSemantic(dataset, "comment", ["Positive", "Negative"]);
+            test:assertEquals(categorized, [[{id: 1, comment: "Great service!"}], []]);
+        }
+        // At 90% of 60 requests per minute, the bucket holds 5.4 requests and refills 0.9 requests per second, so
+        // the three requests after the burst wait for about 2.9 seconds in total.
+        decimal elapsedTime = time:monotonicNow() - startTime;
+        test:assertTrue(elapsedTime >= 2.5d, string `The requests took ${elapsedTime} seconds`);
+        test:assertEquals(getStubRequestCount(), 8);
+    });
+    setRateLimitConfig(rateLimitConfig);
+}
@@ -40,6 +40,34 @@ public enum SortDirection {
     DESCENDING = "descending"
 }
 
+# Represents the type of join performed by the `joinData` API
+#
+# + INNER - Returns the merged records of the matching records of both datasets.
+# + LEFT - Returns the merged records of the matching records, and the records of the first dataset without a match.
+# + SEMI - Returns the records of the first dataset that have a match in the second dataset.
+# + ANTI - Returns the records of the first dataset that do not have a match in the second dataset.
+public enum JoinType {
+    INNER = "inner",
+    LEFT = "left",
+    SEMI = "semi",
+    ANTI = "anti"
+}
+
+# Represents the functions computed by the `aggregate` API
+#
+# + COUNT - Counts the records of a group, or the records with a value in the given field.
+# + SUM - Adds the values of a numeric field.
+# + AVG - Computes the average of the values of a numeric field.
+# + MIN - Finds the minimum value of a numeric field.
+# + MAX - Finds the maximum value of a numeric field.
+public enum AggregateFunction {
+    COUNT = "count",
+    SUM = "sum",
+    AVG = "avg",
+    MIN = "min",
+    MAX = "max"
+}
+
 # Represents the supported OpenAI GPT models
 # + GPT_4_TURBO - GPT-4 Turbo model
 # + GPT_4O - GPT-4o model
@@ -50,6 +78,122 @@ public enum Model {
     GPT_4O_MINI = "gpt-4o-mini"
 }
 
+# Represents the APIs that send requests to the OpenAI model
+# + CATEGORIZE_SEMANTIC - The `categorizeSemantic` API
+# + EXTRACT_FROM_TEXT - The `extractFromText` API
+# + GROUP_APPROXIMATE_DUPLICATES - The `groupApproximateDuplicates` API
+# + MASK_SENSITIVE_DATA - The `maskSensitiveData` API
+# + STANDARDIZE_DATA - The `standardizeData` API
+public enum LlmOperation {
+    CATEGORIZE_SEMANTIC = "categorizeSemantic",
+    EXTRACT_FROM_TEXT = "extractFromText",
+    GROUP_APPROXIMATE_DUPLICATES = "groupApproximateDuplicates",
+    MASK_SENSITIVE_DATA = "maskSensitiveData",
+    STANDARDIZE_DATA = "standardizeData"
+}
+
+# Represents the action taken once the configured token budget is exhausted
+# + REJECT - Further requests to the model fail with an `etl:Error`.
+# + DEGRADE - Further requests are sent to the configured fallback model.
+public enum BudgetExceededAction {
+    REJECT,
+    DEGRADE
+}
+
+# Represents the number of tokens consumed by requests sent to the OpenAI model.
+#
+# + promptTokens - Number of tokens in the prompts.
+# + completionTokens - Number of tokens in the generated completions.
+# + totalTokens - Total number of tokens.
+# + requests - Number of requests sent to the model.
+public type TokenUsage record {|
+    int promptTokens = 0;
+    int completionTokens = 0;
+    int totalTokens = 0;
+    int requests = 0;
+|};
+
+# Represents the token usage recorded since the module was initialized or since the last `resetTokenUsage` call.
+#
+# + total - Token usage of all the APIs.
+# + operations - Token usage of each API, keyed by the API name.
+public type TokenUsageReport record {|
+    TokenUsage total;
+    map<TokenUsage> operations;
+|};
+
+# Represents the details of an `etl:PartialResultError`.
+#
+# + partialResult - The result built from the chunks that succeeded.
+# + failedRanges - The row ranges of the chunks that failed.
+public type PartialResultErrorDetail record {|
+    anydata partialResult;
+    FailedRowRange[] failedRanges;
+|};
+
+# Represents a range of rows in the input dataset that could not be processed.
+#
+# + startIndex - Index of the first row in the range.
+# + endIndex - Index after the last row in the range.
+# + message - The reason for the failure.
+public type FailedRowRange record {|
+    int startIndex;
+    int endIndex;
+    string message;
+|};
+
+# Represents an aggregation computed for each group by the `aggregate` API.
+#
+# + 'function - The aggregate function.
+# + fieldName - The numeric field to aggregate. It can be omitted to count the records of a group.
+# + outputField - The field of the output records that holds the result.
+public type Aggregation record {|
+    AggregateFunction 'function;
+    string fieldName?;
+    string outputField;
+|};
+
+# Represents the profile of a dataset computed by the `profileData` API.
+#
+# + rowCount - Number of records in the dataset.
+# + fields - Profile of each field, keyed by the field name.
+public type DatasetProfile record {|
+    int rowCount;
+    map<FieldProfile> fields;
+|};
+
+# Represents the profile of a field of a dataset.
+#
+# + nullRatio - Ratio of the records where the field is missing or nil.
+# + emptyRatio - Ratio of the records where the field is an empty string.
+# + distinctCount - Approximate number of distinct values, estimated with a HyperLogLog sketch.
+# + min - Minimum of the numeric values, or nil if the field has no numeric values.
+# + max - Maximum of the numeric values, or nil if the field has no numeric values.
+# + mean - Mean of the numeric values, or nil if the field has no numeric values.
+# + quantiles - Approximate percentiles of the numeric values estimated with a t-digest, keyed as `p1`, `p5`, `p10`,
+# `p25`, `p50`, `p75`, `p90`, `p95` and `p99`.
+# + topValues - The most frequent values, most frequent first, with approximate counts.
+public type FieldProfile record {|
+    float nullRatio;
+    float emptyRatio;
+    int distinctCount;
+    float? min;
+    float? max;
+    float? mean;
+    map<float> quantiles;
+    ValueFrequency[] topValues;
+|};
+
+# Represents a frequent value of a field.
+#
+# + value - The value.
+# + count - Number of records with the value. It may overestimate the count of values that are not among the most
+# frequent ones.
+public type ValueFrequency record {|
+    anydata value;
+    int count;
+|};
+
 # Represents the category ranges in the `categorizeNumeric` API
 # - `float` - Represents the minimum value.
 # - `float[]` - Represents the intermediate breakpoints.
@@ -0,0 +1,151 @@
+// Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+const int CHARS_PER_TOKEN = 4;
+
+isolated map<TokenUsage> tokenUsage = {};
+
+# Returns the token usage of the OpenAI-backed APIs recorded since the module was initialized or since the last `resetTokenUsage` call.
+# ```ballerina
+# Customer[] standardizedData = check etl:standardizeData(dataset, "city", ["New York", "Los Angeles"]);
+# etl:TokenUsageReport usage = etl:getTokenUsage();
+#
+# => { total: { promptTokens: 1250, completionTokens: 310, totalTokens: 1560, requests: 1 },
+#      operations: { standardizeData: { promptTokens: 1250, completionTokens: 310, totalTokens: 1560, requests: 1 } } }
+# ```
+#
+# + return - The total token usage and the token usage of each API.
+public isolated function getTokenUsage() returns TokenUsageReport {
+    map<TokenUsage> operations;
+    lock {
+        operations = tokenUsage.clone();
+    }
+    TokenUsage total = {};
+    foreach TokenUsage usage in operations {
+        total = addTokenUsage(total, usage);
+    }
+    return {total, operations};
+}
+
+# Clears the recorded token usage and starts a new run. The configured token budget applies to the tokens used within a run.
+# ```ballerina
+# etl:resetTokenUsage();
+# ```
+public isolated function resetTokenUsage() {
+    lock {
+        tokenUsage.removeAll();
+    }
+}
+
+# Estimates the tokens an OpenAI-backed API would consume for the given input without sending any request.
+# The estimate assumes four characters per token and that the completion is about as large as the records sent.
+# For the `categorizeSemantic` and `standardizeData` APIs, only the row ids and the values of the given field are sent.
+# For the `extractFromText` API, the schema of the given record type is sent with the text.
+# ```ballerina
+# Customer[] dataset = [
+#     { name: "Alice", city: "New York" },
+#     { name: "Bob", city: "new york" }
+# ];
+# etl:TokenUsage estimate = check etl:estimateTokenUsage(dataset, etl:STANDARDIZE_DATA, "city", ["New York"]);
+#
+# => { promptTokens: 1012, completionTokens: 18, totalTokens: 1030, requests: 1 }
+# ```
+#
+# + input - The dataset, or the source text for the `extractFromText` API.
+# + operation - The API to estimate the token usage for.
+# + fieldName - The field name passed to the API, if any.
+# + labels - The categories or the standard values passed to the API, if any.
+# + targetType - The record type the `extractFromText` API extracts, whose schema is sent with the text.
+# + return - The estimated token usage or an `etl:Error`.
+public function estimateTokenUsage(record {}[]|string input, LlmOperation operation, string fieldName = "",
+        string[] labels = [], typedesc<record {}>? targetType = ()) returns TokenUsage|Error {
+    if input is string {
+        if operation != EXTRACT_FROM_TEXT {
+            return error Error(string `The '${operation}' API expects a dataset but found a text input`);
+        }
+        if targetType is () {
+            return error Error(string `The '${operation}' API expects the record type to extract`);
+        }
+        return estimateRequestTokenUsage(extractFromTextPrompt(input, getTypeSchema(targetType)), input);
+    }
+    if operation == EXTRACT_FROM_TEXT {
+        return error Error(string `The '${operation}' API expects a text input but found a dataset`);
+    }
+    if operation == GROUP_APPROXIMATE_DUPLICATES {
+        return estimateRequestTokenUsage(groupApproximateDuplicatesPrompt(input), input.toJsonString());
+    }
+    TokenUsage total = {};
+    int i = 0;
+    while i < input.length() {
+        record {}[] chunk = input.slice(i, int:min(i + CHUNK_SIZE, input.length()));
+        TokenUsage usage = operation == CATEGORIZE_SEMANTIC
+            ? estimateRequestTokenUsage(categorizeSemanticPrompt(chunk, fieldName, labels), projectField(chunk, fieldName))
+            : operation == STANDARDIZE_DATA
+                ? estimateRequestTokenUsage(standardizeDataPrompt(chunk, fieldName, labels), projectField(chunk, fieldName))
+                : estimateRequestTokenUsage(maskSensitiveDataPrompt(chunk, "X"), chunk.toJsonString());
+        total = addTokenUsage(total, usage);
+        i += CHUNK_SIZE;
+    }
+    return total;
+}
+
+function getTypeSchema(typedesc<record {}> targetType) returns map<string> = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlExtraction"
+} external;
+
+isolated function recordTokenUsage(string operation, int promptTokens, int completionTokens, int totalTokens) {
+    lock {
+        TokenUsage usage = tokenUsage[operation] ?: {};
+        tokenUsage[operation] = {
+            promptTokens: usage.promptTokens + promptTokens,
+            completionTokens: usage.completionTokens + completionTokens,
+            totalTokens: usage.totalTokens + totalTokens,
+            requests: usage.requests + 1
+        };
+    }
+}
+
+isolated function getModel() returns Model|Error {
+    TokenBudget? budget = modelConfig?.tokenBudget;
+    if budget is () || getTokenUsage().total.totalTokens < budget.maxTokens {
+        return modelConfig.model;
+    }
+    if budget.onExceeded == DEGRADE {
+        return budget.fallbackModel;
+    }
+    return error Error(string `Token budget of ${budget.maxTokens} tokens is exhausted`);
+}
+
+isolated function addTokenUsage(TokenUsage first, TokenUsage second) returns TokenUsage {
+    return {
+        promptTokens: first.promptTokens + second.promptTokens,
+        completionTokens: first.completionTokens + second.completionTokens,
+        totalTokens: first.totalTokens + second.totalTokens,
+        requests: first.requests + second.requests
+    };
+}
+
+isolated function estimateRequestTokenUsage(string prompt, string expectedCompletion) returns TokenUsage {
+    int promptTokens = estimateTokens(prompt);
+    int completionTokens = estimateTokens(expectedCompletion);
+    return {promptTokens, completionTokens, totalTokens: promptTokens + completionTokens, requests: 1};
+}
+
+isolated function estimateTokens(string text) returns int {
+    return (text.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN;
+}
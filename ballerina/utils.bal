@@ -14,47 +14,50 @@
 // specific language governing permissions and limitations
 // under the License.
 
-function standardizeDataFunc(record {}[] dataset, string fieldName, string[] standardValues) returns json|error {
-    string prompt = string `Identify and replace any approximate matches of the given search values in the dataset with the standard values.  
-                                        - Input Dataset: ${dataset.toString()}  
-                                        - Field Name: ${fieldName}  
-                                        - Search Value: ${standardValues.toString()}  
-                                        Return only the standardized dataset as an array of json without any formatting .  
+import ballerina/http;
+import ballerina/jballerina.java;
+
+// Number of records sent to the model in a single request, as used by the native chunk processor.
+final int CHUNK_SIZE = getChunkSize();
+
+function standardizeDataFunc(record {}[] dataset, string fieldName, string[] standardValues, handle? streamParser)
+        returns json|error {
+    return getResponseFromClient(standardizeDataPrompt(dataset, fieldName, standardValues), STANDARDIZE_DATA,
+            streamParser);
+}
+
+function standardizeDataPrompt(record {}[] dataset, string fieldName, string[] standardValues) returns string {
+    return string `Identify the input values that are approximate matches of the given standard values and replace them with the matching standard value.  
+                                        - Input Values: ${projectField(dataset, fieldName)}  
+                                        - Standard Values: ${standardValues.toString()}  
+                                        Each input value is given with its "id". Respond only with an array of JSON objects without any formatting, containing the "id" and the standardized "value" of the replaced input values.  
+                                        Leave out the input values that do not match any standard value or that are already equal to a standard value.  
                                         Do not include any additional text, explanations, or variations.
                                         
                                         Example
                                         
-                                        - Input Dataset: 
-                                        [{"name":"John","city":"Austin","phone":"(555) 555-7873","age":18},
-                                         {"name":"Nick","city":"New York","phone":"(555) 555-8823","age":25},
-                                         {"name":"Paul","city":"Sydney","phone":"(555) 555-9032","age":35},
-                                         {"name":"Jo","city":"Austin","phone":"(555) 555-9120","age":45},
-                                         {"name":"Larry","city":"new-york-America","phone":"(555) 555-3022","age":23},
-                                         {"name":"James","city":"Portland","phone":"(555) 555-3299","age":23},
-                                         {"name":"Smith","city":"newyork-usa","phone":"(555) 555-2313","age":17},
-                                         {"name":"Rob","city":"new-yorK","phone":"(555) 555-3124","age":90},
-                                         {"name":"Kate","city":"Dallas","phone":"(555) 555-3214","age":40},
-                                         {"name":"Tim","city":"Miami","phone":"(555) 555-3123","age":50}]
-
-                                         - Standard Value : "New York"
-                                         - Field NAme : "city"
-
-                                         - Output Dataset:
-                                         [{"name":"John","city":"Austin","phone":"(555) 555-7873","age":18},
-                                          {"name":"Nick","city":"New York","phone":"(555) 555-8823","age":25},
-                                          {"name":"Paul","city":"Sydney","phone":"(555) 555-9032","age":35},
-                                          {"name":"Jo","city":"Austin","phone":"(555) 555-9120","age":45},
-                                          {"name":"Larry","city":"New York","phone":"(555) 555-3022","age":23},
-                                          {"name":"James","city":"Portland","phone":"(555) 555-3299","age":23},
-                                          {"name":"Smith","city":"New York","phone":"(555) 555-2313","age":17},
-                                          {"name":"Rob","city":"New York","phone":"(555) 555-3124","age":90},
-                                          {"name":"Kate","city":"Dallas","phone":"(555) 555-3214","age":40},
-                                          {"name":"Tim","city":"Miami","phone":"(555) 555-3123","age":50}]`;
-    return getResponseFromClient(prompt);
+                                        - Input Values: 
+                                        [{"id":0,"value":"Austin"},
+                                         {"id":1,"value":"New York"},
+                                         {"id":2,"value":"Sydney"},
+                                         {"id":3,"value":"new-york-America"},
+                                         {"id":4,"value":"Portland"},
+                                         {"id":5,"value":"newyork-usa"},
+                                         {"id":6,"value":"new-yorK"},
+                                         {"id":7,"value":"Dallas"}]
+
+                                         - Standard Values : ["New York"]
+
+                                         - Output :
+                                         [{"id":3,"value":"New York"},{"id":5,"value":"New York"},{"id":6,"value":"New York"}]`;
 }
 
 function groupApproximateDuplicatesFunc(record {}[] dataset) returns json|error {
-    string prompt = string `Identify approximate duplicates in the dataset and group them.
+    return getResponseFromClient(groupApproximateDuplicatesPrompt(dataset), GROUP_APPROXIMATE_DUPLICATES);
+}
+
+function groupApproximateDuplicatesPrompt(record {}[] dataset) returns string {
+    return string `Identify approximate duplicates in the dataset and group them.
                                         - Input Dataset : ${dataset.toString()}  
                                          Respond only with an array of arrays of JSON objects without any formatting where the first array contains all the unique records which does not have any duplicates, and the rest of the arrays contain the duplicate groups.
                                          Do not include any additional text, explanations, or variations.
@@ -73,11 +76,14 @@ function groupApproximateDuplicatesFunc(record {}[] dataset) returns json|error
                                         [[{"customerId":"5","customerName":"Mark Johnson","email":"mark.j@email.com","phone":"1112223333","address":"789 Oak St"},{"customerId":"8","customerName":"John Charles","email":"john.charles@email.com","phone":"3483845456","address":"108 Rose Street"}],
                                          [{"customerId":"1","customerName":"John Doe","email":"john.doe@email.com","phone":"1234567890","address":"123 Main St"},{"customerId":"2","customerName":"Jon Doe","email":"john.doe@email.com","phone":"1234567890","address":"123 Main Street"}],
                                          [{"customerId":"3","customerName":"Jane Smith","email":"jane.smith@email.com","phone":"0987654321","address":"456 Elm St"},{"customerId":"4","customerName":"Janet Smith","email":"jane.smith@email.com","phone":"0987654321","address":"456 Elm Street"}]]`;
-    return getResponseFromClient(prompt);
 }
 
 function extractFromTextFunc(string dataset, map<string> returnTypeSchema) returns json|error {
-    string prompt = string `Extract relevant details from the given text and map them to the specified fields. 
+    return getResponseFromClient(extractFromTextPrompt(dataset, returnTypeSchema), EXTRACT_FROM_TEXT);
+}
+
+function extractFromTextPrompt(string dataset, map<string> returnTypeSchema) returns string {
+    return string `Extract relevant details from the given text and map them to the specified fields. 
                                         - Input Data : ${dataset.toString()} 
                                         - Return Type Schema(Contains field names as keys and their corresponding types as values.): ${returnTypeSchema.toString()}
                                         - Feilds to extract: ${returnTypeSchema.keys().toString()}
@@ -103,11 +109,47 @@ function extractFromTextFunc(string dataset, map<string> returnTypeSchema) retur
                                             "badPoints":["battery drains quickly","some features feel outdated"],
                                             "improvements":["charging speed could be improved","features need a refresh"]
                                         } `;
-    return getResponseFromClient(prompt);
 }
 
-function maskSensitiveDataFunc(record {}[] dataset, string:Char maskingCharacter) returns json|error {
-    string prompt = string `Personally Identifiable Information (PII) includes any data that can be used to identify an individual, either on its own or when combined with other information. Examples of PII include:
+function extractFromTextsFunc(string[] sourceTexts, map<string> returnTypeSchema) returns json|error {
+    return getResponseFromClient(extractFromTextsPrompt(sourceTexts, returnTypeSchema), EXTRACT_FROM_TEXT);
+}
+
+function extractFromTextsPrompt(string[] sourceTexts, map<string> returnTypeSchema) returns string {
+    json[] texts = from [int, string] [id, text] in sourceTexts.enumerate()
+        select {id, text};
+    return string `Extract relevant details from each of the given texts and map them to the specified fields. 
+                                        - Input Texts : ${texts.toJsonString()} 
+                                        - Return Type Schema(Contains field names as keys and their corresponding types as values.): ${returnTypeSchema.toString()}
+                                        - Feilds to extract: ${returnTypeSchema.keys().toString()}
+                                        Each text is given with its "id". Respond only with an array of JSON objects without any formatting, containing the "id" of the text and the details extracted from it as "data".
+                                        Do not include any additional text, explanations, or variations.
+
+                                        Example
+
+                                        - Input Texts :
+                                        [{"id":0,"text":"The smartphone has an impressive camera and smooth performance. However, the battery drains quickly, and the charging speed could be improved."},
+                                         {"id":1,"text":"The laptop is lightweight and the screen is bright. But the keyboard feels cheap and a backlit keyboard would help."}]
+
+                                        - Return type Schema : {
+                                            "goodPoints": "string[]",
+                                            "badPoints": "string[]",
+                                            "improvements": "string[]"
+                                        }
+
+                                        - Expected Output :
+                                        [{"id":0,"data":{"goodPoints":["impressive camera","smooth performance"],"badPoints":["battery drains quickly"],"improvements":["charging speed could be improved"]}},
+                                         {"id":1,"data":{"goodPoints":["lightweight","bright screen"],"badPoints":["keyboard feels cheap"],"improvements":["backlit keyboard"]}}]`;
+}
+
+function maskSensitiveDataFunc(record {}[] dataset, string:Char maskingCharacter, handle? streamParser)
+        returns json|error {
+    return getResponseFromClient(maskSensitiveDataPrompt(dataset, maskingCharacter), MASK_SENSITIVE_DATA,
+            streamParser);
+}
+
+function maskSensitiveDataPrompt(record {}[] dataset, string:Char maskingCharacter) returns string {
+    return string `Personally Identifiable Information (PII) includes any data that can be used to identify an individual, either on its own or when combined with other information. Examples of PII include:
                                             -Names: Full name, maiden name, alias
                                             -Addresses: Street, email
                                             -Phone numbers: Mobile, personal, business
@@ -135,41 +177,42 @@ function maskSensitiveDataFunc(record {}[] dataset, string:Char maskingCharacter
                                         [{ "id": 1, "name": "XXXX XXX", "email": XXXXXXXXXXXXXXXX" },
                                         { "id": 2, "name": "XXXX XXXXX", "email": XXXXXXXXXXXXXXXX" },
                                         { "id": 3, "name": "XXXXX", "email": XXXXXXXXXXXXXXXXX" }]`;
-    return getResponseFromClient(prompt);
 }
 
-function categorizeSemanticFunc(record {}[] dataset, string fieldName, string[] categories) returns json|error {
-    string prompt = string `Classify the given dataset into one of the specified categories based on the provided field name. If a data does not belong to any category, ignore them. 
-                                            - Input Dataset: ${dataset.toString()}  
+function categorizeSemanticFunc(record {}[] dataset, string fieldName, string[] categories, handle? streamParser)
+        returns json|error {
+    return getResponseFromClient(categorizeSemanticPrompt(dataset, fieldName, categories), CATEGORIZE_SEMANTIC,
+            streamParser);
+}
+
+function categorizeSemanticPrompt(record {}[] dataset, string fieldName, string[] categories) returns string {
+    return string `Classify the given input values into one of the specified categories. If a value does not belong to any category, ignore it. 
+                                            - Input Values: ${projectField(dataset, fieldName)}  
                                             - Categories: ${categories.toString()}  
-                                            - Field: ${fieldName}  
-                                            Respond only with an array of arrays of JSON objects without any formatting.  
+                                            Each input value is given with its "id". Respond only with an array of JSON objects without any formatting, containing the "id" of the value and the zero-based index of its category as "category".  
                                             Do not include any additional text, explanations, or variations. 
 
                                             Example
 
-                                            - Input Dataset :
-                                            [{"order_id":"1","customer_name":"John Doe","comments":"The product quality is excellent and I am very happy!"},
-                                            {"order_id":"2","customer_name":"Jane Smith","comments":"It is good. But the delivery was slow."},
-                                            {"order_id":"3","customer_name":"Mike Johnson","comments":"Terrible experience. I will never order again."},
-                                            {"order_id":"4","customer_name":"Anna Lee","comments":"The customer service was great. But the product was damaged."},
-                                            {"order_id":"5","customer_name":"David Brown","comments":"Simply the best! I highly recommend."},
-                                            {"order_id":"6","customer_name":"Emily Clark","comments":":);"},
-                                            {"order_id":"7","customer_name":"Mark White","comments":"Worst experience ever. Totally disappointed."},
-                                            {"order_id":"8","customer_name":"Sophia Green","comments":"Not bad. But could be improved."}]
+                                            - Input Values :
+                                            [{"id":0,"value":"The product quality is excellent and I am very happy!"},
+                                            {"id":1,"value":"It is good. But the delivery was slow."},
+                                            {"id":2,"value":"Terrible experience. I will never order again."},
+                                            {"id":3,"value":"The customer service was great. But the product was damaged."},
+                                            {"id":4,"value":"Simply the best! I highly recommend."},
+                                            {"id":5,"value":":);"},
+                                            {"id":6,"value":"Worst experience ever. Totally disappointed."},
+                                            {"id":7,"value":"Not bad. But could be improved."}]
 
                                             - Category Names : ["Excellent", "Normal", "Worst"]
 
-                                            - Output Dataset :
-                                            [[{"order_id":"1","customer_name":"John Doe","comments":"The product quality is excellent and I am very happy!"},{"order_id":"5","customer_name":"David Brown","comments":"Simply the best! I highly recommend."}],
-                                            [{"order_id":"2","customer_name":"Jane Smith","comments":"It is good. But the delivery was slow."},{"order_id":"4","customer_name":"Anna Lee","comments":"The customer service was great. But the product was damaged."},{"order_id":"8","customer_name":"Sophia Green","comments":"Not bad. But could be improved."}],
-                                            [{"order_id":"3","customer_name":"Mike Johnson","comments":"Terrible experience. I will never order again."},{"order_id":"7","customer_name":"Mark White","comments":"Worst experience ever. Totally disappointed."}],`;
-    return getResponseFromClient(prompt);
+                                            - Output :
+                                            [{"id":0,"category":0},{"id":1,"category":1},{"id":2,"category":2},{"id":3,"category":1},{"id":4,"category":0},{"id":6,"category":2},{"id":7,"category":1}]`;
 }
 
-function getResponseFromClient(string prompt) returns json|error {
+function getResponseFromClient(string prompt, LlmOperation operation, handle? streamParser = ()) returns json|error {
     OpenAiCreateChatCompletionRequest request = {
-        model: modelConfig.model,
+        model: check getModel(),
         messages: [
             {
                 "role": "user",
@@ -177,11 +220,93 @@ function getResponseFromClient(string prompt) returns json|error {
             }
         ]
     };
-    OpenAiCreateChatCompletionResponse response = check openAIModel.chat(request);
-    string content = check response.choices[0].message?.content.ensureType();
+    // The completion is assumed to be about as large as the prompt until the actual usage is known.
+    int estimatedTokens = 2 * estimateTokens(prompt);
+    check acquireRateLimit(operation, estimatedTokens);
+    if streamParser is handle {
+        OpenAiCompletionUsage|error? usage = streamResponse(request, streamParser);
+        settleTokenUsage(operation, estimatedTokens, usage);
+        if usage is error {
+            return usage;
+        }
+        return getStreamedContent(streamParser);
+    }
+    OpenAiCreateChatCompletionResponse|error response = openAIModel.chat(request);
+    settleTokenUsage(operation, estimatedTokens, response is error ? response : response?.usage);
+    string content = check (check response).choices[0].message?.content.ensureType();
     return check content.fromJsonString();
 }
 
+// Records the token usage of a request and corrects the estimate that it was admitted with. A request that failed
+// is taken to have used no tokens, and a response without usage keeps the estimate.
+function settleTokenUsage(LlmOperation operation, int estimatedTokens, OpenAiCompletionUsage|error? usage) {
+    if usage is error {
+        settleRateLimit(estimatedTokens, 0);
+    } else if usage is () {
+        settleRateLimit(estimatedTokens, estimatedTokens);
+    } else {
+        recordTokenUsage(operation, usage.prompt_tokens, usage.completion_tokens, usage.total_tokens);
+        settleRateLimit(estimatedTokens, usage.total_tokens);
+    }
+}
+
+function projectField(record {}[] dataset, string fieldName) returns string {
+    json[] values = from [int, record {}] [id, data] in dataset.enumerate()
+        select {id, value: data[fieldName].toString()};
+    return values.toJsonString();
+}
+
+// Feeds the streamed completion to the parser, which hands each record to the chunk handler as soon as it is
+// closed, and returns the usage reported in the final event.
+function streamResponse(OpenAiCreateChatCompletionRequest request, handle streamParser)
+        returns OpenAiCompletionUsage|error? {
+    request.'stream = true;
+    request.stream_options = {include_usage: true};
+    stream<http:SseEvent, error?> events = check openAIModel.chatStream(request);
+    OpenAiCompletionUsage? usage = ();
+    while true {
+        record {|http:SseEvent value;|}? event = check events.next();
+        if event is () {
+            break;
+        }
+        string? data = event.value.data;
+        if data is () {
+            continue;
+        }
+        if data == "[DONE]" {
+            break;
+        }
+        OpenAiCreateChatCompletionStreamResponse response = check data.fromJsonWithType();
+        if response?.usage !is () {
+            usage = response?.usage;
+        }
+        foreach OpenAiCreateChatCompletionStreamResponse_choices choice in response.choices {
+            string? content = choice.delta?.content;
+            if content !is () {
+                check appendStreamContent(streamParser, content);
+            }
+        }
+    }
+    check events.close();
+    return usage;
+}
+
+function acquireRateLimit(LlmOperation operation, int estimatedTokens) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlRateLimiting"
+} external;
+
+isolated function settleRateLimit(int estimatedTokens, int actualTokens) = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlRateLimiting"
+} external;
+
+function appendStreamContent(handle streamParser, string content) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlStreaming"
+} external;
+
+function getStreamedContent(handle streamParser) returns json|Error = @java:Method {
+    'class: "io.ballerina.stdlib.etl.nativeimpl.EtlStreaming"
+} external;
+
 function getUniqueData(record {}[] dataset) returns record {}[] {
     return from record {} data in dataset
         group by data
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.nativeimpl;
+
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.etl.observability.OperationObserver;
+import io.ballerina.stdlib.etl.utils.ErrorUtils;
+import io.ballerina.stdlib.etl.utils.GroupAggregator;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static io.ballerina.stdlib.etl.utils.CommonUtils.isFieldExist;
+
+/**
+ * This class hold Java external functions for ETL - data aggregation APIs.
+ *
+ * * @since 0.8.0
+ */
+@SuppressWarnings("unchecked")
+public class EtlAggregation {
+
+    public static final String FUNCTION = "function";
+    public static final String FIELD_NAME = "fieldName";
+    public static final String OUTPUT_FIELD = "outputField";
+    public static final int PARALLEL_THRESHOLD = 100000;
+
+    public static Object aggregate(BArray dataset, BArray groupBy, BArray aggregations, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("aggregate", dataset);
+        BString[] groupFields = new BString[groupBy.size()];
+        for (int i = 0; i < groupFields.length; i++) {
+            groupFields[i] = groupBy.getBString(i);
+            if (!isFieldExist(dataset, groupFields[i])) {
+                return observer.complete(ErrorUtils.createETLError(
+                        String.format("The dataset does not contain the field - '%s'", groupFields[i])));
+            }
+        }
+        int size = aggregations.size();
+        BString[] valueFields = new BString[size];
+        BString[] outputFields = new BString[size];
+        String[] functions = new String[size];
+        int[] valueTags = new int[size];
+        for (int i = 0; i < size; i++) {
+            BMap<BString, Object> aggregation = (BMap<BString, Object>) aggregations.get(i);
+            functions[i] = aggregation.get(StringUtils.fromString(FUNCTION)).toString();
+            outputFields[i] = (BString) aggregation.get(StringUtils.fromString(OUTPUT_FIELD));
+            valueFields[i] = (BString) aggregation.get(StringUtils.fromString(FIELD_NAME));
+            if (valueFields[i] == null) {
+                if (!GroupAggregator.COUNT.equals(functions[i])) {
+                    return observer.complete(ErrorUtils.createETLError(
+                            String.format("A field name is required to compute '%s'", functions[i])));
+                }
+                continue;
+            }
+            if (!isFieldExist(dataset, valueFields[i])) {
+                return observer.complete(ErrorUtils.createETLError(
+                        String.format("The dataset does not contain the field - '%s'", valueFields[i])));
+            }
+            valueTags[i] = getNumericTag(dataset, valueFields[i]);
+            if (valueTags[i] < 0 && !GroupAggregator.COUNT.equals(functions[i])) {
+                return observer.complete(ErrorUtils.createETLError(String.format(
+                        "The field '%s' must be of type 'int', 'float' or 'decimal' to compute '%s'",
+                        valueFields[i], functions[i])));
+            }
+        }
+        GroupAggregator aggregator = new GroupAggregator(groupFields, valueFields, functions, valueTags);
+        try {
+            if (dataset.size() < PARALLEL_THRESHOLD) {
+                aggregator.accumulate(dataset, 0, dataset.size());
+            } else {
+                // Consecutive ranges are aggregated in parallel and combined in order, which keeps the groups in the
+                // order of their first record.
+                int parts = Runtime.getRuntime().availableProcessors();
+                int partSize = (dataset.size() + parts - 1) / parts;
+                List<GroupAggregator> partials = IntStream.range(0, parts).parallel().mapToObj(part -> {
+                    GroupAggregator partial = aggregator.newPartial();
+                    partial.accumulate(dataset, Math.min(dataset.size(), part * partSize),
+                            Math.min(dataset.size(), (part + 1) * partSize));
+                    return partial;
+                }).toList();
+                for (GroupAggregator partial : partials) {
+                    aggregator.combine(partial);
+                }
+            }
+        } catch (ArithmeticException e) {
+            return observer.complete(ErrorUtils.createETLError("Integer overflow occurred while aggregating the data"));
+        }
+        return observer.complete(aggregator.toBArray(returnType, outputFields));
+    }
+
+    private static int getNumericTag(BArray dataset, BString fieldName) {
+        StructureType recordType = (StructureType) TypeUtils.getReferredType(dataset.getElementType());
+        Field field = recordType.getFields().get(fieldName.getValue());
+        Type fieldType = TypeUtils.getReferredType(field.getFieldType());
+        if (fieldType.getTag() == TypeTags.UNION_TAG) {
+            // Optional numeric fields are aggregated over their non-nil values.
+            Type numericType = null;
+            for (Type memberType : ((UnionType) fieldType).getMemberTypes()) {
+                Type referredType = TypeUtils.getReferredType(memberType);
+                if (referredType.getTag() == TypeTags.NULL_TAG) {
+                    continue;
+                }
+                if (numericType != null) {
+                    return -1;
+                }
+                numericType = referredType;
+            }
+            fieldType = numericType;
+        }
+        if (fieldType == null) {
+            return -1;
+        }
+        return switch (fieldType.getTag()) {
+            case TypeTags.INT_TAG, TypeTags.FLOAT_TAG, TypeTags.DECIMAL_TAG -> fieldType.getTag();
+            default -> -1;
+        };
+    }
+}
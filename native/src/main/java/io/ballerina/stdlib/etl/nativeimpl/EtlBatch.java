@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.constants.TypeConstants;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.etl.observability.OperationObserver;
+import io.ballerina.stdlib.etl.utils.ChunkProcessor.ChunkHandler;
+import io.ballerina.stdlib.etl.utils.ErrorUtils;
+
+import java.nio.file.Paths;
+
+import static io.ballerina.stdlib.etl.utils.BatchProcessor.readBatchResults;
+import static io.ballerina.stdlib.etl.utils.BatchProcessor.writeBatchRequests;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.CHUNK_SIZE;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.getFieldType;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.getReturnTypeSchema;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeBArray;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeNestedBArray;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.isFieldExist;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.isStringType;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.mergeBArrays;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.mergeNestedBArrays;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.processIndexedCategories;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.processIndexedValues;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.processResponseToBArray;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.processResponseToRecord;
+
+/**
+ * This class hold Java external functions for ETL - batch request and
+ * result file APIs.
+ *
+ * * @since 0.8.0
+ */
+public class EtlBatch {
+
+    public static final String CATEGORIZE_SEMANTIC = "categorizeSemantic";
+    public static final String STANDARDIZE_DATA = "standardizeData";
+    public static final String MASK_SENSITIVE_DATA = "maskSensitiveData";
+    public static final String EXTRACT_FROM_TEXT = "extractFromText";
+    public static final String CATEGORIZE_SEMANTIC_PROMPT = "categorizeSemanticPrompt";
+    public static final String STANDARDIZE_DATA_PROMPT = "standardizeDataPrompt";
+    public static final String MASK_SENSITIVE_DATA_PROMPT = "maskSensitiveDataPrompt";
+    public static final String EXTRACT_FROM_TEXT_PROMPT = "extractFromTextPrompt";
+
+    public static Object writeCategorizeSemanticBatch(Environment env, BArray dataset, BString fieldName,
+            BArray categories, BString filePath) {
+        OperationObserver observer = OperationObserver.start("writeCategorizeSemanticBatch", dataset);
+        if (!isFieldExist(dataset, fieldName)) {
+            return observer.complete(ErrorUtils.createETLError(
+                    String.format("The dataset does not contain the field - '%s'", fieldName)));
+        }
+        return observer.complete(writeBatchRequests(env, CATEGORIZE_SEMANTIC, CATEGORIZE_SEMANTIC_PROMPT,
+                dataset.size(), CHUNK_SIZE, (start, end) -> new Object[] {
+                        dataset.slice(start, end), fieldName, categories }, Paths.get(filePath.getValue())));
+    }
+
+    public static Object writeStandardizeDataBatch(Environment env, BArray dataset, BString fieldName,
+            BArray standardValues, BString filePath) {
+        OperationObserver observer = OperationObserver.start("writeStandardizeDataBatch", dataset);
+        if (!isFieldExist(dataset, fieldName)) {
+            return observer.complete(ErrorUtils.createETLError(
+                    String.format("The dataset does not contain the field - '%s'", fieldName)));
+        }
+        return observer.complete(writeBatchRequests(env, STANDARDIZE_DATA, STANDARDIZE_DATA_PROMPT,
+                dataset.size(), CHUNK_SIZE, (start, end) -> new Object[] {
+                        dataset.slice(start, end), fieldName, standardValues }, Paths.get(filePath.getValue())));
+    }
+
+    public static Object writeMaskSensitiveDataBatch(Environment env, BArray dataset, BString filePath,
+            BString maskCharacter) {
+        OperationObserver observer = OperationObserver.start("writeMaskSensitiveDataBatch", dataset);
+        return observer.complete(writeBatchRequests(env, MASK_SENSITIVE_DATA, MASK_SENSITIVE_DATA_PROMPT,
+                dataset.size(), CHUNK_SIZE, (start, end) -> new Object[] {
+                        dataset.slice(start, end), maskCharacter }, Paths.get(filePath.getValue())));
+    }
+
+    public static Object writeExtractFromTextBatch(Environment env, BArray dataset, BString filePath,
+            BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("writeExtractFromTextBatch", dataset);
+        BMap<BString, Object> returnTypeSchema = getReturnTypeSchema(returnType);
+        return observer.complete(writeBatchRequests(env, EXTRACT_FROM_TEXT, EXTRACT_FROM_TEXT_PROMPT,
+                dataset.size(), 1, (start, end) -> new Object[] { dataset.get(start), returnTypeSchema },
+                Paths.get(filePath.getValue())));
+    }
+
+    public static Object readCategorizeSemanticBatch(BString filePath, BArray dataset, BArray categories,
+            BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("readCategorizeSemanticBatch", dataset);
+        BArray mergedResult = initializeNestedBArray(returnType, categories.size());
+        return observer.complete(readBatchResults(CATEGORIZE_SEMANTIC, Paths.get(filePath.getValue()), dataset,
+                CHUNK_SIZE, new ChunkHandler() {
+                    @Override
+                    public Object convert(Object clientResponse, BArray chunk, int chunkStart) {
+                        return processIndexedCategories(clientResponse, chunk, categories.size(), returnType);
+                    }
+
+                    @Override
+                    public void merge(BArray chunkResult) {
+                        mergeNestedBArrays(mergedResult, chunkResult);
+                    }
+                }, mergedResult));
+    }
+
+    public static Object readStandardizeDataBatch(BString filePath, BArray dataset, BString fieldName,
+            BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("readStandardizeDataBatch", dataset);
+        Type fieldType = getFieldType(returnType, fieldName);
+        if (!isStringType(fieldType)) {
+            return observer.complete(ErrorUtils
+                    .createETLError(String.format("The field '%s' is expected to be of type '%s' but found '%s'",
+                            fieldName, TypeConstants.STRING_TNAME, fieldType.toString())));
+        }
+        BArray mergedResult = initializeBArray(returnType);
+        return observer.complete(readBatchResults(STANDARDIZE_DATA, Paths.get(filePath.getValue()), dataset,
+                CHUNK_SIZE, new ChunkHandler() {
+                    @Override
+                    public Object convert(Object clientResponse, BArray chunk, int chunkStart) {
+                        return processIndexedValues(clientResponse, chunk, fieldName, returnType);
+                    }
+
+                    @Override
+                    public void merge(BArray chunkResult) {
+                        mergeBArrays(mergedResult, chunkResult);
+                    }
+                }, mergedResult));
+    }
+
+    public static Object readMaskSensitiveDataBatch(BString filePath, BArray dataset, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("readMaskSensitiveDataBatch", dataset);
+        BArray mergedResult = initializeBArray(returnType);
+        return observer.complete(readBatchResults(MASK_SENSITIVE_DATA, Paths.get(filePath.getValue()), dataset,
+                CHUNK_SIZE, new ChunkHandler() {
+                    @Override
+                    public Object convert(Object clientResponse, BArray chunk, int chunkStart) {
+                        return processResponseToBArray(clientResponse, returnType);
+                    }
+
+                    @Override
+                    public void merge(BArray chunkResult) {
+                        mergeBArrays(mergedResult, chunkResult);
+                    }
+                }, mergedResult));
+    }
+
+    public static Object readExtractFromTextBatch(BString filePath, BArray dataset, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("readExtractFromTextBatch", dataset);
+        BArray mergedResult = initializeBArray(returnType);
+        return observer.complete(readBatchResults(EXTRACT_FROM_TEXT, Paths.get(filePath.getValue()), dataset, 1,
+                new ChunkHandler() {
+                    @Override
+                    public Object convert(Object clientResponse, BArray chunk, int chunkStart) {
+                        Object extractedData = processResponseToRecord(clientResponse, returnType);
+                        if (extractedData instanceof BError) {
+                            return extractedData;
+                        }
+                        BArray result = initializeBArray(returnType);
+                        result.append(extractedData);
+                        return result;
+                    }
+
+                    @Override
+                    public void merge(BArray chunkResult) {
+                        mergeBArrays(mergedResult, chunkResult);
+                    }
+                }, mergedResult));
+    }
+}
@@ -20,6 +20,9 @@ package io.ballerina.stdlib.etl.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.constants.TypeConstants;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
 import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
@@ -29,16 +32,31 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.etl.observability.OperationObserver;
+import io.ballerina.stdlib.etl.utils.ChunkProcessor.ChunkHandler;
 import io.ballerina.stdlib.etl.utils.ErrorUtils;
+import io.ballerina.stdlib.etl.utils.LabelMemo;
+import io.ballerina.stdlib.etl.utils.TDigest;
 import org.ballerinalang.langlib.regexp.Matches;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static io.ballerina.stdlib.etl.utils.ChunkProcessor.processChunks;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.NO_CATEGORY;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.copyBMap;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.getFieldType;
-import static io.ballerina.stdlib.etl.utils.CommonUtils.processResponseToNestedBArray;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.getRowCategory;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.getRowId;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.handleClientErrorType;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeNestedBArray;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.isFieldExist;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.isNumericType;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.isStringType;
-import static io.ballerina.stdlib.etl.utils.CommonUtils.mergeNestedBArrays;
 
 /**
  * This class hold Java external functions for ETL - data categorization APIs.
@@ -52,66 +70,65 @@ public class EtlCategorization {
     public static final String INT_OR_FLOAT = String.format("%s or %s", TypeConstants.INT_TNAME,
             TypeConstants.FLOAT_TNAME);
 
-    public static Object categorizeNumeric(BArray dataset, BString fieldName, BArray rangeArray, BTypedesc returnType) {
+    public static Object categorizeNumeric(BArray dataset, BString fieldName, Object categoryRanges,
+                                           BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("categorizeNumeric", dataset);
         if (!isFieldExist(dataset, fieldName)) {
-            return ErrorUtils.createETLError(String.format("The dataset does not contain the field - '%s'", fieldName));
+            return observer.complete(ErrorUtils.createETLError(
+                    String.format("The dataset does not contain the field - '%s'", fieldName)));
         }
         Type fieldType = getFieldType(returnType, fieldName);
         if (!isNumericType(fieldType)) {
-            return ErrorUtils
+            return observer.complete(ErrorUtils
                     .createETLError(String.format("The field '%s' is expected to be of type '%s' but found '%s'",
-                            fieldName, TypeConstants.STRING_TNAME, fieldType.toString()));
+                            fieldName, TypeConstants.STRING_TNAME, fieldType.toString())));
         }
-        double lowerBound = rangeArray.getFloat(0);
-        if (TypeUtils.getType(rangeArray.get(1)).getTag() != TypeTags.ARRAY_TAG) {
-            ErrorUtils.createETLError("Invalid range array");
+        double[] bounds;
+        if (categoryRanges instanceof Long numCategories) {
+            if (numCategories < 1) {
+                return observer.complete(ErrorUtils.createETLError("The number of categories must be positive"));
+            }
+            // Each category holds at least one record, so a larger count cannot be narrowed to an int or allocated.
+            if (numCategories > Math.max(1, dataset.size())) {
+                return observer.complete(ErrorUtils.createETLError(
+                        "The number of categories must not exceed the number of records"));
+            }
+            bounds = getQuantileBounds(dataset, fieldName, numCategories.intValue());
+        } else {
+            bounds = getRangeBounds((BArray) categoryRanges);
         }
-        BArray midRanges = (BArray) rangeArray.get(1);
-        double upperBound = rangeArray.getFloat(2);
-        int numCategories = midRanges.size() + 1;
+        int numCategories = bounds.length - 1;
         BArray categorizedData = initializeNestedBArray(returnType, numCategories);
         for (int i = 0; i < dataset.size(); i++) {
             if (TypeUtils.getType(dataset.get(i)).getTag() != TypeTags.RECORD_TYPE_TAG) {
                 continue;
             }
             BMap<BString, Object> data = (BMap<BString, Object>) dataset.get(i);
-            if ((TypeUtils.getType(data.get(fieldName)).getTag() != TypeTags.FLOAT_TAG)
-                    && (TypeUtils.getType(data.get(fieldName)).getTag() != TypeTags.INT_TAG)) {
-                continue;
-            }
-            double fieldValue = data.get(fieldName) instanceof Double ? (double) data.get(fieldName)
-                    : ((Long) data.get(fieldName)).doubleValue();
-            if (fieldValue <= lowerBound || fieldValue > upperBound) {
+            Double fieldValue = getNumericValue(data, fieldName);
+            if (fieldValue == null || fieldValue <= bounds[0] || fieldValue > bounds[numCategories]) {
                 continue;
             }
-            double prevBound = lowerBound;
-            for (int j = 0; j < midRanges.size(); j++) {
-                double nextBound = midRanges.getFloat(j);
-                if (fieldValue > prevBound && fieldValue <= nextBound) {
-                    if (TypeUtils.getType(categorizedData.get(j)).getTag() != TypeTags.ARRAY_TAG) {
-                        ErrorUtils.createETLError("Error occurred while categorizing the data");
-                    }
+            for (int j = 0; j < numCategories; j++) {
+                if (fieldValue > bounds[j] && fieldValue <= bounds[j + 1]) {
                     ((BArray) categorizedData.get(j)).append(data);
                     break;
                 }
-                prevBound = nextBound;
-            }
-            if (fieldValue > midRanges.getFloat(midRanges.size() - 1) && fieldValue <= upperBound) {
-                ((BArray) categorizedData.get(midRanges.size())).append(data);
             }
         }
-        return categorizedData;
+        return observer.complete(categorizedData);
     }
 
     public static Object categorizeRegex(BArray dataset, BString fieldName, BArray regexArray, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("categorizeRegex", dataset);
         if (!isFieldExist(dataset, fieldName)) {
-            return ErrorUtils.createETLError(String.format("The dataset does not contain the field - '%s'", fieldName));
+            return observer.complete(ErrorUtils.createETLError(
+                    String.format("The dataset does not contain the field - '%s'", fieldName)));
         }
         Type fieldType = getFieldType(returnType, fieldName);
         if (!isStringType(fieldType)) {
-            return ErrorUtils
+            return observer.complete(ErrorUtils
                     .createETLError(String.format("The field '%s' is expected to be of type '%s' but found '%s'",
-                            fieldName, TypeConstants.STRING_TNAME, fieldType.toString()));
+                            fieldName, TypeConstants.STRING_TNAME, fieldType.toString())));
         }
         BArray categorizedData = initializeNestedBArray(returnType, regexArray.size());
         for (int i = 0; i < dataset.size(); i++) {
@@ -137,33 +154,210 @@ public class EtlCategorization {
                 }
             }
         }
-        return categorizedData;
+        return observer.complete(categorizedData);
     }
 
     public static Object categorizeSemantic(Environment env, BArray dataset, BString fieldName, BArray categories,
             BTypedesc returnType) {
+        return env.yieldAndRun(() -> {
+            OperationObserver observer = OperationObserver.start("categorizeSemantic", dataset);
+            if (!isFieldExist(dataset, fieldName)) {
+                return observer.complete(ErrorUtils.createETLError(
+                        String.format("The dataset does not contain the field - '%s'", fieldName)));
+            }
+            Type fieldType = getFieldType(returnType, fieldName);
+            if (!isStringType(fieldType)) {
+                return observer.complete(ErrorUtils
+                        .createETLError(String.format("The field '%s' is expected to be of type '%s' but found '%s'",
+                                fieldName, TypeConstants.STRING_TNAME, fieldType.toString())));
+            }
+            BArray mergedResult = initializeNestedBArray(returnType, categories.size());
+            LabelMemo memo = LabelMemo.isEnabled() ? LabelMemo.forCategories(categories) : null;
+            // The label of each record is kept by its position in the dataset, and the records are only put into
+            // their categories once all the chunks have been labelled, so that they keep the dataset order. With the
+            // memo, only the records that it cannot label are sent to the model.
+            int[] labels = new int[dataset.size()];
+            List<Integer> novelPositions = new ArrayList<>();
+            BArray novelData;
+            int[] novelLabels;
+            if (memo == null) {
+                Arrays.fill(labels, NO_CATEGORY);
+                novelData = dataset;
+                novelLabels = labels;
+            } else {
+                novelData = labelFromMemo(memo, dataset, fieldName, labels, novelPositions);
+                novelLabels = new int[novelData.size()];
+                Arrays.fill(novelLabels, NO_CATEGORY);
+            }
+            Object[] args = new Object[] { fieldName, categories };
+            Object result = processChunks(env, observer, CATEGORIZE_SEMANTIC, novelData, args,
+                    new ChunkHandler() {
+                        @Override
+                        public Object convert(Object clientResponse, BArray chunk, int chunkStart) {
+                            if (TypeUtils.getType(clientResponse).getTag() != TypeTags.ARRAY_TAG) {
+                                return handleClientErrorType(clientResponse);
+                            }
+                            if (memo != null) {
+                                learnLabels(memo, chunk, fieldName, novelLabels, chunkStart);
+                            }
+                            // The labels are already merged, so the chunk only marks that it was answered.
+                            return chunk;
+                        }
+
+                        @Override
+                        public void mergeRow(Object row, BArray chunk, int chunkStart) {
+                            int rowId = getRowId(row, chunk);
+                            int category = rowId < 0 ? NO_CATEGORY : getRowCategory(row, categories.size());
+                            if (category != NO_CATEGORY) {
+                                novelLabels[chunkStart + rowId] = category;
+                            }
+                        }
+
+                        @Override
+                        public void clearRows(BArray chunk, int chunkStart) {
+                            Arrays.fill(novelLabels, chunkStart, chunkStart + chunk.size(), NO_CATEGORY);
+                        }
+
+                        @Override
+                        public void merge(BArray chunkResult) {
+                            // The records are put into their categories once every chunk has been labelled.
+                        }
+
+                        @Override
+                        public void complete() {
+                            for (int i = 0; i < novelPositions.size(); i++) {
+                                labels[novelPositions.get(i)] = novelLabels[i];
+                            }
+                            for (int i = 0; i < labels.length; i++) {
+                                if (labels[i] != NO_CATEGORY) {
+                                    ((BArray) mergedResult.get(labels[i]))
+                                            .append(copyBMap((BMap<BString, Object>) dataset.get(i), returnType));
+                                }
+                            }
+                        }
+                    }, mergedResult);
+            return observer.complete(result);
+        });
+    }
+
+    public static Object partitionBy(BArray dataset, BString fieldName, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("partitionBy", dataset);
         if (!isFieldExist(dataset, fieldName)) {
-            return ErrorUtils.createETLError(String.format("The dataset does not contain the field - '%s'", fieldName));
+            return observer.complete(ErrorUtils.createETLError(
+                    String.format("The dataset does not contain the field - '%s'", fieldName)));
         }
-        Type fieldType = getFieldType(returnType, fieldName);
-        if (!isStringType(fieldType)) {
-            return ErrorUtils
-                    .createETLError(String.format("The field '%s' is expected to be of type '%s' but found '%s'",
-                            fieldName, TypeConstants.STRING_TNAME, fieldType.toString()));
-        }
-        BArray mergedResult = initializeNestedBArray(returnType, categories.size());
-        for (int i = 0; i < dataset.size(); i += 200) {
-            int end = Math.min(i + 200, dataset.size());
-            BArray chunk = dataset.slice(i, end);
-            Object[] args = new Object[] { chunk, fieldName, categories };
-            Object clientResponse = env.getRuntime().callFunction(env.getCurrentModule(), CATEGORIZE_SEMANTIC, null,
-                    args);
-            Object chunkResult = processResponseToNestedBArray(clientResponse, returnType);
-            if (TypeUtils.getType(chunkResult).getTag() != TypeTags.ARRAY_TAG) {
-                return chunkResult;
-            }
-            mergeNestedBArrays(mergedResult, (BArray) chunkResult);
-        }
-        return mergedResult;
+        int size = dataset.size();
+        int parts = size < EtlAggregation.PARALLEL_THRESHOLD ? 1 : Runtime.getRuntime().availableProcessors();
+        int partSize = (size + parts - 1) / parts;
+        // Consecutive ranges are partitioned in parallel into local buckets, which are merged in the order of the
+        // ranges. This keeps the records of each partition, and the partitions themselves, in the dataset order.
+        List<Map<String, List<Object>>> localBuckets = IntStream.range(0, parts).parallel()
+                .mapToObj(part -> partitionRange(dataset, fieldName, returnType, Math.min(size, part * partSize),
+                        Math.min(size, (part + 1) * partSize)))
+                .toList();
+        Map<String, List<Object>> buckets = new LinkedHashMap<>();
+        for (Map<String, List<Object>> local : localBuckets) {
+            for (Map.Entry<String, List<Object>> bucket : local.entrySet()) {
+                buckets.computeIfAbsent(bucket.getKey(), k -> new ArrayList<>()).addAll(bucket.getValue());
+            }
+        }
+        ArrayType arrayType = TypeCreator.createArrayType(TypeUtils.getReferredType(returnType.getDescribingType()));
+        BMap<BString, Object> partitions = ValueCreator.createMapValue(TypeCreator.createMapType(arrayType));
+        for (Map.Entry<String, List<Object>> bucket : buckets.entrySet()) {
+            partitions.put(StringUtils.fromString(bucket.getKey()),
+                    ValueCreator.createArrayValue(bucket.getValue().toArray(), arrayType));
+        }
+        return observer.complete(partitions);
+    }
+
+    private static Map<String, List<Object>> partitionRange(BArray dataset, BString fieldName, BTypedesc returnType,
+                                                            int start, int end) {
+        Map<String, List<Object>> buckets = new LinkedHashMap<>();
+        for (int i = start; i < end; i++) {
+            if (TypeUtils.getType(dataset.get(i)).getTag() != TypeTags.RECORD_TYPE_TAG) {
+                continue;
+            }
+            BMap<BString, Object> data = (BMap<BString, Object>) dataset.get(i);
+            buckets.computeIfAbsent(StringUtils.getStringValue(data.get(fieldName)), k -> new ArrayList<>())
+                    .add(copyBMap(data, returnType));
+        }
+        return buckets;
+    }
+
+    // Labels the records whose value is similar enough to a labelled value with the category of that value, and
+    // returns the remaining records, which still have to be sent to the model, along with their positions.
+    private static BArray labelFromMemo(LabelMemo memo, BArray dataset, BString fieldName, int[] labels,
+                                        List<Integer> novelPositions) {
+        List<Object> novelData = new ArrayList<>();
+        for (int i = 0; i < dataset.size(); i++) {
+            BMap<BString, Object> data = (BMap<BString, Object>) dataset.get(i);
+            Object value = data.get(fieldName);
+            labels[i] = value instanceof BString text ? memo.lookup(text.getValue()) : LabelMemo.NO_LABEL;
+            if (labels[i] == LabelMemo.NO_LABEL) {
+                novelData.add(data);
+                novelPositions.add(i);
+            }
+        }
+        return ValueCreator.createArrayValue(novelData.toArray(),
+                (ArrayType) TypeUtils.getReferredType(TypeUtils.getType(dataset)));
+    }
+
+    private static void learnLabels(LabelMemo memo, BArray chunk, BString fieldName, int[] novelLabels,
+                                    int chunkStart) {
+        for (int i = 0; i < chunk.size(); i++) {
+            int label = novelLabels[chunkStart + i];
+            Object value = ((BMap<BString, Object>) chunk.get(i)).get(fieldName);
+            if (label != NO_CATEGORY && value instanceof BString text) {
+                memo.learn(text.getValue(), label);
+            }
+        }
+    }
+
+    // Flattens the `[lower, [mid...], upper]` ranges of a `CategoryRanges` value into an array of bounds.
+    static double[] getRangeBounds(BArray categoryRanges) {
+        BArray midRanges = (BArray) categoryRanges.get(1);
+        double[] bounds = new double[midRanges.size() + 2];
+        bounds[0] = categoryRanges.getFloat(0);
+        for (int i = 0; i < midRanges.size(); i++) {
+            bounds[i + 1] = midRanges.getFloat(i);
+        }
+        bounds[bounds.length - 1] = categoryRanges.getFloat(2);
+        return bounds;
+    }
+
+    // Derives equal-frequency bounds from a t-digest of the field values, without sorting the dataset. The lower
+    // bound is just below the minimum, since the lowest category excludes its lower bound.
+    private static double[] getQuantileBounds(BArray dataset, BString fieldName, int numCategories) {
+        TDigest digest = new TDigest();
+        for (int i = 0; i < dataset.size(); i++) {
+            if (TypeUtils.getType(dataset.get(i)).getTag() != TypeTags.RECORD_TYPE_TAG) {
+                continue;
+            }
+            Double fieldValue = getNumericValue((BMap<BString, Object>) dataset.get(i), fieldName);
+            if (fieldValue != null) {
+                digest.add(fieldValue);
+            }
+        }
+        double[] bounds = new double[numCategories + 1];
+        if (digest.size() == 0) {
+            return bounds;
+        }
+        bounds[0] = Math.nextDown(digest.getMin());
+        for (int i = 1; i < numCategories; i++) {
+            bounds[i] = Math.max(bounds[i - 1], digest.quantile((double) i / numCategories));
+        }
+        bounds[numCategories] = digest.getMax();
+        return bounds;
+    }
+
+    private static Double getNumericValue(BMap<BString, Object> data, BString fieldName) {
+        Object value = data.get(fieldName);
+        if (value instanceof Double doubleValue) {
+            return doubleValue;
+        }
+        if (value instanceof Long longValue) {
+            return longValue.doubleValue();
+        }
+        return null;
     }
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.nativeimpl;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.etl.observability.OperationObserver;
+import io.ballerina.stdlib.etl.utils.DatasetCodec;
+
+import java.nio.file.Paths;
+
+/**
+ * This class hold Java external functions for ETL - dataset checkpoint APIs.
+ *
+ * * @since 0.8.0
+ */
+public class EtlCheckpoint {
+
+    public static Object saveDataset(BArray dataset, BString filePath, boolean compress) {
+        OperationObserver observer = OperationObserver.start("saveDataset", dataset);
+        return observer.complete(DatasetCodec.save(dataset, Paths.get(filePath.getValue()), compress));
+    }
+
+    public static Object loadDataset(BString filePath, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("loadDataset", 0);
+        return observer.complete(DatasetCodec.load(Paths.get(filePath.getValue()), returnType));
+    }
+}
@@ -29,21 +29,34 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.etl.observability.ChunkEvent;
+import io.ballerina.stdlib.etl.observability.OperationObserver;
+import io.ballerina.stdlib.etl.utils.ChunkProcessor.ChunkHandler;
 import io.ballerina.stdlib.etl.utils.ErrorUtils;
+import io.ballerina.stdlib.etl.utils.FingerprintStore;
+import io.ballerina.stdlib.etl.utils.FingerprintStore.Fingerprint;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 
+import static io.ballerina.stdlib.etl.utils.ChunkProcessor.callWithRetry;
+import static io.ballerina.stdlib.etl.utils.ChunkProcessor.processChunks;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.copyBMap;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.getFieldType;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.getFields;
-import static io.ballerina.stdlib.etl.utils.CommonUtils.processResponseToBArray;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.getRowId;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.getRowValue;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.handleClientErrorType;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.processResponseToNestedBArray;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeBArray;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeBMap;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.isFieldExist;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.isStringType;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.mergeBArrays;
 
 /**
  * This class hold Java external functions for ETL - data cleaning APIs.
@@ -61,13 +74,20 @@ public class EtlCleaning {
     public static final String STANDARDIZE_DATA = "standardizeDataFunc";
 
     public static Object groupApproximateDuplicates(Environment env, BArray dataset, BTypedesc returnType) {
-        Object[] args = new Object[] { dataset };
-        Object clientResponse = env.getRuntime().callFunction(env.getCurrentModule(), GROUP_APPROXIMATE_DUPLICATES,
-                null, args);
-        return processResponseToNestedBArray(clientResponse, returnType);
+        return env.yieldAndRun(() -> {
+            OperationObserver observer = OperationObserver.start("groupApproximateDuplicates", dataset);
+            Object[] args = new Object[] { dataset };
+            ChunkEvent chunkEvent = observer.startChunk(0, dataset.size());
+            Object clientResponse = callWithRetry(env, GROUP_APPROXIMATE_DUPLICATES, args);
+            observer.endLlmCall(chunkEvent);
+            Object result = processResponseToNestedBArray(clientResponse, returnType);
+            observer.endChunk(chunkEvent, result);
+            return observer.complete(result);
+        });
     }
 
     public static Object handleWhiteSpaces(BArray dataset, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("handleWhiteSpaces", dataset);
         BArray cleanedDataset = initializeBArray(returnType);
         for (int i = 0; i < dataset.size(); i++) {
             if (TypeUtils.getType(dataset.get(i)).getTag() != TypeTags.RECORD_TYPE_TAG) {
@@ -87,10 +107,11 @@ public class EtlCleaning {
             }
             cleanedDataset.append(newData);
         }
-        return cleanedDataset;
+        return observer.complete(cleanedDataset);
     }
 
     public static Object removeDuplicates(Environment env, BArray dataset, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("removeDuplicates", dataset);
         BArray deDuplicatedDataset = initializeBArray(returnType);
         Object[] args = new Object[] { dataset };
         Object uniqueItems = env.getRuntime().callFunction(env.getCurrentModule(),
@@ -105,12 +126,14 @@ public class EtlCleaning {
             BMap<BString, Object> newData = copyBMap((BMap<BString, Object>) ((BArray) uniqueItems).get(i), returnType);
             deDuplicatedDataset.append(newData);
         }
-        return deDuplicatedDataset;
+        return observer.complete(deDuplicatedDataset);
     }
 
     public static Object removeField(BArray dataset, BString fieldName, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("removeField", dataset);
         if (!isFieldExist(dataset, fieldName)) {
-            return ErrorUtils.createETLError(String.format("The dataset does not contain the field - '%s'", fieldName));
+            return observer.complete(ErrorUtils.createETLError(
+                    String.format("The dataset does not contain the field - '%s'", fieldName)));
         }
         BArray newDataset = initializeBArray(returnType);
         for (int i = 0; i < dataset.size(); i++) {
@@ -126,10 +149,11 @@ public class EtlCleaning {
             }
             newDataset.append(newData);
         }
-        return newDataset;
+        return observer.complete(newDataset);
     }
 
     public static Object removeEmptyValues(BArray dataset, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("removeEmptyValues", dataset);
         BArray cleanedDataset = initializeBArray(returnType);
         for (int i = 0; i < dataset.size(); i++) {
             if (TypeUtils.getType(dataset.get(i)).getTag() != TypeTags.RECORD_TYPE_TAG) {
@@ -152,19 +176,56 @@ public class EtlCleaning {
                 cleanedDataset.append(newData);
             }
         }
-        return cleanedDataset;
+        return observer.complete(cleanedDataset);
+    }
+
+    public static Object removeSeenRecords(BArray dataset, BString storePath, BArray keyFields,
+                                           BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("removeSeenRecords", dataset);
+        for (int i = 0; i < keyFields.size(); i++) {
+            if (!isFieldExist(dataset, keyFields.getBString(i))) {
+                return observer.complete(ErrorUtils.createETLError(
+                        String.format("The dataset does not contain the field - '%s'", keyFields.getBString(i))));
+            }
+        }
+        List<BMap<BString, Object>> records = new ArrayList<>();
+        for (int i = 0; i < dataset.size(); i++) {
+            if (TypeUtils.getType(dataset.get(i)).getTag() == TypeTags.RECORD_TYPE_TAG) {
+                records.add((BMap<BString, Object>) dataset.get(i));
+            }
+        }
+        Fingerprint[] fingerprints = new Fingerprint[records.size()];
+        for (int i = 0; i < fingerprints.length; i++) {
+            fingerprints[i] = FingerprintStore.fingerprint(records.get(i), keyFields);
+        }
+        boolean[] unseen;
+        try {
+            unseen = FingerprintStore.recordUnseen(Paths.get(storePath.getValue()), fingerprints);
+        } catch (IOException e) {
+            return observer.complete(ErrorUtils.createETLError(
+                    String.format("Error occurred while updating the dedup store: %s", e.getMessage())));
+        }
+        BArray unseenDataset = initializeBArray(returnType);
+        for (int i = 0; i < unseen.length; i++) {
+            if (unseen[i]) {
+                unseenDataset.append(copyBMap(records.get(i), returnType));
+            }
+        }
+        return observer.complete(unseenDataset);
     }
 
     public static Object replaceText(BArray dataset, BString fieldName, BRegexpValue searchValue, BString replaceValue,
             BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("replaceText", dataset);
         if (!isFieldExist(dataset, fieldName)) {
-            return ErrorUtils.createETLError(String.format("The dataset does not contain the field - '%s'", fieldName));
+            return observer.complete(ErrorUtils.createETLError(
+                    String.format("The dataset does not contain the field - '%s'", fieldName)));
         }
         Type fieldType = getFieldType(returnType, fieldName);
         if (!isStringType(fieldType)) {
-            return ErrorUtils
+            return observer.complete(ErrorUtils
                     .createETLError(String.format("The field '%s' is expected to be of type '%s' but found '%s'",
-                            fieldName, TypeConstants.STRING_TNAME, fieldType.toString()));
+                            fieldName, TypeConstants.STRING_TNAME, fieldType.toString())));
         }
         BArray newDataset = initializeBArray(returnType);
         for (int i = 0; i < dataset.size(); i++) {
@@ -187,12 +248,14 @@ public class EtlCleaning {
             }
             newDataset.append(newData);
         }
-        return newDataset;
+        return observer.complete(newDataset);
     }
 
     public static Object sortData(BArray dataset, BString fieldName, BString direction, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("sortData", dataset);
         if (!isFieldExist(dataset, fieldName)) {
-            return ErrorUtils.createETLError(String.format("The dataset does not contain the field - '%s'", fieldName));
+            return observer.complete(ErrorUtils.createETLError(
+                    String.format("The dataset does not contain the field - '%s'", fieldName)));
         }
         BArray sortedDataset = initializeBArray(returnType);
         List<BMap<BString, Object>> dataToSort = new ArrayList<>();
@@ -216,29 +279,66 @@ public class EtlCleaning {
         for (BMap<BString, Object> record : dataToSort) {
             sortedDataset.append(record);
         }
-        return sortedDataset;
+        return observer.complete(sortedDataset);
     }
 
     public static Object standardizeData(Environment env, BArray dataset, BString fieldName, BArray standardValues,
             BTypedesc returnType) {
-        if (!isFieldExist(dataset, fieldName)) {
-            return ErrorUtils.createETLError(String.format("The dataset does not contain the field - '%s'", fieldName));
-        }
-        BArray mergedResult = initializeBArray(returnType);
-        for (int i = 0; i < dataset.size(); i += 200) {
-            int end = Math.min(i + 200, dataset.size());
-            BArray chunk = dataset.slice(i, end);
-            Object[] args = new Object[] { chunk, fieldName, standardValues };
-            Object clientResponse = env.getRuntime().callFunction(env.getCurrentModule(), STANDARDIZE_DATA, null, args);
-            Object chunkResult = processResponseToBArray(clientResponse, returnType);
-            if (TypeUtils.getType(chunkResult).getTag() != TypeTags.ARRAY_TAG) {
-                return chunkResult;
+        return env.yieldAndRun(() -> {
+            OperationObserver observer = OperationObserver.start("standardizeData", dataset);
+            if (!isFieldExist(dataset, fieldName)) {
+                return observer.complete(ErrorUtils.createETLError(
+                        String.format("The dataset does not contain the field - '%s'", fieldName)));
             }
-            for (int j = 0; j < ((BArray) chunkResult).size(); j++) {
-                mergedResult.append(((BArray) chunkResult).get(j));
+            Type fieldType = getFieldType(returnType, fieldName);
+            if (!isStringType(fieldType)) {
+                return observer.complete(ErrorUtils
+                        .createETLError(String.format("The field '%s' is expected to be of type '%s' but found '%s'",
+                                fieldName, TypeConstants.STRING_TNAME, fieldType.toString())));
             }
-            ;
-        }
-        return mergedResult;
+            BArray mergedResult = initializeBArray(returnType);
+            // The standardized records are kept by their position in the dataset, so that each of them is built
+            // as soon as its row is received and the chunk only has to copy the records without a new value.
+            Object[] standardizedData = new Object[dataset.size()];
+            Object[] args = new Object[] { fieldName, standardValues };
+            return observer.complete(processChunks(env, observer, STANDARDIZE_DATA, dataset, args,
+                    new ChunkHandler() {
+                        @Override
+                        public Object convert(Object clientResponse, BArray chunk, int chunkStart) {
+                            if (TypeUtils.getType(clientResponse).getTag() != TypeTags.ARRAY_TAG) {
+                                return handleClientErrorType(clientResponse);
+                            }
+                            BArray result = initializeBArray(returnType);
+                            for (int i = 0; i < chunk.size(); i++) {
+                                Object data = standardizedData[chunkStart + i];
+                                result.append(data != null ? data
+                                        : copyBMap((BMap<BString, Object>) chunk.get(i), returnType));
+                            }
+                            return result;
+                        }
+
+                        @Override
+                        public void mergeRow(Object row, BArray chunk, int chunkStart) {
+                            int rowId = getRowId(row, chunk);
+                            BString value = rowId < 0 ? null : getRowValue(row);
+                            if (value != null) {
+                                BMap<BString, Object> data = copyBMap((BMap<BString, Object>) chunk.get(rowId),
+                                        returnType);
+                                data.put(fieldName, value);
+                                standardizedData[chunkStart + rowId] = data;
+                            }
+                        }
+
+                        @Override
+                        public void clearRows(BArray chunk, int chunkStart) {
+                            Arrays.fill(standardizedData, chunkStart, chunkStart + chunk.size(), null);
+                        }
+
+                        @Override
+                        public void merge(BArray chunkResult) {
+                            mergeBArrays(mergedResult, chunkResult);
+                        }
+                    }, mergedResult));
+        });
     }
 }
@@ -18,19 +18,36 @@
 
 package io.ballerina.stdlib.etl.nativeimpl;
 
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.etl.observability.OperationObserver;
+import io.ballerina.stdlib.etl.utils.BloomFilter;
 import io.ballerina.stdlib.etl.utils.ErrorUtils;
+import io.ballerina.stdlib.etl.utils.SpillingJoin;
 
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.Set;
 
+import static io.ballerina.stdlib.etl.nativeimpl.EtlCleaning.ASCENDING;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.copyBMap;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeBArray;
-import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeBMap;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.isFieldExist;
 
 /**
@@ -41,17 +58,46 @@ import static io.ballerina.stdlib.etl.utils.CommonUtils.isFieldExist;
 @SuppressWarnings("unchecked")
 public class EtlEnrichment {
 
-    public static Object joinData(BArray dataset1, BArray dataset2, BString fieldName, BTypedesc returnType) {
+    public static final String INNER_JOIN = "inner";
+    public static final String LEFT_JOIN = "left";
+    public static final String SEMI_JOIN = "semi";
+    public static final String ANTI_JOIN = "anti";
+    public static final int BLOOM_FILTER_SIZE_RATIO = 8;
+
+    public static Object joinData(BArray dataset1, BArray dataset2, BString fieldName, BString joinType,
+                                  BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("joinData", dataset1.size() + dataset2.size());
         if (!isFieldExist(dataset1, fieldName)) {
-            return ErrorUtils
-                    .createETLError(String.format("The dataset %d does not contain the field - '%s'", 1, fieldName));
+            return observer.complete(ErrorUtils
+                    .createETLError(String.format("The dataset %d does not contain the field - '%s'", 1, fieldName)));
         }
         if (!isFieldExist(dataset2, fieldName)) {
-            return ErrorUtils
+            return observer.complete(ErrorUtils
                     .createETLError(
-                            String.format("The second %d dataset does not contain the field - '%s'", 2, fieldName));
+                            String.format("The second %d dataset does not contain the field - '%s'", 2, fieldName)));
 
         }
+        // When the second dataset is much larger, a Bloom filter over the keys of the first one drops most of the
+        // rows that cannot match before they are added to the hash table.
+        BloomFilter keys1 = null;
+        if (dataset2.size() > BLOOM_FILTER_SIZE_RATIO * dataset1.size()) {
+            keys1 = new BloomFilter(dataset1.size());
+            for (int i = 0; i < dataset1.size(); i++) {
+                Object key = getJoinKey(dataset1.get(i), fieldName);
+                if (key != null) {
+                    keys1.add(key);
+                }
+            }
+        }
+        Map<Object, List<BMap<BString, Object>>> dataByKey = new HashMap<>();
+        for (int j = 0; j < dataset2.size(); j++) {
+            Object key = getJoinKey(dataset2.get(j), fieldName);
+            if (key == null || (keys1 != null && !keys1.mightContain(key))) {
+                continue;
+            }
+            dataByKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add((BMap<BString, Object>) dataset2.get(j));
+        }
+        String type = joinType.getValue();
         BArray joinedDataset = initializeBArray(returnType);
         Set<String> seenData = new HashSet<>();
         for (int i = 0; i < dataset1.size(); i++) {
@@ -59,50 +105,162 @@ public class EtlEnrichment {
                 continue;
             }
             BMap<BString, Object> data1 = (BMap<BString, Object>) dataset1.get(i);
-            if (data1.get(fieldName) == null) {
+            Object key = data1.get(fieldName);
+            if (key == null && type.equals(INNER_JOIN)) {
                 continue;
             }
-            for (int j = 0; j < dataset2.size(); j++) {
-                if (TypeUtils.getType(dataset2.get(j)).getTag() != TypeTags.RECORD_TYPE_TAG) {
-                    continue;
-                }
-                BMap<BString, Object> data2 = (BMap<BString, Object>) dataset2.get(j);
-                if (data2.get(fieldName) == null) {
-                    continue;
+            List<BMap<BString, Object>> matches = key == null ? null : dataByKey.get(key);
+            switch (type) {
+                case SEMI_JOIN -> {
+                    if (matches != null) {
+                        appendJoinedData(joinedDataset, seenData, copyBMap(data1, returnType));
+                    }
                 }
-                if (data1.get(fieldName).equals(data2.get(fieldName))) {
-                    BMap<BString, Object> newData = initializeBMap(returnType);
-                    for (BString key : data1.getKeys()) {
-                        newData.put(key, data1.get(key));
+                case ANTI_JOIN -> {
+                    if (matches == null) {
+                        appendJoinedData(joinedDataset, seenData, copyBMap(data1, returnType));
                     }
-                    for (BString key : data2.getKeys()) {
-                        newData.put(key, data2.get(key));
+                }
+                default -> {
+                    if (matches == null) {
+                        if (type.equals(LEFT_JOIN)) {
+                            appendJoinedData(joinedDataset, seenData, copyBMap(data1, returnType));
+                        }
+                        continue;
                     }
-                    if (!seenData.contains(newData.toString())) {
-                        seenData.add(newData.toString());
-                        joinedDataset.append(newData);
+                    for (BMap<BString, Object> data2 : matches) {
+                        BMap<BString, Object> newData = copyBMap(data1, returnType);
+                        for (BString dataKey : data2.getKeys()) {
+                            newData.put(dataKey, data2.get(dataKey));
+                        }
+                        appendJoinedData(joinedDataset, seenData, newData);
                     }
                 }
             }
         }
-        if (joinedDataset.size() == 0) {
-            return ErrorUtils.createETLError("No matching records found");
+        if (joinedDataset.size() == 0 && type.equals(INNER_JOIN)) {
+            return observer.complete(ErrorUtils.createETLError("No matching records found"));
         }
-        return joinedDataset;
+        return observer.complete(joinedDataset);
+    }
+
+    public static Object joinDataFiles(BString filePath1, BString filePath2, BString fieldName,
+                                       BString outputFilePath) {
+        OperationObserver observer = OperationObserver.start("joinDataFiles", 0);
+        return observer.complete(SpillingJoin.join(Paths.get(filePath1.getValue()), Paths.get(filePath2.getValue()),
+                fieldName, Paths.get(outputFilePath.getValue())));
     }
 
     public static Object mergeData(BArray datasets, BTypedesc returnType) {
-        BArray mergedDataset = initializeBArray(returnType);
+        OperationObserver observer = OperationObserver.start("mergeData", datasets);
+        Type elementType = TypeUtils.getReferredType(returnType.getDescribingType());
+        Object validation = validateDatasets(datasets);
+        if (validation != null) {
+            return observer.complete(validation);
+        }
+        Object[] mergedData = new Object[countRecords(datasets)];
+        int offset = 0;
+        try {
+            for (int i = 0; i < datasets.size(); i++) {
+                BArray dataset = (BArray) datasets.get(i);
+                // Datasets of the return type are copied in bulk, the others record by record after a type check.
+                if (TypeUtils.isSameType(TypeUtils.getReferredType(dataset.getElementType()), elementType)) {
+                    System.arraycopy(dataset.getValues(), 0, mergedData, offset, dataset.size());
+                    offset += dataset.size();
+                    continue;
+                }
+                for (int j = 0; j < dataset.size(); j++) {
+                    mergedData[offset++] = ValueUtils.convert(dataset.get(j), elementType);
+                }
+            }
+        } catch (BError e) {
+            return observer.complete(ErrorUtils.createETLError(
+                    String.format("Datasets to be merged must contain records of the return type: %s",
+                            e.getMessage())));
+        }
+        return observer.complete(ValueCreator.createArrayValue(mergedData, TypeCreator.createArrayType(elementType)));
+    }
+
+    public static Object mergeSorted(BArray datasets, BString fieldName, BString direction, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("mergeSorted", datasets);
+        Type elementType = TypeUtils.getReferredType(returnType.getDescribingType());
+        Object validation = validateDatasets(datasets);
+        if (validation != null) {
+            return observer.complete(validation);
+        }
         for (int i = 0; i < datasets.size(); i++) {
-            if (TypeUtils.getType(datasets.get(i)).getTag() != TypeTags.ARRAY_TAG) {
-                ErrorUtils.createETLError("Datasets to be merged must be of type 'record[]{}'");
-                ;
+            if (!isFieldExist((BArray) datasets.get(i), fieldName)) {
+                return observer.complete(ErrorUtils.createETLError(
+                        String.format("The dataset %d does not contain the field - '%s'", i + 1, fieldName)));
             }
-            BArray dataset = (BArray) datasets.get(i);
-            for (int j = 0; j < dataset.size(); j++) {
-                mergedDataset.append(dataset.get(j));
+        }
+        // Uses the same ordering as `sortData`, so that datasets sorted by it can be merged. Ties are taken from the
+        // dataset that comes first.
+        Comparator<Object> valueOrder = Comparator.comparing(Object::toString);
+        if (!direction.equals(StringUtils.fromString(ASCENDING))) {
+            valueOrder = valueOrder.reversed();
+        }
+        Comparator<int[]> cursorOrder = Comparator.<int[], Object>comparing(
+                cursor -> getSortKey(datasets, cursor, fieldName), Comparator.nullsLast(valueOrder))
+                .thenComparingInt(cursor -> cursor[0]);
+        PriorityQueue<int[]> cursors = new PriorityQueue<>(Math.max(1, datasets.size()), cursorOrder);
+        for (int i = 0; i < datasets.size(); i++) {
+            if (((BArray) datasets.get(i)).size() > 0) {
+                cursors.add(new int[] {i, 0});
+            }
+        }
+        Object[] mergedData = new Object[countRecords(datasets)];
+        int offset = 0;
+        try {
+            while (!cursors.isEmpty()) {
+                int[] cursor = cursors.poll();
+                BArray dataset = (BArray) datasets.get(cursor[0]);
+                mergedData[offset++] = ValueUtils.convert(dataset.get(cursor[1]), elementType);
+                if (++cursor[1] < dataset.size()) {
+                    cursors.add(cursor);
+                }
+            }
+        } catch (BError e) {
+            return observer.complete(ErrorUtils.createETLError(
+                    String.format("Datasets to be merged must contain records of the return type: %s",
+                            e.getMessage())));
+        }
+        return observer.complete(ValueCreator.createArrayValue(mergedData, TypeCreator.createArrayType(elementType)));
+    }
+
+    private static Object validateDatasets(BArray datasets) {
+        for (int i = 0; i < datasets.size(); i++) {
+            if (TypeUtils.getType(datasets.get(i)).getTag() != TypeTags.ARRAY_TAG) {
+                return ErrorUtils.createETLError("Datasets to be merged must be of type 'record[]{}'");
             }
         }
-        return mergedDataset;
+        return null;
+    }
+
+    private static int countRecords(BArray datasets) {
+        long count = 0;
+        for (int i = 0; i < datasets.size(); i++) {
+            count += ((BArray) datasets.get(i)).size();
+        }
+        return Math.toIntExact(count);
+    }
+
+    private static Object getSortKey(BArray datasets, int[] cursor, BString fieldName) {
+        Object data = ((BArray) datasets.get(cursor[0])).get(cursor[1]);
+        return TypeUtils.getType(data).getTag() == TypeTags.RECORD_TYPE_TAG
+                ? ((BMap<BString, Object>) data).get(fieldName) : null;
+    }
+
+    private static Object getJoinKey(Object data, BString fieldName) {
+        if (TypeUtils.getType(data).getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return null;
+        }
+        return ((BMap<BString, Object>) data).get(fieldName);
+    }
+
+    private static void appendJoinedData(BArray joinedDataset, Set<String> seenData, BMap<BString, Object> data) {
+        if (seenData.add(data.toString())) {
+            joinedDataset.append(data);
+        }
     }
 }
@@ -19,11 +19,37 @@
 package io.ballerina.stdlib.etl.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.etl.observability.ChunkEvent;
+import io.ballerina.stdlib.etl.observability.OperationObserver;
+import io.ballerina.stdlib.etl.utils.ChunkProcessor;
+import io.ballerina.stdlib.etl.utils.ErrorUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.ballerina.stdlib.etl.utils.ChunkProcessor.callWithRetry;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.ROW_ID;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.getReturnTypeSchema;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.handleClientErrorType;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.processResponseToRecord;
 
 /**
@@ -32,15 +58,138 @@ import static io.ballerina.stdlib.etl.utils.CommonUtils.processResponseToRecord;
  *
  * * @since 0.8.0
  */
+@SuppressWarnings("unchecked")
 public class EtlExtraction {
 
     public static final String EXTRACT_FROM_UNSTRUCTURED_DATA = "extractFromTextFunc";
+    public static final String EXTRACT_FROM_TEXTS = "extractFromTextsFunc";
+    public static final String EXTRACTED_DATA = "data";
+    public static final int MAX_TEXTS_PER_REQUEST = 20;
+    public static final int MAX_CHARACTERS_PER_REQUEST = 12000;
+
+    private static final Map<Type, BMap<BString, Object>> RETURN_TYPE_SCHEMAS = new ConcurrentHashMap<>();
 
     public static Object extractFromText(Environment env, BString sourceText, BTypedesc returnType) {
-        BMap<BString, Object> returnTypeSchema = getReturnTypeSchema(returnType);
-        Object[] args = new Object[] { sourceText, returnTypeSchema };
-        Object clientResponse = env.getRuntime().callFunction(env.getCurrentModule(), EXTRACT_FROM_UNSTRUCTURED_DATA,
-                null, args);
-        return processResponseToRecord(clientResponse, returnType);
+        return env.yieldAndRun(() -> {
+            OperationObserver observer = OperationObserver.start("extractFromText", 1);
+            BMap<BString, Object> returnTypeSchema = getCachedReturnTypeSchema(returnType);
+            Object[] args = new Object[] { sourceText, returnTypeSchema };
+            ChunkEvent chunkEvent = observer.startChunk(0, 1);
+            Object clientResponse = callWithRetry(env, EXTRACT_FROM_UNSTRUCTURED_DATA, args);
+            observer.endLlmCall(chunkEvent);
+            Object result = processResponseToRecord(clientResponse, returnType);
+            observer.endChunk(chunkEvent, result);
+            return observer.complete(result);
+        });
+    }
+
+    public static Object extractFromTextBatch(Environment env, BArray sourceTexts, BTypedesc returnType) {
+        return env.yieldAndRun(() -> {
+            OperationObserver observer = OperationObserver.start("extractFromTextBatch", sourceTexts);
+            BMap<BString, Object> returnTypeSchema = getCachedReturnTypeSchema(returnType);
+            List<int[]> packs = packTexts(sourceTexts);
+            Object[] results = new Object[sourceTexts.size()];
+            int concurrency = Math.max(1, Math.min(ChunkProcessor.getMaxConcurrentRequests(), packs.size()));
+            // Virtual threads keep the platform threads bounded regardless of how many batches are in flight.
+            try (ExecutorService executor = Executors.newFixedThreadPool(concurrency, Thread.ofVirtual().factory())) {
+                List<Future<?>> futures = new ArrayList<>(packs.size());
+                for (int i = 0; i < packs.size(); i++) {
+                    int packIndex = i;
+                    int[] pack = packs.get(i);
+                    futures.add(executor.submit(() -> extractFromPack(env, observer, packIndex, sourceTexts, pack[0],
+                            pack[1], returnTypeSchema, returnType, results)));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return observer.complete(ErrorUtils.createETLError("Operation interrupted while extracting the data"));
+            } catch (ExecutionException e) {
+                return observer.complete(ErrorUtils.createETLError(
+                        String.format("Error occurred while extracting the data: %s", e.getCause().getMessage())));
+            }
+            Type recordType = TypeUtils.getReferredType(returnType.getDescribingType());
+            return observer.complete(ValueCreator.createArrayValue(results, TypeCreator.createArrayType(
+                    TypeCreator.createUnionType(recordType, ErrorUtils.getETLErrorType()))));
+        });
+    }
+
+    public static BMap<BString, Object> getTypeSchema(BTypedesc targetType) {
+        BMap<BString, Object> schema = getCachedReturnTypeSchema(targetType);
+        BMap<BString, Object> typedSchema = ValueCreator.createMapValue(
+                TypeCreator.createMapType(PredefinedTypes.TYPE_STRING));
+        for (BString field : schema.getKeys()) {
+            typedSchema.put(field, schema.get(field));
+        }
+        return typedSchema;
+    }
+
+    private static BMap<BString, Object> getCachedReturnTypeSchema(BTypedesc returnType) {
+        return RETURN_TYPE_SCHEMAS.computeIfAbsent(TypeUtils.getReferredType(returnType.getDescribingType()),
+                type -> getReturnTypeSchema(returnType));
+    }
+
+    // Packs consecutive texts into requests, so that short texts share a prompt while long texts are sent alone.
+    private static List<int[]> packTexts(BArray sourceTexts) {
+        List<int[]> packs = new ArrayList<>();
+        int start = 0;
+        int characters = 0;
+        for (int i = 0; i < sourceTexts.size(); i++) {
+            int length = sourceTexts.getBString(i).length();
+            if (i > start && (i - start == MAX_TEXTS_PER_REQUEST || characters + length > MAX_CHARACTERS_PER_REQUEST)) {
+                packs.add(new int[] { start, i });
+                start = i;
+                characters = 0;
+            }
+            characters += length;
+        }
+        if (start < sourceTexts.size()) {
+            packs.add(new int[] { start, sourceTexts.size() });
+        }
+        return packs;
+    }
+
+    private static void extractFromPack(Environment env, OperationObserver observer, int packIndex,
+            BArray sourceTexts, int start, int end, BMap<BString, Object> returnTypeSchema, BTypedesc returnType,
+            Object[] results) {
+        ChunkEvent chunkEvent = observer.startChunk(packIndex, end - start);
+        Object clientResponse = callWithRetry(env, EXTRACT_FROM_TEXTS,
+                new Object[] { sourceTexts.slice(start, end), returnTypeSchema });
+        observer.endLlmCall(chunkEvent);
+        if (TypeUtils.getType(clientResponse).getTag() != TypeTags.ARRAY_TAG) {
+            Object error = handleClientErrorType(clientResponse);
+            Arrays.fill(results, start, end, error);
+            observer.endChunk(chunkEvent, error);
+            return;
+        }
+        BArray extractedTexts = (BArray) clientResponse;
+        for (int i = 0; i < extractedTexts.size(); i++) {
+            if (TypeUtils.getType(extractedTexts.get(i)).getTag() != TypeTags.MAP_TAG) {
+                continue;
+            }
+            BMap<BString, Object> extractedText = (BMap<BString, Object>) extractedTexts.get(i);
+            Object id = extractedText.get(StringUtils.fromString(ROW_ID));
+            if (!(id instanceof Long) || (Long) id < 0 || (Long) id >= end - start
+                    || results[start + ((Long) id).intValue()] != null) {
+                continue;
+            }
+            int index = start + ((Long) id).intValue();
+            try {
+                results[index] = processResponseToRecord(
+                        extractedText.get(StringUtils.fromString(EXTRACTED_DATA)), returnType);
+            } catch (BError e) {
+                results[index] = ErrorUtils.createETLError(String.format(
+                        "The data extracted from the text at index %d does not match the return type: %s", index,
+                        e.getMessage()));
+            }
+        }
+        for (int i = start; i < end; i++) {
+            if (results[i] == null) {
+                results[i] = ErrorUtils.createETLError(
+                        String.format("No data was extracted from the text at index %d", i));
+            }
+        }
+        observer.endChunk(chunkEvent, clientResponse);
     }
 }
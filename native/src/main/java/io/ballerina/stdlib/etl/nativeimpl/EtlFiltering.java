@@ -28,6 +28,7 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BRegexpValue;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.etl.observability.OperationObserver;
 import io.ballerina.stdlib.etl.utils.ErrorUtils;
 import org.ballerinalang.langlib.regexp.Matches;
 
@@ -54,9 +55,10 @@ public class EtlFiltering {
             TypeConstants.FLOAT_TNAME);
 
     public static Object filterDataByRatio(BArray dataset, float ratio, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("filterDataByRatio", dataset);
         if (ratio < 0 || ratio > 1) {
-            return ErrorUtils
-                    .createETLError(String.format("Invalid ratio value: %f. Ratio should be between 0 and 1", ratio));
+            return observer.complete(ErrorUtils
+                    .createETLError(String.format("Invalid ratio value: %f. Ratio should be between 0 and 1", ratio)));
         }
         BArray filteredDataset = initializeBArray(returnType);
         ArrayList<Object> suffledDataset = new ArrayList<>();
@@ -71,19 +73,21 @@ public class EtlFiltering {
         for (int i = 0; i < splitIndex; i++) {
             filteredDataset.append(suffledDataset.get(i));
         }
-        return filteredDataset;
+        return observer.complete(filteredDataset);
     }
 
     public static Object filterDataByRegex(BArray dataset, BString fieldName, BRegexpValue regexPattern,
             BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("filterDataByRegex", dataset);
         if (!isFieldExist(dataset, fieldName)) {
-            return ErrorUtils.createETLError(String.format("The dataset does not contain the field - '%s'", fieldName));
+            return observer.complete(ErrorUtils.createETLError(
+                    String.format("The dataset does not contain the field - '%s'", fieldName)));
         }
         Type fieldType = getFieldType(returnType, fieldName);
         if (!isStringType(fieldType)) {
-            return ErrorUtils
+            return observer.complete(ErrorUtils
                     .createETLError(String.format("The field '%s' is expected to be of type '%s' but found '%s'",
-                            fieldName, TypeConstants.STRING_TNAME, fieldType.toString()));
+                            fieldName, TypeConstants.STRING_TNAME, fieldType.toString())));
         }
         BArray filteredDataset = initializeBArray(returnType);
         for (int i = 0; i < dataset.size(); i++) {
@@ -100,19 +104,21 @@ public class EtlFiltering {
                 filteredDataset.append(newData);
             }
         }
-        return filteredDataset;
+        return observer.complete(filteredDataset);
     }
 
     public static Object filterDataByRelativeExp(BArray dataset, BString fieldName, BString operation, double value,
             BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("filterDataByRelativeExp", dataset);
         if (!isFieldExist(dataset, fieldName)) {
-            return ErrorUtils.createETLError(String.format("The dataset does not contain the field - '%s'", fieldName));
+            return observer.complete(ErrorUtils.createETLError(
+                    String.format("The dataset does not contain the field - '%s'", fieldName)));
         }
         Type fieldType = getFieldType(returnType, fieldName);
         if (!isNumericType(fieldType)) {
-            return ErrorUtils
+            return observer.complete(ErrorUtils
                     .createETLError(String.format("The field '%s' is expected to be of type '%s' but found '%s'",
-                            fieldName, INT_OR_FLOAT, fieldType.toString()));
+                            fieldName, INT_OR_FLOAT, fieldType.toString())));
         }
         BArray filteredDataset = initializeBArray(returnType);
         for (int i = 0; i < dataset.size(); i++) {
@@ -131,6 +137,6 @@ public class EtlFiltering {
                 filteredDataset.append(newData);
             }
         }
-        return filteredDataset;
+        return observer.complete(filteredDataset);
     }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.nativeimpl;
+
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.etl.observability.OperationObserver;
+import io.ballerina.stdlib.etl.utils.ErrorUtils;
+import io.ballerina.stdlib.etl.utils.SortedNumericIndex;
+
+import static io.ballerina.stdlib.etl.nativeimpl.EtlFiltering.INT_OR_FLOAT;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.copyBMap;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeBArray;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeNestedBArray;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.isFieldExist;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.isNumericType;
+
+/**
+ * This class hold Java external functions for ETL - numeric index APIs.
+ *
+ * * @since 0.8.0
+ */
+@SuppressWarnings("unchecked")
+public class EtlIndex {
+
+    public static final String SORTED_INDEX = "sortedIndex";
+    public static final BString DATASET = StringUtils.fromString("dataset");
+    public static final BString FIELD_NAME = StringUtils.fromString("fieldName");
+
+    public static Object rebuild(BObject index) {
+        BArray dataset = index.getArrayValue(DATASET);
+        BString fieldName = index.getStringValue(FIELD_NAME);
+        OperationObserver observer = OperationObserver.start("rebuildNumericIndex", dataset);
+        if (!isFieldExist(dataset, fieldName)) {
+            return observer.complete(ErrorUtils.createETLError(
+                    String.format("The dataset does not contain the field - '%s'", fieldName)));
+        }
+        Type fieldType = ((StructureType) TypeUtils.getReferredType(dataset.getElementType())).getFields()
+                .get(fieldName.getValue()).getFieldType();
+        if (!isNumericType(fieldType)) {
+            return observer.complete(ErrorUtils
+                    .createETLError(String.format("The field '%s' is expected to be of type '%s' but found '%s'",
+                            fieldName, INT_OR_FLOAT, fieldType.toString())));
+        }
+        buildIndex(index);
+        return observer.complete(null);
+    }
+
+    public static Object filterDataByRelativeExp(BObject index, BString operation, double value,
+                                                 BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("indexedFilterDataByRelativeExp",
+                index.getArrayValue(DATASET));
+        SortedNumericIndex sortedIndex = getIndex(index);
+        int[] rows = sortedIndex.filter(operation.getValue(), value);
+        if (rows == null) {
+            sortedIndex = buildIndex(index);
+            rows = sortedIndex.filter(operation.getValue(), value);
+        }
+        BArray dataset = sortedIndex.getDataset();
+        BArray filteredDataset = initializeBArray(returnType);
+        for (int row : rows) {
+            filteredDataset.append(copyBMap((BMap<BString, Object>) dataset.get(row), returnType));
+        }
+        return observer.complete(filteredDataset);
+    }
+
+    public static Object categorizeNumeric(BObject index, Object categoryRanges, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("indexedCategorizeNumeric", index.getArrayValue(DATASET));
+        SortedNumericIndex sortedIndex = getIndex(index);
+        if (categoryRanges instanceof Long numCategories) {
+            if (numCategories < 1) {
+                return observer.complete(ErrorUtils.createETLError("The number of categories must be positive"));
+            }
+            if (numCategories > Math.max(1, sortedIndex.getDataset().size())) {
+                return observer.complete(ErrorUtils.createETLError(
+                        "The number of categories must not exceed the number of records"));
+            }
+        }
+        int[][] categories = categorize(sortedIndex, categoryRanges);
+        if (categories == null) {
+            sortedIndex = buildIndex(index);
+            categories = categorize(sortedIndex, categoryRanges);
+        }
+        BArray dataset = sortedIndex.getDataset();
+        BArray categorizedData = initializeNestedBArray(returnType, categories.length);
+        for (int i = 0; i < categories.length; i++) {
+            for (int row : categories[i]) {
+                ((BArray) categorizedData.get(i)).append(dataset.get(row));
+            }
+        }
+        return observer.complete(categorizedData);
+    }
+
+    private static int[][] categorize(SortedNumericIndex sortedIndex, Object categoryRanges) {
+        double[] bounds = categoryRanges instanceof Long numCategories
+                ? sortedIndex.getQuantileBounds(numCategories.intValue())
+                : EtlCategorization.getRangeBounds((BArray) categoryRanges);
+        return sortedIndex.categorize(bounds);
+    }
+
+    /**
+     * Returns the index of the handle, rebuilding it first if records were added to or removed from the dataset.
+     */
+    private static SortedNumericIndex getIndex(BObject index) {
+        SortedNumericIndex sortedIndex = (SortedNumericIndex) index.getNativeData(SORTED_INDEX);
+        if (sortedIndex == null || sortedIndex.isStale(index.getArrayValue(DATASET))) {
+            sortedIndex = buildIndex(index);
+        }
+        return sortedIndex;
+    }
+
+    private static SortedNumericIndex buildIndex(BObject index) {
+        SortedNumericIndex sortedIndex = SortedNumericIndex.build(index.getArrayValue(DATASET),
+                index.getStringValue(FIELD_NAME));
+        index.addNativeData(SORTED_INDEX, sortedIndex);
+        return sortedIndex;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.etl.observability.OperationObserver;
+import io.ballerina.stdlib.etl.utils.ErrorUtils;
+import io.ballerina.stdlib.etl.utils.PipelinePlanner;
+import io.ballerina.stdlib.etl.utils.PipelinePlanner.Stage;
+import io.ballerina.stdlib.etl.utils.PipelinePlanner.Step;
+
+import java.util.List;
+
+import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeBArray;
+import static io.ballerina.stdlib.etl.utils.PipelinePlanner.CATEGORIZE_SEMANTIC;
+import static io.ballerina.stdlib.etl.utils.PipelinePlanner.JOIN_DATA;
+import static io.ballerina.stdlib.etl.utils.PipelinePlanner.MASK_SENSITIVE_DATA;
+import static io.ballerina.stdlib.etl.utils.PipelinePlanner.REMOVE_DUPLICATES;
+import static io.ballerina.stdlib.etl.utils.PipelinePlanner.ROW_PASS;
+import static io.ballerina.stdlib.etl.utils.PipelinePlanner.STANDARDIZE_DATA;
+
+/**
+ * This class hold Java external functions for ETL - lazy pipeline APIs.
+ *
+ * * @since 0.8.0
+ */
+@SuppressWarnings("unchecked")
+public class EtlPipeline {
+
+    public static final BString RECORDS = StringUtils.fromString("records");
+    public static final BString STEPS = StringUtils.fromString("steps");
+
+    public static Object explain(BObject pipeline) {
+        Object plan = PipelinePlanner.plan(pipeline.getArrayValue(RECORDS), pipeline.getArrayValue(STEPS));
+        if (plan instanceof BError) {
+            return plan;
+        }
+        return StringUtils.fromString(PipelinePlanner.explain((List<Stage>) plan));
+    }
+
+    public static Object collect(Environment env, BObject pipeline, BTypedesc returnType) {
+        BArray dataset = pipeline.getArrayValue(RECORDS);
+        OperationObserver observer = OperationObserver.start("collect", dataset);
+        Object plan = PipelinePlanner.plan(dataset, pipeline.getArrayValue(STEPS));
+        if (plan instanceof BError) {
+            return observer.complete(plan);
+        }
+        return observer.complete(runStages(env, dataset, (List<Stage>) plan, returnType));
+    }
+
+    private static Object runStages(Environment env, BArray dataset, List<Stage> stages, BTypedesc returnType) {
+        Object result = dataset;
+        for (int i = 0; i < stages.size(); i++) {
+            Stage stage = stages.get(i);
+            // The records between the stages are typed by the fields known at that point, so that the APIs run by
+            // the next stage can validate the fields they work on. Only the last stage produces the return type.
+            BTypedesc stageType = i == stages.size() - 1 ? returnType
+                    : ValueCreator.createTypedescValue(stage.outputType());
+            Object stageResult = runStage(env, (BArray) result, stage, stageType);
+            if (stageResult instanceof BError && stage.unfilteredStages() != null) {
+                // The inner join may have failed only because of the filters moved ahead of it. If it finds a match
+                // without them, those filters would have dropped all the joined records, so no record is left.
+                List<Stage> unfilteredStages = stage.unfilteredStages();
+                Object unfilteredResult = runStages(env, dataset, unfilteredStages,
+                        ValueCreator.createTypedescValue(unfilteredStages.getLast().outputType()));
+                stageResult = unfilteredResult instanceof BError ? unfilteredResult : initializeBArray(stageType);
+            }
+            if (stageResult instanceof BError) {
+                return stageResult;
+            }
+            result = stageResult;
+        }
+        return result;
+    }
+
+    private static Object runStage(Environment env, BArray dataset, Stage stage, BTypedesc stageType) {
+        Step step = stage.steps().isEmpty() ? null : stage.steps().getFirst();
+        return switch (stage.operation()) {
+            case ROW_PASS -> PipelinePlanner.runRowPass(dataset, stage, stageType);
+            case REMOVE_DUPLICATES -> EtlCleaning.removeDuplicates(env, dataset, stageType);
+            case JOIN_DATA -> EtlEnrichment.joinData(dataset, step.dataset(), step.fieldName(), step.text(),
+                    stageType);
+            case STANDARDIZE_DATA -> EtlCleaning.standardizeData(env, dataset, step.fieldName(), step.values(),
+                    stageType);
+            case MASK_SENSITIVE_DATA -> EtlSecurity.maskSensitiveData(env, dataset, step.text(), stageType);
+            case CATEGORIZE_SEMANTIC -> {
+                Object categorized = EtlCategorization.categorizeSemantic(env, dataset, step.fieldName(),
+                        step.values(), stageType);
+                if (categorized instanceof BError) {
+                    yield categorized;
+                }
+                yield ((BArray) categorized).get(List.of(step.values().getStringArray())
+                        .indexOf(step.text().getValue()));
+            }
+            default -> ErrorUtils.createETLError(String.format("Unknown pipeline stage - '%s'", stage.operation()));
+        };
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.nativeimpl;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.etl.observability.OperationObserver;
+import io.ballerina.stdlib.etl.utils.ErrorUtils;
+import io.ballerina.stdlib.etl.utils.HyperLogLog;
+import io.ballerina.stdlib.etl.utils.TDigest;
+import io.ballerina.stdlib.etl.utils.TopKCounter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.ballerina.stdlib.etl.nativeimpl.ModuleUtils.getModule;
+
+/**
+ * This class hold Java external functions for ETL - data profiling APIs.
+ *
+ * * @since 0.8.0
+ */
+@SuppressWarnings("unchecked")
+public class EtlProfiling {
+
+    public static final String DATASET_PROFILE = "DatasetProfile";
+    public static final String FIELD_PROFILE = "FieldProfile";
+    public static final String VALUE_FREQUENCY = "ValueFrequency";
+    public static final double[] PERCENTILES = {1, 5, 10, 25, 50, 75, 90, 95, 99};
+
+    public static Object profileData(BArray dataset, long topK) {
+        OperationObserver observer = OperationObserver.start("profileData", dataset);
+        if (topK < 0) {
+            return observer.complete(ErrorUtils.createETLError("The number of top values must not be negative"));
+        }
+        Map<BString, FieldProfiler> profilers = new LinkedHashMap<>();
+        long rowCount = 0;
+        for (int i = 0; i < dataset.size(); i++) {
+            if (TypeUtils.getType(dataset.get(i)).getTag() != TypeTags.RECORD_TYPE_TAG) {
+                continue;
+            }
+            BMap<BString, Object> data = (BMap<BString, Object>) dataset.get(i);
+            rowCount++;
+            for (BString key : data.getKeys()) {
+                profilers.computeIfAbsent(key, k -> new FieldProfiler((int) topK)).add(data.get(key));
+            }
+        }
+        BMap<BString, Object> profile = ValueCreator.createRecordValue(getModule(), DATASET_PROFILE);
+        BMap<BString, Object> fields = ValueCreator.createMapValue(TypeCreator.createMapType(
+                ValueCreator.createRecordValue(getModule(), FIELD_PROFILE).getType()));
+        for (Map.Entry<BString, FieldProfiler> entry : profilers.entrySet()) {
+            fields.put(entry.getKey(), entry.getValue().toRecord(rowCount, (int) topK));
+        }
+        profile.put(StringUtils.fromString("rowCount"), rowCount);
+        profile.put(StringUtils.fromString("fields"), fields);
+        return observer.complete(profile);
+    }
+
+    /**
+     * Accumulates the statistics and sketches of a single field in one pass.
+     */
+    private static class FieldProfiler {
+
+        private final HyperLogLog distinctValues = new HyperLogLog();
+        private final TDigest numericValues = new TDigest();
+        private final TopKCounter frequentValues;
+        private long presentCount = 0;
+        private long emptyCount = 0;
+        private double sum = 0;
+
+        FieldProfiler(int topK) {
+            this.frequentValues = new TopKCounter(topK);
+        }
+
+        void add(Object value) {
+            if (value == null) {
+                return;
+            }
+            presentCount++;
+            if (value instanceof BString bString && bString.getValue().isEmpty()) {
+                emptyCount++;
+            }
+            distinctValues.add(value);
+            frequentValues.add(value);
+            double numericValue;
+            if (value instanceof Long longValue) {
+                numericValue = longValue;
+            } else if (value instanceof Double doubleValue) {
+                numericValue = doubleValue;
+            } else if (value instanceof BDecimal decimalValue) {
+                numericValue = decimalValue.floatValue();
+            } else {
+                return;
+            }
+            sum += numericValue;
+            numericValues.add(numericValue);
+        }
+
+        BMap<BString, Object> toRecord(long rowCount, int topK) {
+            BMap<BString, Object> fieldProfile = ValueCreator.createRecordValue(getModule(), FIELD_PROFILE);
+            fieldProfile.put(StringUtils.fromString("nullRatio"),
+                    rowCount == 0 ? 0.0 : (double) (rowCount - presentCount) / rowCount);
+            fieldProfile.put(StringUtils.fromString("emptyRatio"),
+                    rowCount == 0 ? 0.0 : (double) emptyCount / rowCount);
+            fieldProfile.put(StringUtils.fromString("distinctCount"), Math.min(presentCount,
+                    distinctValues.estimate()));
+            boolean numeric = numericValues.size() > 0;
+            fieldProfile.put(StringUtils.fromString("min"), numeric ? numericValues.getMin() : null);
+            fieldProfile.put(StringUtils.fromString("max"), numeric ? numericValues.getMax() : null);
+            fieldProfile.put(StringUtils.fromString("mean"), numeric ? sum / numericValues.size() : null);
+            BMap<BString, Object> quantiles = ValueCreator.createMapValue(
+                    TypeCreator.createMapType(PredefinedTypes.TYPE_FLOAT));
+            if (numeric) {
+                for (double percentile : PERCENTILES) {
+                    quantiles.put(StringUtils.fromString("p" + (int) percentile),
+                            numericValues.quantile(percentile / 100));
+                }
+            }
+            fieldProfile.put(StringUtils.fromString("quantiles"), quantiles);
+            BArray topValues = ValueCreator.createArrayValue(TypeCreator.createArrayType(
+                    ValueCreator.createRecordValue(getModule(), VALUE_FREQUENCY).getType()));
+            for (Map.Entry<Object, Long> frequentValue : frequentValues.top(topK)) {
+                BMap<BString, Object> valueFrequency = ValueCreator.createRecordValue(getModule(), VALUE_FREQUENCY);
+                valueFrequency.put(StringUtils.fromString("value"), frequentValue.getKey());
+                valueFrequency.put(StringUtils.fromString("count"), frequentValue.getValue());
+                topValues.append(valueFrequency);
+            }
+            fieldProfile.put(StringUtils.fromString("topValues"), topValues);
+            return fieldProfile;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.nativeimpl;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.etl.utils.ErrorUtils;
+import io.ballerina.stdlib.etl.utils.RateLimiter;
+
+/**
+ * This class hold Java external functions for ETL - rate limiting of LLM
+ * requests.
+ *
+ * * @since 0.8.0
+ */
+public class EtlRateLimiting {
+
+    public static Object acquireRateLimit(Environment env, BString operation, long estimatedTokens) {
+        return env.yieldAndRun(() -> {
+            try {
+                RateLimiter.acquire(operation.getValue(), estimatedTokens);
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return ErrorUtils.createETLError("Operation interrupted while waiting for the rate limit");
+            }
+        });
+    }
+
+    public static void settleRateLimit(long estimatedTokens, long actualTokens) {
+        RateLimiter.settle(estimatedTokens, actualTokens);
+    }
+
+    public static void updateRateLimits(BMap<BString, Object> headers) {
+        RateLimiter.update(headers);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.nativeimpl;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import io.ballerina.stdlib.etl.observability.OperationObserver;
+import io.ballerina.stdlib.etl.utils.RecordFileReader;
+
+import java.nio.file.Paths;
+
+/**
+ * This class hold Java external functions for ETL - data reading APIs.
+ *
+ * * @since 0.8.0
+ */
+public class EtlReader {
+
+    public static Object readCsv(BString filePath, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("readCsv", 0);
+        return observer.complete(RecordFileReader.readCsv(Paths.get(filePath.getValue()), returnType));
+    }
+
+    public static Object readJsonl(BString filePath, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("readJsonl", 0);
+        return observer.complete(RecordFileReader.readJsonl(Paths.get(filePath.getValue()), returnType));
+    }
+}
@@ -29,16 +29,20 @@ import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 import io.ballerina.stdlib.crypto.nativeimpl.Decrypt;
 import io.ballerina.stdlib.crypto.nativeimpl.Encrypt;
+import io.ballerina.stdlib.etl.observability.OperationObserver;
+import io.ballerina.stdlib.etl.utils.ChunkProcessor.ChunkHandler;
 import io.ballerina.stdlib.etl.utils.ErrorUtils;
 import org.ballerinalang.langlib.array.FromBase64;
 import org.ballerinalang.langlib.array.ToBase64;
 
 import java.nio.charset.StandardCharsets;
 
+import static io.ballerina.stdlib.etl.utils.ChunkProcessor.processChunks;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.contains;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeBArray;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeBMap;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.isFieldExist;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.mergeBArrays;
 import static io.ballerina.stdlib.etl.utils.CommonUtils.processResponseToBArray;
 
 /**
@@ -53,10 +57,11 @@ public class EtlSecurity {
     public static final String PKCS5 = "PKCS5";
 
     public static Object encryptData(BArray dataset, BArray fieldNames, BArray key, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("encryptData", dataset);
         for (int i = 0; i < fieldNames.size(); i++) {
             if (!isFieldExist(dataset, fieldNames.getBString(i))) {
-                return ErrorUtils.createETLError(
-                        String.format("The dataset does not contain the field - '%s'", fieldNames.getBString(i)));
+                return observer.complete(ErrorUtils.createETLError(
+                        String.format("The dataset does not contain the field - '%s'", fieldNames.getBString(i))));
             }
         }
         BArray encryptedDataset = initializeBArray(returnType);
@@ -82,14 +87,15 @@ public class EtlSecurity {
             }
             encryptedDataset.append(encryptedData);
         }
-        return encryptedDataset;
+        return observer.complete(encryptedDataset);
     }
 
     public static Object decryptData(BArray dataset, BArray fieldNames, BArray key, BTypedesc returnType) {
+        OperationObserver observer = OperationObserver.start("decryptData", dataset);
         for (int i = 0; i < fieldNames.size(); i++) {
             if (!isFieldExist(dataset, fieldNames.getBString(i))) {
-                return ErrorUtils.createETLError(
-                        String.format("The dataset does not contain the field - '%s'", fieldNames.getBString(i)));
+                return observer.complete(ErrorUtils.createETLError(
+                        String.format("The dataset does not contain the field - '%s'", fieldNames.getBString(i))));
             }
         }
         BArray decryptedDataset = initializeBArray(returnType);
@@ -120,26 +126,27 @@ public class EtlSecurity {
             }
             decryptedDataset.append(decryptedData);
         }
-        return decryptedDataset;
+        return observer.complete(decryptedDataset);
     }
 
     public static Object maskSensitiveData(Environment env, BArray dataset, BString maskCharacter,
             BTypedesc returnType) {
-        BArray mergedResult = initializeBArray(returnType);
-        for (int i = 0; i < dataset.size(); i += 200) {
-            int end = Math.min(i + 200, dataset.size());
-            BArray chunk = dataset.slice(i, end);
-            Object[] args = new Object[] { chunk, maskCharacter };
-            Object clientResponse = env.getRuntime().callFunction(env.getCurrentModule(), MASK_SENSITIVE_DATA, null,
-                    args);
-            Object chunkResult = processResponseToBArray(clientResponse, returnType);
-            if (TypeUtils.getType(chunkResult).getTag() != TypeTags.ARRAY_TAG) {
-                return chunkResult;
-            }
-            for (int j = 0; j < ((BArray) chunkResult).size(); j++) {
-                mergedResult.append(((BArray) chunkResult).get(j));
-            }
-        }
-        return mergedResult;
+        return env.yieldAndRun(() -> {
+            OperationObserver observer = OperationObserver.start("maskSensitiveData", dataset);
+            BArray mergedResult = initializeBArray(returnType);
+            Object[] args = new Object[] { maskCharacter };
+            return observer.complete(processChunks(env, observer, MASK_SENSITIVE_DATA, dataset, args,
+                    new ChunkHandler() {
+                        @Override
+                        public Object convert(Object clientResponse, BArray chunk, int chunkStart) {
+                            return processResponseToBArray(clientResponse, returnType);
+                        }
+
+                        @Override
+                        public void merge(BArray chunkResult) {
+                            mergeBArrays(mergedResult, chunkResult);
+                        }
+                    }, mergedResult));
+        });
     }
 }
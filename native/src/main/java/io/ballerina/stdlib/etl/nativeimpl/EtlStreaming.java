@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.nativeimpl;
+
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.etl.utils.ErrorUtils;
+import io.ballerina.stdlib.etl.utils.StreamingJsonParser;
+
+/**
+ * This class hold Java external functions for ETL - streamed LLM response
+ * parsing.
+ *
+ * * @since 0.8.0
+ */
+public class EtlStreaming {
+
+    public static Object appendStreamContent(BHandle parser, BString content) {
+        try {
+            ((StreamingJsonParser) parser.getValue()).append(content.getValue());
+            return null;
+        } catch (BError e) {
+            return ErrorUtils.createETLError(
+                    String.format("Error occurred while parsing the streamed response: %s", e.getMessage()));
+        }
+    }
+
+    public static Object getStreamedContent(BHandle parser) {
+        StreamingJsonParser streamingParser = (StreamingJsonParser) parser.getValue();
+        if (!streamingParser.isClosed()) {
+            return ErrorUtils.createETLError("The streamed response ended before the JSON array was closed");
+        }
+        return streamingParser.getElements();
+    }
+}
@@ -20,6 +20,14 @@ package io.ballerina.stdlib.etl.nativeimpl;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.etl.utils.ChunkProcessor;
+import io.ballerina.stdlib.etl.utils.LabelMemo;
+import io.ballerina.stdlib.etl.utils.RateLimiter;
+import io.ballerina.stdlib.etl.utils.SpillingJoin;
+
+import static io.ballerina.stdlib.etl.utils.CommonUtils.CHUNK_SIZE;
 
 /**
  * This class will hold module related utility functions.
@@ -40,4 +48,24 @@ public class ModuleUtils {
   public static Module getModule() {
     return etlModule;
   }
+
+  public static long getChunkSize() {
+    return CHUNK_SIZE;
+  }
+
+  public static void setChunkConfig(BMap<BString, Object> chunkConfig) {
+    ChunkProcessor.configure(chunkConfig);
+  }
+
+  public static void setJoinConfig(BMap<BString, Object> joinConfig) {
+    SpillingJoin.configure(joinConfig);
+  }
+
+  public static void setLabelMemoConfig(BMap<BString, Object> labelMemoConfig) {
+    LabelMemo.configure(labelMemoConfig);
+  }
+
+  public static void setRateLimitConfig(BMap<BString, Object> rateLimitConfig) {
+    RateLimiter.configure(rateLimitConfig);
+  }
 }
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event emitted for every chunk that an LLM-backed ETL API sends to the model.
+ *
+ * @since 0.8.0
+ */
+@Name("ballerina.etl.Chunk")
+@Label("ETL LLM Chunk")
+@Category({"Ballerina", "ETL"})
+@Description("A single chunk request sent to the LLM by an ETL API")
+@StackTrace(false)
+public class ChunkEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Chunk Index")
+    int chunkIndex;
+
+    @Label("Rows")
+    long rows;
+
+    @Label("LLM Latency")
+    @Timespan(Timespan.NANOSECONDS)
+    long llmLatency;
+
+    @Label("Time To First Record")
+    @Description("Time until the first record of a streamed response was parsed, or 0 when not streamed")
+    @Timespan(Timespan.NANOSECONDS)
+    long timeToFirstRecord;
+
+    @Label("Response Parse Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long parseTime;
+
+    @Label("Failed")
+    boolean failed;
+
+    transient long llmStartTime;
+    transient long parseStartTime;
+}
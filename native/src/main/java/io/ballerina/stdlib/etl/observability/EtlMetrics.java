@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.observability;
+
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the Ballerina observability metrics published for each ETL operation.
+ * Metrics are registered lazily per operation, so nothing is created unless metrics are enabled.
+ *
+ * @since 0.8.0
+ */
+public class EtlMetrics {
+
+    public static final String OPERATION_TAG = "etl_operation";
+
+    private static final StatisticConfig STATISTIC_CONFIG = StatisticConfig.builder()
+            .expiry(Duration.ofMinutes(10))
+            .buckets(5)
+            .percentiles(0.5, 0.75, 0.95, 0.99)
+            .build();
+    private static final Map<String, EtlMetrics> METRICS = new ConcurrentHashMap<>();
+
+    final Counter invocations;
+    final Counter errors;
+    final Counter rowsIn;
+    final Counter rowsOut;
+    final Counter chunks;
+    final Gauge duration;
+    final Gauge llmLatency;
+    final Gauge parseTime;
+    final Gauge timeToFirstRecord;
+
+    private EtlMetrics(String operation) {
+        invocations = counter("etl_operation_requests_total", "Total number of ETL operation calls", operation);
+        errors = counter("etl_operation_errors_total", "Total number of failed ETL operation calls", operation);
+        rowsIn = counter("etl_operation_rows_in_total", "Total number of input rows", operation);
+        rowsOut = counter("etl_operation_rows_out_total", "Total number of output rows", operation);
+        chunks = counter("etl_operation_chunks_total", "Total number of chunks sent to the LLM", operation);
+        duration = gauge("etl_operation_duration_seconds", "Elapsed time of ETL operation calls", operation);
+        llmLatency = gauge("etl_llm_latency_seconds", "Latency of a single LLM chunk request", operation);
+        parseTime = gauge("etl_response_parse_seconds", "Time taken to parse a single LLM response", operation);
+        timeToFirstRecord = gauge("etl_llm_first_record_seconds",
+                "Time until the first record of a streamed LLM response is parsed", operation);
+    }
+
+    static EtlMetrics forOperation(String operation) {
+        return METRICS.computeIfAbsent(operation, EtlMetrics::new);
+    }
+
+    private static Counter counter(String name, String description, String operation) {
+        return Counter.builder(name).description(description).tag(OPERATION_TAG, operation).register();
+    }
+
+    private static Gauge gauge(String name, String description, String operation) {
+        return Gauge.builder(name).description(description).tag(OPERATION_TAG, operation)
+                .summarize(STATISTIC_CONFIG).register();
+    }
+}
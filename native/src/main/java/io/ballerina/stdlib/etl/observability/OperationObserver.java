@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.observability;
+
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.observability.ObserveUtils;
+
+/**
+ * Records the JFR events and the Ballerina metrics of a single ETL operation call.
+ * When neither JFR nor Ballerina metrics are enabled, a no-op observer is returned so that the
+ * instrumented APIs only pay for one flag check.
+ *
+ * @since 0.8.0
+ */
+public class OperationObserver {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+    private static final OperationObserver NO_OP = new OperationObserver();
+
+    private final String operation;
+    private final EtlMetrics metrics;
+    private final OperationEvent event;
+    private final long startTime;
+    private int chunks;
+    private long llmTime;
+    private long parseTime;
+    private int errors;
+
+    private OperationObserver() {
+        this.operation = null;
+        this.metrics = null;
+        this.event = null;
+        this.startTime = 0;
+    }
+
+    private OperationObserver(String operation, long rowsIn, EtlMetrics metrics, OperationEvent event) {
+        this.operation = operation;
+        this.metrics = metrics;
+        this.event = event;
+        this.startTime = System.nanoTime();
+        if (event != null) {
+            event.operation = operation;
+            event.rowsIn = rowsIn;
+            event.begin();
+        }
+        if (metrics != null) {
+            metrics.invocations.increment();
+            metrics.rowsIn.increment(rowsIn);
+        }
+    }
+
+    public static OperationObserver start(String operation, long rowsIn) {
+        OperationEvent event = new OperationEvent();
+        boolean metricsEnabled = ObserveUtils.isMetricsEnabled();
+        if (!metricsEnabled && !event.isEnabled()) {
+            return NO_OP;
+        }
+        return new OperationObserver(operation, rowsIn, metricsEnabled ? EtlMetrics.forOperation(operation) : null,
+                event.isEnabled() ? event : null);
+    }
+
+    public static OperationObserver start(String operation, BArray dataset) {
+        OperationEvent event = new OperationEvent();
+        boolean metricsEnabled = ObserveUtils.isMetricsEnabled();
+        if (!metricsEnabled && !event.isEnabled()) {
+            return NO_OP;
+        }
+        long rowsIn = TypeUtils.getReferredType(dataset.getElementType()).getTag() == TypeTags.ARRAY_TAG
+                ? countRows(dataset) : dataset.size();
+        return new OperationObserver(operation, rowsIn, metricsEnabled ? EtlMetrics.forOperation(operation) : null,
+                event.isEnabled() ? event : null);
+    }
+
+    public boolean isEnabled() {
+        return this != NO_OP;
+    }
+
+    public ChunkEvent startChunk(int chunkIndex, long rows) {
+        if (this == NO_OP) {
+            return null;
+        }
+        ChunkEvent chunkEvent = new ChunkEvent();
+        chunkEvent.operation = operation;
+        chunkEvent.chunkIndex = chunkIndex;
+        chunkEvent.rows = rows;
+        chunkEvent.begin();
+        chunkEvent.llmStartTime = System.nanoTime();
+        return chunkEvent;
+    }
+
+    public void firstRecord(ChunkEvent chunkEvent) {
+        if (chunkEvent == null || chunkEvent.timeToFirstRecord != 0) {
+            return;
+        }
+        chunkEvent.timeToFirstRecord = System.nanoTime() - chunkEvent.llmStartTime;
+        if (metrics != null) {
+            metrics.timeToFirstRecord.setValue(chunkEvent.timeToFirstRecord / NANOS_PER_SECOND);
+        }
+    }
+
+    public void endLlmCall(ChunkEvent chunkEvent) {
+        if (chunkEvent == null) {
+            return;
+        }
+        chunkEvent.parseStartTime = System.nanoTime();
+        chunkEvent.llmLatency = chunkEvent.parseStartTime - chunkEvent.llmStartTime;
+    }
+
+    public synchronized void endChunk(ChunkEvent chunkEvent, Object chunkResult) {
+        if (chunkEvent == null) {
+            return;
+        }
+        long chunkParseTime = System.nanoTime() - chunkEvent.parseStartTime;
+        long chunkLlmTime = chunkEvent.llmLatency;
+        chunks++;
+        llmTime += chunkLlmTime;
+        parseTime += chunkParseTime;
+        chunkEvent.parseTime = chunkParseTime;
+        chunkEvent.failed = chunkResult instanceof BError;
+        if (chunkEvent.failed) {
+            errors++;
+        }
+        chunkEvent.end();
+        if (chunkEvent.shouldCommit()) {
+            chunkEvent.commit();
+        }
+        if (metrics != null) {
+            metrics.chunks.increment();
+            metrics.llmLatency.setValue(chunkLlmTime / NANOS_PER_SECOND);
+            metrics.parseTime.setValue(chunkParseTime / NANOS_PER_SECOND);
+        }
+    }
+
+    public Object complete(Object result) {
+        if (this == NO_OP) {
+            return result;
+        }
+        long rowsOut = countRows(result);
+        if (result instanceof BError) {
+            errors++;
+        }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.rowsOut = rowsOut;
+                event.chunks = chunks;
+                event.llmTime = llmTime;
+                event.parseTime = parseTime;
+                event.errors = errors;
+                event.commit();
+            }
+        }
+        if (metrics != null) {
+            metrics.rowsOut.increment(rowsOut);
+            metrics.duration.setValue((System.nanoTime() - startTime) / NANOS_PER_SECOND);
+            if (errors > 0) {
+                metrics.errors.increment();
+            }
+        }
+        return result;
+    }
+
+    private static long countRows(Object result) {
+        if (result == null || result instanceof BError) {
+            return 0;
+        }
+        if (result instanceof Long count) {
+            return count;
+        }
+        if (TypeUtils.getType(result).getTag() != TypeTags.ARRAY_TAG) {
+            return 1;
+        }
+        BArray rows = (BArray) result;
+        long count = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            Object row = rows.get(i);
+            if (row != null && TypeUtils.getType(row).getTag() == TypeTags.ARRAY_TAG) {
+                count += ((BArray) row).size();
+            } else {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.etl.utils.ChunkProcessor.ChunkHandler;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the requests of the LLM-backed APIs to a JSONL file in the OpenAI batch input format, and rebuilds the
+ * results of the APIs from a batch output file. Each request line has a `custom_id` of the form
+ * `<operation>-<start row>-<end row>`, so that the result lines can be matched to the input rows in any order.
+ *
+ * @since 0.8.0
+ */
+@SuppressWarnings("unchecked")
+public class BatchProcessor {
+
+    public static final String BATCH_REQUEST_FUNCTION = "getBatchRequest";
+    public static final String CUSTOM_ID = "custom_id";
+    public static final String RESPONSE = "response";
+    public static final String STATUS_CODE = "status_code";
+    public static final String BODY = "body";
+    public static final String CHOICES = "choices";
+    public static final String MESSAGE = "message";
+    public static final String CONTENT = "content";
+    public static final String ERROR = "error";
+    public static final long STATUS_OK = 200;
+    public static final String INVALID_RESPONSE_MESSAGE =
+            "Operation failed due to an invalid response in the batch result.";
+
+    private BatchProcessor() {
+    }
+
+    /**
+     * Provides the arguments of the prompt function for the rows from `start` (inclusive) to `end` (exclusive).
+     */
+    public interface PromptArguments {
+
+        Object[] get(int start, int end);
+    }
+
+    public static Object writeBatchRequests(Environment env, String operation, String promptFunction,
+            long rows, int chunkSize, PromptArguments promptArguments, Path filePath) {
+        Path tempFile = null;
+        try {
+            Path directory = filePath.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, null, null);
+            try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                for (int i = 0; i < rows; i += chunkSize) {
+                    int end = (int) Math.min(i + chunkSize, rows);
+                    Object prompt = env.getRuntime().callFunction(env.getCurrentModule(), promptFunction, null,
+                            promptArguments.get(i, end));
+                    Object request = env.getRuntime().callFunction(env.getCurrentModule(), BATCH_REQUEST_FUNCTION,
+                            null, StringUtils.fromString(operation),
+                            StringUtils.fromString(getCustomId(operation, i, end)), prompt);
+                    if (request instanceof BError) {
+                        return request;
+                    }
+                    writer.write(StringUtils.getStringValue(request));
+                    writer.newLine();
+                }
+            }
+            Files.move(tempFile, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return null;
+        } catch (IOException e) {
+            return ErrorUtils.createETLError(String.format(
+                    "Error occurred while writing the batch requests to '%s': %s", filePath, e.getMessage()));
+        } finally {
+            deleteTempFile(tempFile);
+        }
+    }
+
+    public static Object readBatchResults(String operation, Path filePath, BArray dataset, int chunkSize,
+            ChunkHandler handler, BArray result) {
+        Map<String, Object> responses = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Object resultLine = JsonUtils.parse(line);
+                if (TypeUtils.getType(resultLine).getTag() != TypeTags.MAP_TAG) {
+                    return ErrorUtils.createETLError(
+                            String.format("Invalid batch result found in '%s': %s", filePath, line));
+                }
+                BMap<BString, Object> batchResult = (BMap<BString, Object>) resultLine;
+                Object customId = batchResult.get(StringUtils.fromString(CUSTOM_ID));
+                if (customId != null) {
+                    responses.put(customId.toString(), getResponseContent(batchResult));
+                }
+            }
+        } catch (IOException e) {
+            return ErrorUtils.createETLError(String.format(
+                    "Error occurred while reading the batch results from '%s': %s", filePath, e.getMessage()));
+        } catch (BError e) {
+            return ErrorUtils.createETLError(
+                    String.format("Invalid batch result found in '%s': %s", filePath, e.getMessage()));
+        }
+        List<long[]> failedRanges = new ArrayList<>();
+        List<String> failureMessages = new ArrayList<>();
+        for (int i = 0; i < dataset.size(); i += chunkSize) {
+            int end = Math.min(i + chunkSize, dataset.size());
+            Object content = responses.get(getCustomId(operation, i, end));
+            Object chunkResult = content == null
+                    ? ErrorUtils.createETLError(String.format("No batch result found for the rows %d to %d", i, end))
+                    : handler.convert(content, dataset.slice(i, end), i);
+            if (TypeUtils.getType(chunkResult).getTag() == TypeTags.ARRAY_TAG) {
+                handler.merge((BArray) chunkResult);
+                continue;
+            }
+            if (!ChunkProcessor.isReturnPartialResults()) {
+                return chunkResult;
+            }
+            failedRanges.add(new long[] { i, end });
+            failureMessages.add(((BError) chunkResult).getErrorMessage().getValue());
+        }
+        handler.complete();
+        if (failedRanges.isEmpty()) {
+            return result;
+        }
+        return ErrorUtils.createPartialResultError(result, failedRanges, failureMessages);
+    }
+
+    private static String getCustomId(String operation, int start, int end) {
+        return String.format("%s-%d-%d", operation, start, end);
+    }
+
+    private static Object getResponseContent(BMap<BString, Object> batchResult) {
+        Object error = batchResult.get(StringUtils.fromString(ERROR));
+        if (error instanceof BMap<?, ?> errorDetail) {
+            return ErrorUtils.createETLError(String.format("The batch request failed: %s",
+                    errorDetail.get(StringUtils.fromString(MESSAGE))));
+        }
+        Object response = batchResult.get(StringUtils.fromString(RESPONSE));
+        if (!(response instanceof BMap<?, ?> responseDetail)) {
+            return ErrorUtils.createETLError("The batch result does not contain a response");
+        }
+        Object statusCode = responseDetail.get(StringUtils.fromString(STATUS_CODE));
+        if (!(statusCode instanceof Long) || (Long) statusCode != STATUS_OK) {
+            return ErrorUtils.createETLError(
+                    String.format("The batch request failed with the status code %s", statusCode));
+        }
+        Object body = responseDetail.get(StringUtils.fromString(BODY));
+        Object choices = body instanceof BMap<?, ?> bodyDetail ? bodyDetail.get(StringUtils.fromString(CHOICES)) : null;
+        Object choice = choices instanceof BArray choiceArray && choiceArray.size() > 0 ? choiceArray.get(0) : null;
+        Object message = choice instanceof BMap<?, ?> choiceDetail
+                ? choiceDetail.get(StringUtils.fromString(MESSAGE)) : null;
+        Object content = message instanceof BMap<?, ?> messageDetail
+                ? messageDetail.get(StringUtils.fromString(CONTENT)) : null;
+        if (!(content instanceof BString)) {
+            return ErrorUtils.createETLError(INVALID_RESPONSE_MESSAGE);
+        }
+        try {
+            return JsonUtils.parse(((BString) content).getValue());
+        } catch (BError e) {
+            return ErrorUtils.createETLError(INVALID_RESPONSE_MESSAGE);
+        }
+    }
+
+    private static void deleteTempFile(Path tempFile) {
+        if (tempFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            // The temporary file is only left behind when it cannot be deleted.
+        }
+    }
+}
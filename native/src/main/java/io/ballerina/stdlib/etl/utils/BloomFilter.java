@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+/**
+ * A fixed size Bloom filter over the hash codes of join keys. It answers whether a key may have been added, with no
+ * false negatives and a false positive rate of about 1% at the expected number of keys.
+ *
+ * @since 0.8.0
+ */
+public class BloomFilter {
+
+    public static final int BITS_PER_KEY = 10;
+    public static final int HASH_FUNCTIONS = 7;
+
+    private final long[] bits;
+    private final long numBits;
+
+    public BloomFilter(int expectedKeys) {
+        int words = Math.max(1, (int) (((long) expectedKeys * BITS_PER_KEY + 63) / 64));
+        this.bits = new long[words];
+        this.numBits = (long) words * 64;
+    }
+
+    public void add(Object key) {
+        long hash = mix(key.hashCode());
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, numBits);
+            bits[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    public boolean mightContain(Object key) {
+        long hash = mix(key.hashCode());
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, numBits);
+            if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Spreads the 32-bit hash code over 64 bits (the MurmurHash3 finalizer), so that the two derived hashes are
+    // independent enough for double hashing.
+    private static long mix(int hashCode) {
+        long hash = hashCode;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.etl.observability.ChunkEvent;
+import io.ballerina.stdlib.etl.observability.OperationObserver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.ballerina.stdlib.etl.utils.CommonUtils.CHUNK_SIZE;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.CLIENT_CONNECTOR_ERROR;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.CLIENT_REQUEST_ERROR;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.IDLE_TIMEOUT_ERROR;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.REMOTE_SERVER_ERROR;
+
+/**
+ * Sends a dataset to an LLM-backed function chunk by chunk. Transient failures of a chunk are retried with
+ * exponential backoff and jitter, completed chunks can be checkpointed so that a re-run only resends the failed
+ * ones, and the successful chunks can be returned together with the failed row ranges.
+ *
+ * @since 0.8.0
+ */
+public class ChunkProcessor {
+
+    public static final String MAX_RETRIES = "maxRetries";
+    public static final String RETRY_INTERVAL = "retryInterval";
+    public static final String BACK_OFF_FACTOR = "backOffFactor";
+    public static final String MAX_RETRY_INTERVAL = "maxRetryInterval";
+    public static final String CHECKPOINT_DIRECTORY = "checkpointDirectory";
+    public static final String RETURN_PARTIAL_RESULTS = "returnPartialResults";
+    public static final String STREAM_RESPONSES = "streamResponses";
+    public static final String MAX_CONCURRENT_REQUESTS = "maxConcurrentRequests";
+    public static final String STATUS_CODE = "statusCode";
+    public static final String CHECKPOINT_FILE_EXTENSION = ".json";
+    public static final long TOO_MANY_REQUESTS = 429;
+    public static final long REQUEST_TIMEOUT = 408;
+
+    private static final System.Logger LOGGER = System.getLogger(ChunkProcessor.class.getName());
+
+    private static volatile int maxRetries = 3;
+    private static volatile long retryIntervalMillis = 1000;
+    private static volatile double backOffFactor = 2.0;
+    private static volatile long maxRetryIntervalMillis = 30000;
+    private static volatile Path checkpointDirectory = null;
+    private static volatile boolean returnPartialResults = false;
+    private static volatile boolean streamResponses = false;
+    private static volatile int maxConcurrentRequests = 4;
+
+    private ChunkProcessor() {
+    }
+
+    /**
+     * Converts the response of a chunk and merges the converted records into the final result.
+     */
+    public interface ChunkHandler {
+
+        /**
+         * Converts the response of the chunk that starts at the given index of the dataset.
+         */
+        Object convert(Object clientResponse, BArray chunk, int chunkStart);
+
+        void merge(BArray chunkResult);
+
+        /**
+         * Merges a single row of the response of the chunk that starts at the given index of the dataset, keyed
+         * by the row id that it carries. The rows of a streamed response are merged as soon as they are parsed,
+         * and the rows of any other response before it is converted. A row merged again overwrites the earlier one.
+         */
+        default void mergeRow(Object row, BArray chunk, int chunkStart) {
+        }
+
+        /**
+         * Drops the rows merged for the chunk that starts at the given index of the dataset, when its response
+         * failed or is sent again.
+         */
+        default void clearRows(BArray chunk, int chunkStart) {
+        }
+
+        /**
+         * Completes the final result once every chunk has been processed, before it is returned on its own or
+         * with the failed row ranges.
+         */
+        default void complete() {
+        }
+    }
+
+    public static void configure(BMap<BString, Object> config) {
+        maxRetries = Math.toIntExact(config.getIntValue(StringUtils.fromString(MAX_RETRIES)));
+        retryIntervalMillis = toMillis(config.get(StringUtils.fromString(RETRY_INTERVAL)));
+        backOffFactor = config.getFloatValue(StringUtils.fromString(BACK_OFF_FACTOR));
+        maxRetryIntervalMillis = toMillis(config.get(StringUtils.fromString(MAX_RETRY_INTERVAL)));
+        Object directory = config.get(StringUtils.fromString(CHECKPOINT_DIRECTORY));
+        checkpointDirectory = directory == null ? null : Paths.get(directory.toString());
+        returnPartialResults = config.getBooleanValue(StringUtils.fromString(RETURN_PARTIAL_RESULTS));
+        streamResponses = config.getBooleanValue(StringUtils.fromString(STREAM_RESPONSES));
+        maxConcurrentRequests = Math.toIntExact(config.getIntValue(StringUtils.fromString(MAX_CONCURRENT_REQUESTS)));
+    }
+
+    public static int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public static boolean isReturnPartialResults() {
+        return returnPartialResults;
+    }
+
+    public static Object processChunks(Environment env, OperationObserver observer, String functionName,
+            BArray dataset, Object[] args, ChunkHandler handler, BArray result) {
+        List<long[]> failedRanges = new ArrayList<>();
+        List<String> failureMessages = new ArrayList<>();
+        for (int i = 0; i < dataset.size(); i += CHUNK_SIZE) {
+            int end = Math.min(i + CHUNK_SIZE, dataset.size());
+            BArray chunk = dataset.slice(i, end);
+            Object chunkResult = processChunk(env, observer, functionName, i / CHUNK_SIZE, chunk, args, handler);
+            if (TypeUtils.getType(chunkResult).getTag() == TypeTags.ARRAY_TAG) {
+                handler.merge((BArray) chunkResult);
+                continue;
+            }
+            if (!returnPartialResults) {
+                return chunkResult;
+            }
+            failedRanges.add(new long[] { i, end });
+            failureMessages.add(((BError) chunkResult).getErrorMessage().getValue());
+        }
+        handler.complete();
+        if (failedRanges.isEmpty()) {
+            return result;
+        }
+        return ErrorUtils.createPartialResultError(result, failedRanges, failureMessages);
+    }
+
+    public static Object callWithRetry(Environment env, String functionName, Object[] args) {
+        return callWithRetry(env, functionName, args, null);
+    }
+
+    private static Object callWithRetry(Environment env, String functionName, Object[] args, Runnable onRetry) {
+        Object clientResponse = env.getRuntime().callFunction(env.getCurrentModule(), functionName, null, args);
+        for (int attempt = 0; attempt < maxRetries && isTransientError(clientResponse); attempt++) {
+            try {
+                Thread.sleep(getBackOffDelay(attempt));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return clientResponse;
+            }
+            if (onRetry != null) {
+                onRetry.run();
+            }
+            clientResponse = env.getRuntime().callFunction(env.getCurrentModule(), functionName, null, args);
+        }
+        return clientResponse;
+    }
+
+    private static Object processChunk(Environment env, OperationObserver observer, String functionName,
+            int chunkIndex, BArray chunk, Object[] args, ChunkHandler handler) {
+        Object[] chunkArgs = new Object[args.length + 2];
+        chunkArgs[0] = chunk;
+        System.arraycopy(args, 0, chunkArgs, 1, args.length);
+        int chunkStart = chunkIndex * CHUNK_SIZE;
+        Path checkpoint = getCheckpointPath(functionName, chunk, args);
+        if (checkpoint != null && Files.exists(checkpoint)) {
+            try {
+                Object chunkResult = mergeAndConvert(handler,
+                        JsonUtils.parse(Files.readString(checkpoint, StandardCharsets.UTF_8)), chunk, chunkStart);
+                if (TypeUtils.getType(chunkResult).getTag() == TypeTags.ARRAY_TAG) {
+                    return chunkResult;
+                }
+            } catch (IOException | BError e) {
+                // An unreadable checkpoint is ignored and the chunk is sent to the model again.
+                handler.clearRows(chunk, chunkStart);
+            }
+        }
+        ChunkEvent chunkEvent = observer.startChunk(chunkIndex, chunk.size());
+        // The streaming parser is passed as the last argument and is nil when the response is not streamed. The
+        // rows of a streamed response are merged as they are parsed, and dropped again if the request is retried.
+        StreamingJsonParser parser = streamResponses ? new StreamingJsonParser(element -> {
+            observer.firstRecord(chunkEvent);
+            handler.mergeRow(element, chunk, chunkStart);
+        }) : null;
+        chunkArgs[chunkArgs.length - 1] = parser == null ? null : ValueCreator.createHandleValue(parser);
+        Object clientResponse = callWithRetry(env, functionName, chunkArgs, parser == null ? null : () -> {
+            parser.reset();
+            handler.clearRows(chunk, chunkStart);
+        });
+        observer.endLlmCall(chunkEvent);
+        Object chunkResult = parser == null ? mergeAndConvert(handler, clientResponse, chunk, chunkStart)
+                : convertChunk(handler, clientResponse, chunk, chunkStart);
+        observer.endChunk(chunkEvent, chunkResult);
+        if (checkpoint != null && TypeUtils.getType(chunkResult).getTag() == TypeTags.ARRAY_TAG) {
+            try {
+                writeCheckpoint(checkpoint, StringUtils.getJsonString(clientResponse));
+            } catch (IOException e) {
+                // The chunk was answered, so a failed checkpoint only means it is sent again on a rerun.
+                LOGGER.log(System.Logger.Level.WARNING, String.format(
+                        "Error occurred while writing the checkpoint '%s': %s", checkpoint, e.getMessage()));
+            }
+        }
+        return chunkResult;
+    }
+
+    private static Object mergeAndConvert(ChunkHandler handler, Object clientResponse, BArray chunk,
+            int chunkStart) {
+        if (TypeUtils.getType(clientResponse).getTag() == TypeTags.ARRAY_TAG) {
+            BArray rows = (BArray) clientResponse;
+            for (int i = 0; i < rows.size(); i++) {
+                handler.mergeRow(rows.get(i), chunk, chunkStart);
+            }
+        }
+        return convertChunk(handler, clientResponse, chunk, chunkStart);
+    }
+
+    private static Object convertChunk(ChunkHandler handler, Object clientResponse, BArray chunk, int chunkStart) {
+        Object chunkResult = handler.convert(clientResponse, chunk, chunkStart);
+        if (TypeUtils.getType(chunkResult).getTag() != TypeTags.ARRAY_TAG) {
+            handler.clearRows(chunk, chunkStart);
+        }
+        return chunkResult;
+    }
+
+    private static boolean isTransientError(Object clientResponse) {
+        if (!(clientResponse instanceof BError error)) {
+            return false;
+        }
+        switch (TypeUtils.getType(error).getName()) {
+            case IDLE_TIMEOUT_ERROR:
+            case CLIENT_CONNECTOR_ERROR:
+            case REMOTE_SERVER_ERROR:
+                return true;
+            case CLIENT_REQUEST_ERROR:
+                long statusCode = getStatusCode(error);
+                return statusCode == TOO_MANY_REQUESTS || statusCode == REQUEST_TIMEOUT;
+            default:
+                return false;
+        }
+    }
+
+    private static long getStatusCode(BError error) {
+        if (!(error.getDetails() instanceof BMap<?, ?> details)) {
+            return -1;
+        }
+        Object statusCode = details.get(StringUtils.fromString(STATUS_CODE));
+        return statusCode instanceof Long ? (Long) statusCode : -1;
+    }
+
+    private static long getBackOffDelay(int attempt) {
+        double delay = Math.min(maxRetryIntervalMillis, retryIntervalMillis * Math.pow(backOffFactor, attempt));
+        // Equal jitter keeps at least half of the backoff while spreading out retries of concurrent callers.
+        return (long) (delay / 2 + ThreadLocalRandom.current().nextDouble() * delay / 2);
+    }
+
+    private static Path getCheckpointPath(String functionName, BArray chunk, Object[] args) {
+        Path directory = checkpointDirectory;
+        if (directory == null) {
+            return null;
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(functionName.getBytes(StandardCharsets.UTF_8));
+            digest.update(StringUtils.getStringValue(chunk).getBytes(StandardCharsets.UTF_8));
+            for (Object arg : args) {
+                digest.update(StringUtils.getStringValue(arg).getBytes(StandardCharsets.UTF_8));
+            }
+            return directory.resolve(HexFormat.of().formatHex(digest.digest()) + CHECKPOINT_FILE_EXTENSION);
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    private static void writeCheckpoint(Path checkpoint, String content) throws IOException {
+        Files.createDirectories(checkpoint.getParent());
+        Path tempFile = Files.createTempFile(checkpoint.getParent(), null, null);
+        Files.writeString(tempFile, content, StandardCharsets.UTF_8);
+        Files.move(tempFile, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static long toMillis(Object seconds) {
+        return (long) (((BDecimal) seconds).floatValue() * 1000);
+    }
+}
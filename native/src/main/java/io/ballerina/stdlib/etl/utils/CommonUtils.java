@@ -35,6 +35,7 @@ import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.api.values.BTypedesc;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -48,6 +49,11 @@ public class CommonUtils {
     public static final String CLIENT_CONNECTOR_ERROR = "ClientConnectorError";
     public static final String CLIENT_REQUEST_ERROR = "ClientRequestError";
     public static final String REMOTE_SERVER_ERROR = "RemoteServerError";
+    public static final int CHUNK_SIZE = 200;
+    public static final String ROW_ID = "id";
+    public static final String ROW_VALUE = "value";
+    public static final String ROW_CATEGORY = "category";
+    public static final int NO_CATEGORY = -1;
 
     public static boolean contains(BArray array, BString key) {
         BIterator<?> iterator = array.getIterator();
@@ -189,6 +195,12 @@ public class CommonUtils {
         return returnTypeDetails;
     }
 
+    public static void mergeBArrays(BArray target, BArray source) {
+        for (int i = 0; i < source.size(); i++) {
+            target.append(source.get(i));
+        }
+    }
+
     public static void mergeNestedBArrays(BArray target, BArray source) {
         for (int i = 0; i < source.size(); i++) {
             BArray sourceCategory = (BArray) source.get(i);
@@ -213,6 +225,88 @@ public class CommonUtils {
         return convertJSONToNestedBArray(clientResponse, returnType);
     }
 
+    public static Object processIndexedCategories(Object clientResponse, BArray chunk, int numCategories,
+            BTypedesc returnType) {
+        if (TypeUtils.getType(clientResponse).getTag() != TypeTags.ARRAY_TAG) {
+            return handleClientErrorType(clientResponse);
+        }
+        int[] categories = getIndexedCategories((BArray) clientResponse, chunk, numCategories);
+        BArray categorizedData = initializeNestedBArray(returnType, numCategories);
+        for (int i = 0; i < categories.length; i++) {
+            if (categories[i] != NO_CATEGORY) {
+                ((BArray) categorizedData.get(categories[i]))
+                        .append(copyBMap((BMap<BString, Object>) chunk.get(i), returnType));
+            }
+        }
+        return categorizedData;
+    }
+
+    // Returns the category that the model gave each record of the chunk, or NO_CATEGORY when it gave none.
+    public static int[] getIndexedCategories(BArray rows, BArray chunk, int numCategories) {
+        int[] categories = new int[chunk.size()];
+        Arrays.fill(categories, NO_CATEGORY);
+        for (int i = 0; i < rows.size(); i++) {
+            int rowId = getRowId(rows.get(i), chunk);
+            if (rowId >= 0 && categories[rowId] == NO_CATEGORY) {
+                categories[rowId] = getRowCategory(rows.get(i), numCategories);
+            }
+        }
+        return categories;
+    }
+
+    public static Object processIndexedValues(Object clientResponse, BArray chunk, BString fieldName,
+            BTypedesc returnType) {
+        if (TypeUtils.getType(clientResponse).getTag() != TypeTags.ARRAY_TAG) {
+            return handleClientErrorType(clientResponse);
+        }
+        BString[] values = new BString[chunk.size()];
+        BArray rows = (BArray) clientResponse;
+        for (int i = 0; i < rows.size(); i++) {
+            int rowId = getRowId(rows.get(i), chunk);
+            BString value = rowId < 0 ? null : getRowValue(rows.get(i));
+            if (value != null) {
+                values[rowId] = value;
+            }
+        }
+        BArray result = initializeBArray(returnType);
+        for (int i = 0; i < chunk.size(); i++) {
+            BMap<BString, Object> data = copyBMap((BMap<BString, Object>) chunk.get(i), returnType);
+            if (values[i] != null) {
+                data.put(fieldName, values[i]);
+            }
+            result.append(data);
+        }
+        return result;
+    }
+
+    // Returns the index in the chunk of the record that a response row refers to, or -1 when it refers to none.
+    public static int getRowId(Object row, BArray chunk) {
+        if (TypeUtils.getType(row).getTag() != TypeTags.MAP_TAG) {
+            return -1;
+        }
+        Object rowId = ((BMap<BString, Object>) row).get(StringUtils.fromString(ROW_ID));
+        if (!(rowId instanceof Long) || (Long) rowId < 0 || (Long) rowId >= chunk.size()
+                || TypeUtils.getType(chunk.get((Long) rowId)).getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return -1;
+        }
+        return ((Long) rowId).intValue();
+    }
+
+    // Returns the category that a response row gives its record, or NO_CATEGORY when it gives no valid category.
+    public static int getRowCategory(Object row, int numCategories) {
+        Object category = ((BMap<BString, Object>) row).get(StringUtils.fromString(ROW_CATEGORY));
+        if (!(category instanceof Long) || (Long) category < 0 || (Long) category >= numCategories) {
+            return NO_CATEGORY;
+        }
+        return ((Long) category).intValue();
+    }
+
+    // Returns the standardized value that a response row gives its record, or null when it gives none.
+    public static BString getRowValue(Object row) {
+        Object value = ((BMap<BString, Object>) row).get(StringUtils.fromString(ROW_VALUE));
+        return value instanceof BString ? (BString) value : null;
+    }
+
     public static Object processResponseToRecord(Object clientResponse, BTypedesc returnType) {
         if (TypeUtils.getType(clientResponse).getTag() != TypeTags.MAP_TAG) {
             return handleClientErrorType(clientResponse);
@@ -221,6 +315,9 @@ public class CommonUtils {
     }
 
     public static Object handleClientErrorType(Object clientResponse) {
+        if (ErrorUtils.isETLError(clientResponse)) {
+            return clientResponse;
+        }
         switch (TypeUtils.getType(clientResponse).getName()) {
             case CLIENT_CONNECTOR_ERROR:
                 return ErrorUtils.createETLError("Operation failed due to client connector error");
@@ -0,0 +1,478 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Saves datasets to and loads datasets from a columnar binary file. The file starts with a header that holds the
+ * number of records and the name and kind of each column, followed by one block for each column. A block holds a
+ * bitmap of the records that have the field, a bitmap of the records where the field is nil, and the remaining values
+ * of the column. Strings with few distinct values are dictionary encoded, and blocks are optionally compressed with
+ * Deflate. Loading maps each block into memory and builds the records of the target type directly from the blocks.
+ *
+ * @since 0.8.0
+ */
+public class DatasetCodec {
+
+    public static final int MAGIC = 0x45544C44;
+    public static final short VERSION = 1;
+    public static final byte COMPRESSED = 1;
+    public static final int MAX_DICTIONARY_SIZE = 1 << 16;
+
+    public static final byte INT_COLUMN = 1;
+    public static final byte FLOAT_COLUMN = 2;
+    public static final byte DECIMAL_COLUMN = 3;
+    public static final byte BOOLEAN_COLUMN = 4;
+    public static final byte STRING_COLUMN = 5;
+    public static final byte DICTIONARY_COLUMN = 6;
+    public static final byte JSON_COLUMN = 7;
+
+    private DatasetCodec() {
+    }
+
+    /**
+     * Signals a column that cannot be loaded into the target record type.
+     */
+    private static class InvalidColumnException extends RuntimeException {
+
+        InvalidColumnException(String message) {
+            super(message);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Object save(BArray dataset, Path path, boolean compress) {
+        int rowCount = dataset.size();
+        Map<String, List<Object>> columns = new LinkedHashMap<>();
+        Type elementType = TypeUtils.getReferredType(dataset.getElementType());
+        if (elementType.getTag() == TypeTags.RECORD_TYPE_TAG) {
+            for (String fieldName : ((RecordType) elementType).getFields().keySet()) {
+                columns.put(fieldName, new ArrayList<>(rowCount));
+            }
+        }
+        for (int i = 0; i < rowCount; i++) {
+            BMap<BString, Object> data = (BMap<BString, Object>) dataset.get(i);
+            for (BString key : data.getKeys()) {
+                List<Object> column = columns.computeIfAbsent(key.getValue(), k -> new ArrayList<>(rowCount));
+                while (column.size() < i) {
+                    column.add(Absent.VALUE);
+                }
+                column.add(data.get(key));
+            }
+        }
+        Path tempFile = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeByte(compress ? COMPRESSED : 0);
+            out.writeInt(rowCount);
+            out.writeInt(columns.size());
+            for (Map.Entry<String, List<Object>> column : columns.entrySet()) {
+                List<Object> values = column.getValue();
+                while (values.size() < rowCount) {
+                    values.add(Absent.VALUE);
+                }
+                byte kind = getColumnKind(values);
+                byte[] block = encodeColumn(values, kind);
+                byte[] storedBlock = compress ? deflate(block) : block;
+                byte[] name = column.getKey().getBytes(StandardCharsets.UTF_8);
+                out.writeShort(name.length);
+                out.write(name);
+                out.writeByte(kind);
+                out.writeInt(storedBlock.length);
+                out.writeInt(block.length);
+                out.write(storedBlock);
+            }
+        } catch (IOException e) {
+            deleteTempFile(tempFile);
+            return ErrorUtils.createETLError(
+                    String.format("Error occurred while saving the dataset to '%s': %s", path, e.getMessage()));
+        }
+        try {
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteTempFile(tempFile);
+            return ErrorUtils.createETLError(
+                    String.format("Error occurred while saving the dataset to '%s': %s", path, e.getMessage()));
+        }
+        return null;
+    }
+
+    public static Object load(Path path, BTypedesc returnType) {
+        Type describingType = TypeUtils.getReferredType(returnType.getDescribingType());
+        if (describingType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return ErrorUtils.createETLError("The return type must be a record type");
+        }
+        RecordType recordType = (RecordType) describingType;
+        RecordType rowType = TypeCreator.createRecordType(describingType.getName(), describingType.getPackage(),
+                describingType.getFlags(), false, 0);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = readFully(channel, 0, 15);
+            if (header.getInt() != MAGIC) {
+                return ErrorUtils.createETLError(String.format("'%s' is not a saved dataset", path));
+            }
+            short version = header.getShort();
+            if (version != VERSION) {
+                return ErrorUtils.createETLError(
+                        String.format("The dataset '%s' has an unsupported version %d", path, version));
+            }
+            boolean compressed = header.get() == COMPRESSED;
+            int rowCount = header.getInt();
+            int columnCount = header.getInt();
+            long size = channel.size();
+            // Each column takes at least the 11 bytes of its name length, kind and block lengths.
+            if (rowCount < 0 || columnCount < 0 || columnCount > (size - header.capacity()) / 11) {
+                return ErrorUtils.createETLError(String.format("The dataset '%s' is truncated or corrupted", path));
+            }
+            Object[] records = new Object[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                records[i] = ValueCreator.createRecordValue(rowType);
+            }
+            List<String> columnNames = new ArrayList<>(columnCount);
+            long position = header.capacity();
+            for (int c = 0; c < columnCount; c++) {
+                int nameLength = Short.toUnsignedInt(readFully(channel, position, 2).getShort());
+                String name = StandardCharsets.UTF_8.decode(readFully(channel, position + 2, nameLength)).toString();
+                ByteBuffer columnHeader = readFully(channel, position + 2 + nameLength, 9);
+                byte kind = columnHeader.get();
+                int storedLength = columnHeader.getInt();
+                int rawLength = columnHeader.getInt();
+                position += 11 + nameLength;
+                if (storedLength < 0 || rawLength < 2 * ((rowCount + 7L) / 8) || storedLength > size - position
+                        || (!compressed && storedLength != rawLength)) {
+                    return ErrorUtils.createETLError(
+                            String.format("The dataset '%s' is truncated or corrupted", path));
+                }
+                ByteBuffer block = channel.map(FileChannel.MapMode.READ_ONLY, position, storedLength);
+                if (compressed) {
+                    block = inflate(block, rawLength);
+                }
+                position += storedLength;
+                columnNames.add(name);
+                decodeColumn(block, kind, rowCount, StringUtils.fromString(name),
+                        getFieldType(recordType, name), records);
+            }
+            for (Map.Entry<String, Field> field : recordType.getFields().entrySet()) {
+                if (!SymbolFlags.isFlagOn(field.getValue().getFlags(), SymbolFlags.OPTIONAL)
+                        && !columnNames.contains(field.getKey())) {
+                    return ErrorUtils.createETLError(
+                            String.format("The dataset does not contain the field - '%s'", field.getKey()));
+                }
+            }
+            return ValueCreator.createArrayValue(records, TypeCreator.createArrayType(describingType));
+        } catch (IOException | DataFormatException e) {
+            return ErrorUtils.createETLError(
+                    String.format("Error occurred while loading the dataset from '%s': %s", path, e.getMessage()));
+        } catch (InvalidColumnException e) {
+            return ErrorUtils.createETLError(e.getMessage());
+        } catch (BufferUnderflowException | IllegalArgumentException | IndexOutOfBoundsException | BError e) {
+            // The lengths and values of a column do not match its block.
+            return ErrorUtils.createETLError(String.format("The dataset '%s' is truncated or corrupted", path));
+        }
+    }
+
+    /**
+     * Marks a record that does not have the field of a column.
+     */
+    private enum Absent {
+        VALUE
+    }
+
+    private static byte getColumnKind(List<Object> values) {
+        byte kind = 0;
+        for (Object value : values) {
+            if (value == null || value == Absent.VALUE) {
+                continue;
+            }
+            byte valueKind = getValueKind(value);
+            if (kind != 0 && kind != valueKind) {
+                return JSON_COLUMN;
+            }
+            kind = valueKind;
+        }
+        if (kind == STRING_COLUMN && isLowCardinality(values)) {
+            return DICTIONARY_COLUMN;
+        }
+        return kind == 0 ? JSON_COLUMN : kind;
+    }
+
+    private static byte getValueKind(Object value) {
+        if (value instanceof Long) {
+            return INT_COLUMN;
+        } else if (value instanceof Double) {
+            return FLOAT_COLUMN;
+        } else if (value instanceof BDecimal) {
+            return DECIMAL_COLUMN;
+        } else if (value instanceof Boolean) {
+            return BOOLEAN_COLUMN;
+        } else if (value instanceof BString) {
+            return STRING_COLUMN;
+        }
+        return JSON_COLUMN;
+    }
+
+    // A column is dictionary encoded when its distinct strings are at most half of its strings.
+    private static boolean isLowCardinality(List<Object> values) {
+        Map<Object, Integer> distinctValues = new HashMap<>();
+        int count = 0;
+        for (Object value : values) {
+            if (value instanceof BString) {
+                distinctValues.putIfAbsent(value, distinctValues.size());
+                count++;
+                if (distinctValues.size() > MAX_DICTIONARY_SIZE) {
+                    return false;
+                }
+            }
+        }
+        return distinctValues.size() * 2 <= count;
+    }
+
+    private static byte[] encodeColumn(List<Object> values, byte kind) throws IOException {
+        int rowCount = values.size();
+        byte[] present = new byte[(rowCount + 7) / 8];
+        byte[] nil = new byte[(rowCount + 7) / 8];
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(bytes);
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (int i = 0; i < rowCount; i++) {
+            Object value = values.get(i);
+            if (value == Absent.VALUE) {
+                continue;
+            }
+            present[i >>> 3] |= (byte) (1 << (i & 7));
+            if (value == null) {
+                nil[i >>> 3] |= (byte) (1 << (i & 7));
+                continue;
+            }
+            switch (kind) {
+                case INT_COLUMN -> data.writeLong((Long) value);
+                case FLOAT_COLUMN -> data.writeDouble((Double) value);
+                case DECIMAL_COLUMN -> writeString(data, ((BDecimal) value).decimalValue().toString());
+                case BOOLEAN_COLUMN -> data.writeBoolean((Boolean) value);
+                case STRING_COLUMN -> writeString(data, ((BString) value).getValue());
+                case DICTIONARY_COLUMN -> data.writeShort(
+                        dictionary.computeIfAbsent(((BString) value).getValue(), k -> dictionary.size()));
+                default -> writeString(data, StringUtils.getJsonString(value));
+            }
+        }
+        ByteArrayOutputStream block = new ByteArrayOutputStream(present.length * 2 + bytes.size());
+        DataOutputStream out = new DataOutputStream(block);
+        out.write(present);
+        out.write(nil);
+        if (kind == DICTIONARY_COLUMN) {
+            out.writeInt(dictionary.size());
+            for (String entry : dictionary.keySet()) {
+                writeString(out, entry);
+            }
+        }
+        bytes.writeTo(out);
+        out.flush();
+        return block.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void decodeColumn(ByteBuffer block, byte kind, int rowCount, BString name, Type fieldType,
+                                     Object[] records) {
+        byte[] present = new byte[(rowCount + 7) / 8];
+        byte[] nil = new byte[(rowCount + 7) / 8];
+        block.get(present);
+        block.get(nil);
+        BString[] dictionary = null;
+        if (kind == DICTIONARY_COLUMN) {
+            dictionary = new BString[block.getInt()];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = StringUtils.fromString(readString(block));
+            }
+        }
+        // Values of the kind of the field are put as they are, and the others are converted to the field type.
+        boolean convert = kind == JSON_COLUMN || getNonNilTag(fieldType) != getColumnTag(kind);
+        for (int i = 0; i < rowCount; i++) {
+            if ((present[i >>> 3] & (1 << (i & 7))) == 0) {
+                continue;
+            }
+            Object value = null;
+            if ((nil[i >>> 3] & (1 << (i & 7))) == 0) {
+                value = switch (kind) {
+                    case INT_COLUMN -> block.getLong();
+                    case FLOAT_COLUMN -> block.getDouble();
+                    case DECIMAL_COLUMN -> ValueCreator.createDecimalValue(new BigDecimal(readString(block)));
+                    case BOOLEAN_COLUMN -> block.get() != 0;
+                    case STRING_COLUMN -> StringUtils.fromString(readString(block));
+                    case DICTIONARY_COLUMN -> dictionary[Short.toUnsignedInt(block.getShort())];
+                    default -> JsonUtils.parse(readString(block));
+                };
+            } else if (!fieldType.isNilable()) {
+                throw new InvalidColumnException(String.format("The field '%s' does not accept nil", name));
+            }
+            if (convert && value != null) {
+                try {
+                    value = ValueUtils.convert(value, fieldType);
+                } catch (BError e) {
+                    throw new InvalidColumnException(String.format("The column '%s' cannot be loaded into the field: "
+                            + "%s", name, e.getMessage()));
+                }
+            }
+            ((BMap<BString, Object>) records[i]).put(name, value);
+        }
+    }
+
+    private static Type getFieldType(RecordType recordType, String name) {
+        Field field = recordType.getFields().get(name);
+        if (field != null) {
+            return field.getFieldType();
+        }
+        if (recordType.isSealed()) {
+            throw new InvalidColumnException(
+                    String.format("The column '%s' is not a field of the return type", name));
+        }
+        return recordType.getRestFieldType();
+    }
+
+    private static int getNonNilTag(Type type) {
+        Type referredType = TypeUtils.getReferredType(type);
+        if (referredType.getTag() != TypeTags.UNION_TAG) {
+            return referredType.getTag();
+        }
+        int tag = -1;
+        for (Type memberType : ((UnionType) referredType).getMemberTypes()) {
+            Type referredMemberType = TypeUtils.getReferredType(memberType);
+            if (referredMemberType.getTag() == TypeTags.NULL_TAG) {
+                continue;
+            }
+            if (tag != -1) {
+                return -1;
+            }
+            tag = referredMemberType.getTag();
+        }
+        return tag;
+    }
+
+    private static int getColumnTag(byte kind) {
+        return switch (kind) {
+            case INT_COLUMN -> TypeTags.INT_TAG;
+            case FLOAT_COLUMN -> TypeTags.FLOAT_TAG;
+            case DECIMAL_COLUMN -> TypeTags.DECIMAL_TAG;
+            case BOOLEAN_COLUMN -> TypeTags.BOOLEAN_TAG;
+            case STRING_COLUMN, DICTIONARY_COLUMN -> TypeTags.STRING_TAG;
+            default -> -1;
+        };
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(byte[] block) {
+        Deflater deflater = new Deflater();
+        deflater.setInput(block);
+        deflater.finish();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(block.length / 2 + 64);
+        byte[] buffer = new byte[8192];
+        while (!deflater.finished()) {
+            out.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+        return out.toByteArray();
+    }
+
+    private static ByteBuffer inflate(ByteBuffer block, int rawLength) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(block);
+            ByteBuffer out = ByteBuffer.allocate(rawLength);
+            while (out.hasRemaining() && !inflater.finished()) {
+                if (inflater.inflate(out) == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("The compressed column is truncated or corrupted");
+                }
+            }
+            if (out.hasRemaining()) {
+                throw new DataFormatException("The compressed column is shorter than its recorded length");
+            }
+            return out.flip();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void deleteTempFile(Path tempFile) {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            // The temporary file is only left behind when it cannot be deleted.
+        }
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of the file");
+            }
+        }
+        return buffer.flip();
+    }
+}
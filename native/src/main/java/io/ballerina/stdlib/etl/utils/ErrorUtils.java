@@ -18,9 +18,19 @@
 
 package io.ballerina.stdlib.etl.utils;
 
+import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.List;
 
 import static io.ballerina.stdlib.etl.nativeimpl.ModuleUtils.getModule;;
 
@@ -30,8 +40,54 @@ import static io.ballerina.stdlib.etl.nativeimpl.ModuleUtils.getModule;;
 public class ErrorUtils {
 
     public static final String ERROR = "Error";
+    public static final String PARTIAL_RESULT_ERROR = "PartialResultError";
+    public static final String PARTIAL_RESULT_ERROR_DETAIL = "PartialResultErrorDetail";
+    public static final String FAILED_ROW_RANGE = "FailedRowRange";
+    public static final String PARTIAL_RESULT = "partialResult";
+    public static final String FAILED_RANGES = "failedRanges";
+    public static final String START_INDEX = "startIndex";
+    public static final String END_INDEX = "endIndex";
+    public static final String MESSAGE = "message";
 
     public static BError createETLError(String message) {
         return ErrorCreator.createError(getModule(), ERROR, StringUtils.fromString(message), null, null);
     }
+
+    public static Type getETLErrorType() {
+        // The distinct `Error` type is only reachable through a value of it.
+        return TypeUtils.getType(createETLError(""));
+    }
+
+    public static BError createPartialResultError(Object partialResult, List<long[]> failedRanges,
+            List<String> failureMessages) {
+        BArray ranges = null;
+        for (int i = 0; i < failedRanges.size(); i++) {
+            BMap<BString, Object> range = ValueCreator.createRecordValue(getModule(), FAILED_ROW_RANGE);
+            range.put(StringUtils.fromString(START_INDEX), failedRanges.get(i)[0]);
+            range.put(StringUtils.fromString(END_INDEX), failedRanges.get(i)[1]);
+            range.put(StringUtils.fromString(MESSAGE), StringUtils.fromString(failureMessages.get(i)));
+            if (ranges == null) {
+                ranges = ValueCreator.createArrayValue(TypeCreator.createArrayType(range.getType()));
+            }
+            ranges.append(range);
+        }
+        BMap<BString, Object> details = ValueCreator.createRecordValue(getModule(), PARTIAL_RESULT_ERROR_DETAIL);
+        details.put(StringUtils.fromString(PARTIAL_RESULT), partialResult);
+        details.put(StringUtils.fromString(FAILED_RANGES), ranges);
+        return ErrorCreator.createError(getModule(), PARTIAL_RESULT_ERROR,
+                StringUtils.fromString(String.format("Operation failed for %d of the chunks sent to the model",
+                        failedRanges.size())), null, details);
+    }
+
+    public static boolean isETLError(Object value) {
+        if (!(value instanceof BError)) {
+            return false;
+        }
+        Type errorType = TypeUtils.getType(value);
+        Module errorModule = errorType.getPackage();
+        return (ERROR.equals(errorType.getName()) || PARTIAL_RESULT_ERROR.equals(errorType.getName()))
+                && errorModule != null
+                && getModule().getOrg().equals(errorModule.getOrg())
+                && getModule().getName().equals(errorModule.getName());
+    }
 }
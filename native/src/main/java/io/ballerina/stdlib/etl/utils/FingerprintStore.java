@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A persistent set of 128-bit record fingerprints, stored as a memory-mapped open-addressing hash table with linear
+ * probing. The file is mapped in segments of 1 GiB, so a lookup touches a single slot page regardless of the number
+ * of stored fingerprints. The new fingerprints of a call are first written to a journal, which is replayed if the
+ * process stops before they are all inserted, so that a call is recorded either completely or not at all.
+ *
+ * @since 0.8.0
+ */
+public class FingerprintStore implements Closeable {
+
+    public static final long MAGIC = 0x45544c4644454455L;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 64;
+    public static final int SLOT_SIZE = 16;
+    public static final long INITIAL_CAPACITY = 1L << 16;
+    public static final int SEGMENT_BITS = 30;
+    public static final long SEGMENT_SIZE = 1L << SEGMENT_BITS;
+    public static final double MAX_LOAD_FACTOR = 0.7;
+    public static final String JOURNAL_SUFFIX = ".journal";
+    public static final String RESIZE_SUFFIX = ".resize";
+
+    private final FileChannel channel;
+    private final FileLock lock;
+    private final MappedByteBuffer[] segments;
+    private final long capacity;
+    private long count;
+
+    /**
+     * A 128-bit fingerprint of a record.
+     *
+     * @param high the high 64 bits
+     * @param low  the low 64 bits
+     */
+    public record Fingerprint(long high, long low) {
+    }
+
+    private FingerprintStore(Path path, long newCapacity) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.lock = channel.lock();
+        try {
+            if (channel.size() == 0) {
+                this.capacity = newCapacity;
+                this.count = 0;
+                channel.write(ByteBuffer.allocate(1), HEADER_SIZE + capacity * SLOT_SIZE - 1);
+                writeHeader();
+            } else {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                channel.read(header, 0);
+                header.flip();
+                if (header.getLong() != MAGIC || header.getInt() != VERSION) {
+                    throw new IOException(String.format("'%s' is not a dedup store", path));
+                }
+                header.getInt();
+                this.capacity = header.getLong();
+                this.count = header.getLong();
+            }
+            long size = capacity * SLOT_SIZE;
+            this.segments = new MappedByteBuffer[(int) ((size + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+            for (int i = 0; i < segments.length; i++) {
+                long offset = (long) i * SEGMENT_SIZE;
+                segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + offset,
+                        Math.min(SEGMENT_SIZE, size - offset));
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Records the given fingerprints in the store at the given path, creating it if it does not exist.
+     *
+     * @param path         the path of the store
+     * @param fingerprints the fingerprints of the records of a dataset
+     * @return whether each fingerprint was seen for the first time, neither in an earlier call nor earlier in the
+     *         same call
+     * @throws IOException if the store cannot be read or written
+     */
+    public static synchronized boolean[] recordUnseen(Path path, Fingerprint[] fingerprints) throws IOException {
+        Path journal = path.resolveSibling(path.getFileName() + JOURNAL_SUFFIX);
+        if (path.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+        }
+        boolean[] unseen = null;
+        while (true) {
+            try (FingerprintStore store = new FingerprintStore(path, INITIAL_CAPACITY)) {
+                // A journal is left by a call that stopped before all of its fingerprints were inserted, or by this
+                // call when the store had to be replaced by a larger one first. Some of its fingerprints may already
+                // be in the slots without being counted in the header, so the stored fingerprints are counted again.
+                List<Fingerprint> pending = readJournal(journal);
+                if (pending != null) {
+                    store.recount();
+                    if (!store.insertOrResize(path, journal, pending)) {
+                        continue;
+                    }
+                }
+                Files.deleteIfExists(journal);
+                if (unseen != null) {
+                    return unseen;
+                }
+                unseen = new boolean[fingerprints.length];
+                List<Fingerprint> newFingerprints = new ArrayList<>();
+                Set<Fingerprint> batch = new HashSet<>();
+                for (int i = 0; i < fingerprints.length; i++) {
+                    Fingerprint fingerprint = normalize(fingerprints[i]);
+                    if (!store.contains(fingerprint) && batch.add(fingerprint)) {
+                        unseen[i] = true;
+                        newFingerprints.add(fingerprint);
+                    }
+                }
+                if (newFingerprints.isEmpty()) {
+                    return unseen;
+                }
+                writeJournal(journal, newFingerprints);
+                if (store.insertOrResize(path, journal, newFingerprints)) {
+                    return unseen;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the fingerprint of a record from the given fields, or from all of its fields when none are given.
+     *
+     * @param data      the record
+     * @param keyFields the names of the fields that identify the record
+     * @return the 128-bit MurmurHash3 of the field names and JSON values
+     */
+    public static Fingerprint fingerprint(BMap<BString, Object> data, BArray keyFields) {
+        StringBuilder key = new StringBuilder();
+        if (keyFields.size() == 0) {
+            List<BString> fields = new ArrayList<>(List.of(data.getKeys()));
+            fields.sort((field1, field2) -> field1.getValue().compareTo(field2.getValue()));
+            for (BString field : fields) {
+                appendField(key, field, data);
+            }
+        } else {
+            for (int i = 0; i < keyFields.size(); i++) {
+                appendField(key, keyFields.getBString(i), data);
+            }
+        }
+        return hash128(key.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            lock.release();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private boolean contains(Fingerprint fingerprint) {
+        long slot = fingerprint.low() & (capacity - 1);
+        while (true) {
+            long offset = slot * SLOT_SIZE;
+            long high = readLong(offset);
+            long low = readLong(offset + Long.BYTES);
+            if (high == 0 && low == 0) {
+                return false;
+            }
+            if (high == fingerprint.high() && low == fingerprint.low()) {
+                return true;
+            }
+            slot = (slot + 1) & (capacity - 1);
+        }
+    }
+
+    private void insert(Fingerprint fingerprint) {
+        long slot = fingerprint.low() & (capacity - 1);
+        while (true) {
+            long offset = slot * SLOT_SIZE;
+            long high = readLong(offset);
+            long low = readLong(offset + Long.BYTES);
+            if (high == fingerprint.high() && low == fingerprint.low()) {
+                return;
+            }
+            if (high == 0 && low == 0) {
+                writeLong(offset, fingerprint.high());
+                writeLong(offset + Long.BYTES, fingerprint.low());
+                count++;
+                return;
+            }
+            slot = (slot + 1) & (capacity - 1);
+        }
+    }
+
+    private void recount() {
+        count = 0;
+        for (long slot = 0; slot < capacity; slot++) {
+            if (readLong(slot * SLOT_SIZE) != 0 || readLong(slot * SLOT_SIZE + Long.BYTES) != 0) {
+                count++;
+            }
+        }
+    }
+
+    // Inserts the journaled fingerprints and deletes the journal. When they would exceed the maximum load factor, the
+    // store is replaced by a larger one instead, and false is returned so that the journal is applied to the new file.
+    private boolean insertOrResize(Path path, Path journal, List<Fingerprint> fingerprints) throws IOException {
+        if (count + fingerprints.size() > capacity * MAX_LOAD_FACTOR) {
+            resize(path, count + fingerprints.size());
+            return false;
+        }
+        insertAll(fingerprints);
+        Files.delete(journal);
+        return true;
+    }
+
+    private void insertAll(List<Fingerprint> fingerprints) throws IOException {
+        for (Fingerprint fingerprint : fingerprints) {
+            insert(fingerprint);
+        }
+        flush();
+    }
+
+    private void flush() throws IOException {
+        for (MappedByteBuffer segment : segments) {
+            segment.force();
+        }
+        writeHeader();
+    }
+
+    private void resize(Path path, long minimumCount) throws IOException {
+        long newCapacity = capacity;
+        while (minimumCount > newCapacity * MAX_LOAD_FACTOR) {
+            newCapacity <<= 1;
+        }
+        Path resized = path.resolveSibling(path.getFileName() + RESIZE_SUFFIX);
+        Files.deleteIfExists(resized);
+        try (FingerprintStore store = new FingerprintStore(resized, newCapacity)) {
+            for (long slot = 0; slot < capacity; slot++) {
+                long high = readLong(slot * SLOT_SIZE);
+                long low = readLong(slot * SLOT_SIZE + Long.BYTES);
+                if (high != 0 || low != 0) {
+                    store.insert(new Fingerprint(high, low));
+                }
+            }
+            store.flush();
+        }
+        Files.move(resized, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private long readLong(long offset) {
+        return segments[(int) (offset >>> SEGMENT_BITS)].getLong((int) (offset & (SEGMENT_SIZE - 1)));
+    }
+
+    private void writeLong(long offset, long value) {
+        segments[(int) (offset >>> SEGMENT_BITS)].putLong((int) (offset & (SEGMENT_SIZE - 1)), value);
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putLong(MAGIC).putInt(VERSION).putInt(0).putLong(capacity).putLong(count);
+        header.clear();
+        channel.write(header, 0);
+        channel.force(true);
+    }
+
+    private static List<Fingerprint> readJournal(Path journal) throws IOException {
+        if (!Files.exists(journal)) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(journal)))) {
+            int size = input.readInt();
+            if (size < 0 || size > Files.size(journal) / SLOT_SIZE) {
+                return null;
+            }
+            List<Fingerprint> fingerprints = new ArrayList<>(size);
+            long checksum = size;
+            for (int i = 0; i < size; i++) {
+                Fingerprint fingerprint = new Fingerprint(input.readLong(), input.readLong());
+                checksum = checksum * 31 + fingerprint.high() * 17 + fingerprint.low();
+                fingerprints.add(fingerprint);
+            }
+            // A journal without a matching checksum was not completely written, so its call was never recorded.
+            return input.readLong() == checksum ? fingerprints : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void writeJournal(Path journal, List<Fingerprint> fingerprints) throws IOException {
+        try (FileChannel journalChannel = FileChannel.open(journal, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                     Channels.newOutputStream(journalChannel)))) {
+            output.writeInt(fingerprints.size());
+            long checksum = fingerprints.size();
+            for (Fingerprint fingerprint : fingerprints) {
+                output.writeLong(fingerprint.high());
+                output.writeLong(fingerprint.low());
+                checksum = checksum * 31 + fingerprint.high() * 17 + fingerprint.low();
+            }
+            output.writeLong(checksum);
+            output.flush();
+            journalChannel.force(true);
+        }
+    }
+
+    // An all-zero slot marks an empty slot, so the all-zero fingerprint is stored as a different value.
+    private static Fingerprint normalize(Fingerprint fingerprint) {
+        return fingerprint.high() == 0 && fingerprint.low() == 0 ? new Fingerprint(0, 1) : fingerprint;
+    }
+
+    private static void appendField(StringBuilder key, BString field, BMap<BString, Object> data) {
+        Object value = data.get(field);
+        key.append(field.getValue()).append('\u001f')
+                .append(value == null ? "null" : StringUtils.getJsonString(value)).append('\u001e');
+    }
+
+    private static Fingerprint hash128(byte[] data) {
+        final long c1 = 0x87c37b91114253d5L;
+        final long c2 = 0x4cf5ad432745937fL;
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        long h1 = 0;
+        long h2 = 0;
+        int blocks = data.length / 16;
+        for (int i = 0; i < blocks; i++) {
+            long k1 = buffer.getLong(i * 16);
+            long k2 = buffer.getLong(i * 16 + 8);
+            h1 ^= Long.rotateLeft(k1 * c1, 31) * c2;
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 ^= Long.rotateLeft(k2 * c2, 33) * c1;
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+        long k1 = 0;
+        long k2 = 0;
+        int tail = blocks * 16;
+        for (int i = data.length - 1; i >= tail + 8; i--) {
+            k2 = (k2 << 8) | (data[i] & 0xff);
+        }
+        for (int i = Math.min(data.length, tail + 8) - 1; i >= tail; i--) {
+            k1 = (k1 << 8) | (data[i] & 0xff);
+        }
+        if (data.length > tail + 8) {
+            h2 ^= Long.rotateLeft(k2 * c2, 33) * c1;
+        }
+        if (data.length > tail) {
+            h1 ^= Long.rotateLeft(k1 * c1, 31) * c2;
+        }
+        h1 ^= data.length;
+        h2 ^= data.length;
+        h1 += h2;
+        h2 += h1;
+        h1 = mix(h1);
+        h2 = mix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new Fingerprint(h1, h2);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
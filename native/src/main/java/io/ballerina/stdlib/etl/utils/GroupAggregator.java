@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeBArray;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeBMap;
+
+/**
+ * Computes aggregations of the records of a dataset grouped by a set of fields. Groups are numbered in the order in
+ * which they first appear, and the accumulators of each aggregation are primitive arrays indexed by the group
+ * number, so that accumulating a row does not allocate. Partial aggregators of consecutive ranges of a dataset can be
+ * combined in order into the aggregator of the whole dataset.
+ *
+ * @since 0.8.0
+ */
+@SuppressWarnings("unchecked")
+public class GroupAggregator {
+
+    public static final String COUNT = "count";
+    public static final String SUM = "sum";
+    public static final String AVG = "avg";
+    public static final String MIN = "min";
+    public static final String MAX = "max";
+    public static final int INITIAL_GROUPS = 16;
+
+    private final BString[] groupFields;
+    private final BString[] valueFields;
+    private final String[] functions;
+    private final int[] valueTags;
+    private final Map<Object, Integer> groupIds = new HashMap<>();
+    private final List<Object[]> groupValues = new ArrayList<>();
+    private long[][] counts;
+    private long[][] longs;
+    private double[][] doubles;
+    private BigDecimal[][] decimals;
+    private int capacity = INITIAL_GROUPS;
+
+    /**
+     * Creates an aggregator.
+     *
+     * @param groupFields the fields the records are grouped by
+     * @param valueFields the field aggregated by each aggregation, or null to count the records of a group
+     * @param functions   the function of each aggregation
+     * @param valueTags   the type tag of each aggregated field, which is an int, a float or a decimal
+     */
+    public GroupAggregator(BString[] groupFields, BString[] valueFields, String[] functions, int[] valueTags) {
+        this.groupFields = groupFields;
+        this.valueFields = valueFields;
+        this.functions = functions;
+        this.valueTags = valueTags;
+        this.counts = new long[functions.length][capacity];
+        this.longs = new long[functions.length][];
+        this.doubles = new double[functions.length][];
+        this.decimals = new BigDecimal[functions.length][];
+        for (int i = 0; i < functions.length; i++) {
+            if (COUNT.equals(functions[i])) {
+                continue;
+            }
+            switch (valueTags[i]) {
+                case TypeTags.INT_TAG -> longs[i] = new long[capacity];
+                case TypeTags.DECIMAL_TAG -> decimals[i] = new BigDecimal[capacity];
+                default -> doubles[i] = new double[capacity];
+            }
+        }
+    }
+
+    public GroupAggregator newPartial() {
+        return new GroupAggregator(groupFields, valueFields, functions, valueTags);
+    }
+
+    public void accumulate(BArray dataset, int start, int end) {
+        for (int i = start; i < end; i++) {
+            Object data = dataset.get(i);
+            if (TypeUtils.getType(data).getTag() != TypeTags.RECORD_TYPE_TAG) {
+                continue;
+            }
+            BMap<BString, Object> row = (BMap<BString, Object>) data;
+            int group = getGroup(row);
+            for (int j = 0; j < functions.length; j++) {
+                Object value = valueFields[j] == null ? row : row.get(valueFields[j]);
+                if (value == null) {
+                    continue;
+                }
+                if (COUNT.equals(functions[j])) {
+                    counts[j][group]++;
+                    continue;
+                }
+                boolean first = counts[j][group]++ == 0;
+                switch (valueTags[j]) {
+                    case TypeTags.INT_TAG -> longs[j][group] = apply(functions[j], first, longs[j][group],
+                            (Long) value);
+                    case TypeTags.DECIMAL_TAG -> decimals[j][group] = apply(functions[j], first,
+                            decimals[j][group], ((BDecimal) value).decimalValue());
+                    default -> doubles[j][group] = apply(functions[j], first, doubles[j][group],
+                            ((Number) value).doubleValue());
+                }
+            }
+        }
+    }
+
+    public void combine(GroupAggregator partial) {
+        for (int i = 0; i < partial.groupValues.size(); i++) {
+            Object[] values = partial.groupValues.get(i);
+            int group = getGroup(values.length == 1 ? values[0] : Arrays.asList(values), values);
+            for (int j = 0; j < functions.length; j++) {
+                long partialCount = partial.counts[j][i];
+                if (COUNT.equals(functions[j]) || partialCount == 0) {
+                    counts[j][group] += partialCount;
+                    continue;
+                }
+                boolean first = counts[j][group] == 0;
+                counts[j][group] += partialCount;
+                // Averages of partials are combined by adding their sums and counts.
+                String function = AVG.equals(functions[j]) ? SUM : functions[j];
+                switch (valueTags[j]) {
+                    case TypeTags.INT_TAG -> longs[j][group] = apply(function, first, longs[j][group],
+                            partial.longs[j][i]);
+                    case TypeTags.DECIMAL_TAG -> decimals[j][group] = apply(function, first,
+                            decimals[j][group], partial.decimals[j][i]);
+                    default -> doubles[j][group] = apply(function, first, doubles[j][group],
+                            partial.doubles[j][i]);
+                }
+            }
+        }
+    }
+
+    public BArray toBArray(BTypedesc returnType, BString[] outputFields) {
+        BArray result = initializeBArray(returnType);
+        for (int i = 0; i < groupValues.size(); i++) {
+            BMap<BString, Object> row = initializeBMap(returnType);
+            Object[] values = groupValues.get(i);
+            for (int j = 0; j < groupFields.length; j++) {
+                row.put(groupFields[j], values[j]);
+            }
+            for (int j = 0; j < functions.length; j++) {
+                row.put(outputFields[j], getResult(j, i));
+            }
+            result.append(row);
+        }
+        return result;
+    }
+
+    private Object getResult(int aggregation, int group) {
+        long count = counts[aggregation][group];
+        String function = functions[aggregation];
+        if (COUNT.equals(function)) {
+            return count;
+        }
+        if (count == 0) {
+            return SUM.equals(function) ? getZero(valueTags[aggregation]) : null;
+        }
+        switch (valueTags[aggregation]) {
+            case TypeTags.INT_TAG -> {
+                long value = longs[aggregation][group];
+                return AVG.equals(function) ? (double) value / count : value;
+            }
+            case TypeTags.DECIMAL_TAG -> {
+                BigDecimal value = decimals[aggregation][group];
+                return ValueCreator.createDecimalValue(AVG.equals(function)
+                        ? value.divide(BigDecimal.valueOf(count), MathContext.DECIMAL128) : value);
+            }
+            default -> {
+                double value = doubles[aggregation][group];
+                return AVG.equals(function) ? value / count : value;
+            }
+        }
+    }
+
+    private int getGroup(BMap<BString, Object> row) {
+        if (groupFields.length == 1) {
+            Object value = row.get(groupFields[0]);
+            Integer group = groupIds.get(value);
+            return group != null ? group : addGroup(value, new Object[] {value});
+        }
+        Object[] values = new Object[groupFields.length];
+        for (int i = 0; i < groupFields.length; i++) {
+            values[i] = row.get(groupFields[i]);
+        }
+        return getGroup(Arrays.asList(values), values);
+    }
+
+    private int getGroup(Object key, Object[] values) {
+        Integer group = groupIds.get(key);
+        return group != null ? group : addGroup(key, values);
+    }
+
+    private int addGroup(Object key, Object[] values) {
+        int group = groupValues.size();
+        groupIds.put(key, group);
+        groupValues.add(values);
+        if (group == capacity) {
+            capacity *= 2;
+            for (int i = 0; i < functions.length; i++) {
+                counts[i] = Arrays.copyOf(counts[i], capacity);
+                if (longs[i] != null) {
+                    longs[i] = Arrays.copyOf(longs[i], capacity);
+                }
+                if (doubles[i] != null) {
+                    doubles[i] = Arrays.copyOf(doubles[i], capacity);
+                }
+                if (decimals[i] != null) {
+                    decimals[i] = Arrays.copyOf(decimals[i], capacity);
+                }
+            }
+        }
+        return group;
+    }
+
+    private static long apply(String function, boolean first, long current, long value) {
+        if (first) {
+            return value;
+        }
+        return switch (function) {
+            case MIN -> Math.min(current, value);
+            case MAX -> Math.max(current, value);
+            default -> Math.addExact(current, value);
+        };
+    }
+
+    private static double apply(String function, boolean first, double current, double value) {
+        if (first) {
+            return value;
+        }
+        return switch (function) {
+            case MIN -> Math.min(current, value);
+            case MAX -> Math.max(current, value);
+            default -> current + value;
+        };
+    }
+
+    private static BigDecimal apply(String function, boolean first, BigDecimal current, BigDecimal value) {
+        if (first) {
+            return value;
+        }
+        return switch (function) {
+            case MIN -> current.min(value);
+            case MAX -> current.max(value);
+            default -> current.add(value, MathContext.DECIMAL128);
+        };
+    }
+
+    private static Object getZero(int valueTag) {
+        return switch (valueTag) {
+            case TypeTags.INT_TAG -> 0L;
+            case TypeTags.DECIMAL_TAG -> ValueCreator.createDecimalValue(BigDecimal.ZERO);
+            default -> 0.0;
+        };
+    }
+}
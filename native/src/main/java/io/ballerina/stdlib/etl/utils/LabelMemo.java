@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An in-process memo of values labelled by the LLM, used to label near-duplicate values without another request.
+ * Each value is reduced to a MinHash signature of its character trigrams, whose matching positions estimate the
+ * Jaccard similarity of the trigram sets. Signatures are indexed with locality-sensitive hashing over bands of the
+ * signature, so a lookup only compares the values that share at least one band. A memo is kept for each set of
+ * categories, since a label is only meaningful among the categories it was chosen from.
+ *
+ * @since 0.8.0
+ */
+public class LabelMemo {
+
+    public static final String ENABLED = "enabled";
+    public static final String SIMILARITY_THRESHOLD = "similarityThreshold";
+    public static final String MAX_ENTRIES = "maxEntries";
+    public static final int SHINGLE_LENGTH = 3;
+    public static final int BANDS = 32;
+    public static final int ROWS_PER_BAND = 4;
+    public static final int SIGNATURE_LENGTH = BANDS * ROWS_PER_BAND;
+    public static final int NO_LABEL = -1;
+
+    private static final Map<String, LabelMemo> MEMOS = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = false;
+    private static volatile double similarityThreshold = 0.8;
+    private static volatile int maxEntries = 100000;
+
+    private final Map<String, Integer> exactLabels = new HashMap<>();
+    private final List<int[]> signatures = new ArrayList<>();
+    private final List<Integer> labels = new ArrayList<>();
+    private final Map<Long, List<Integer>> buckets = new HashMap<>();
+
+    private LabelMemo() {
+    }
+
+    public static void configure(BMap<BString, Object> config) {
+        enabled = config.getBooleanValue(StringUtils.fromString(ENABLED));
+        similarityThreshold = config.getFloatValue(StringUtils.fromString(SIMILARITY_THRESHOLD));
+        maxEntries = Math.toIntExact(config.getIntValue(StringUtils.fromString(MAX_ENTRIES)));
+        MEMOS.clear();
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static LabelMemo forCategories(BArray categories) {
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < categories.size(); i++) {
+            key.append(StringUtils.getStringValue(categories.get(i))).append('\u001f');
+        }
+        return MEMOS.computeIfAbsent(key.toString(), k -> new LabelMemo());
+    }
+
+    /**
+     * Returns the label of the most similar memorized value, or {@link #NO_LABEL} if no memorized value is at least
+     * as similar as the similarity threshold.
+     */
+    public synchronized int lookup(String value) {
+        String text = normalize(value);
+        Integer exactLabel = exactLabels.get(text);
+        if (exactLabel != null) {
+            return exactLabel;
+        }
+        int[] signature = signature(text);
+        int bestLabel = NO_LABEL;
+        double bestSimilarity = similarityThreshold;
+        for (int band = 0; band < BANDS; band++) {
+            List<Integer> candidates = buckets.get(bandKey(signature, band));
+            if (candidates == null) {
+                continue;
+            }
+            for (int candidate : candidates) {
+                double similarity = similarity(signature, signatures.get(candidate));
+                if (similarity >= bestSimilarity) {
+                    bestSimilarity = similarity;
+                    bestLabel = labels.get(candidate);
+                }
+            }
+        }
+        return bestLabel;
+    }
+
+    public synchronized void learn(String value, int label) {
+        String text = normalize(value);
+        if (exactLabels.size() >= maxEntries || exactLabels.putIfAbsent(text, label) != null) {
+            return;
+        }
+        int[] signature = signature(text);
+        int entry = signatures.size();
+        signatures.add(signature);
+        labels.add(label);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(bandKey(signature, band), k -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.strip().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    // The i-th hash of a trigram is a mix of a combination of the two halves of its 64-bit hash, which behaves like
+    // independent hash functions for the purpose of MinHash.
+    private static int[] signature(String text) {
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        String padded = " " + text + " ";
+        int shingles = Math.max(1, padded.length() - SHINGLE_LENGTH + 1);
+        for (int s = 0; s < shingles; s++) {
+            long hash = HyperLogLog.hash64(padded.substring(s, Math.min(padded.length(), s + SHINGLE_LENGTH)));
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32) | 1;
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                int value = mix(hash1 + i * hash2) & Integer.MAX_VALUE;
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    private static int mix(int hash) {
+        hash = (hash ^ (hash >>> 16)) * 0x85ebca6b;
+        hash = (hash ^ (hash >>> 13)) * 0xc2b2ae35;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int i = band * ROWS_PER_BAND; i < (band + 1) * ROWS_PER_BAND; i++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[i];
+        }
+        return key;
+    }
+
+    private static double similarity(int[] signature1, int[] signature2) {
+        int matches = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (signature1[i] == signature2[i]) {
+                matches++;
+            }
+        }
+        return (double) matches / SIGNATURE_LENGTH;
+    }
+}
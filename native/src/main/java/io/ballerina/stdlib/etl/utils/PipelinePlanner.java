@@ -0,0 +1,573 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+import io.ballerina.runtime.api.constants.TypeConstants;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.StructureType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BRegexpValue;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+import org.ballerinalang.langlib.regexp.Matches;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static io.ballerina.stdlib.etl.nativeimpl.EtlAggregation.PARALLEL_THRESHOLD;
+import static io.ballerina.stdlib.etl.nativeimpl.EtlCleaning.ASCENDING;
+import static io.ballerina.stdlib.etl.nativeimpl.EtlCleaning.REGEX_MULTIPLE_WHITESPACE;
+import static io.ballerina.stdlib.etl.nativeimpl.EtlCleaning.SINGLE_WHITESPACE;
+import static io.ballerina.stdlib.etl.nativeimpl.EtlEnrichment.INNER_JOIN;
+import static io.ballerina.stdlib.etl.nativeimpl.EtlEnrichment.LEFT_JOIN;
+import static io.ballerina.stdlib.etl.nativeimpl.EtlFiltering.INT_OR_FLOAT;
+import static io.ballerina.stdlib.etl.nativeimpl.ModuleUtils.getModule;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.evaluateCondition;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeBArray;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.initializeBMap;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.isNumericType;
+import static io.ballerina.stdlib.etl.utils.CommonUtils.isStringType;
+
+/**
+ * Plans the steps recorded by a lazy pipeline. The steps are validated against the fields of the records at each
+ * step, filters and field removals are moved ahead of the steps they commute with, and consecutive steps that work on
+ * one record at a time are fused into a single pass over the records.
+ *
+ * @since 0.8.0
+ */
+@SuppressWarnings("unchecked")
+public class PipelinePlanner {
+
+    public static final String FILTER_BY_REGEX = "filterDataByRegex";
+    public static final String FILTER_BY_RELATIVE_EXP = "filterDataByRelativeExp";
+    public static final String REMOVE_EMPTY_VALUES = "removeEmptyValues";
+    public static final String REMOVE_FIELD = "removeField";
+    public static final String HANDLE_WHITE_SPACES = "handleWhiteSpaces";
+    public static final String REPLACE_TEXT = "replaceText";
+    public static final String SORT_DATA = "sortData";
+    public static final String REMOVE_DUPLICATES = "removeDuplicates";
+    public static final String JOIN_DATA = "joinData";
+    public static final String STANDARDIZE_DATA = "standardizeData";
+    public static final String MASK_SENSITIVE_DATA = "maskSensitiveData";
+    public static final String CATEGORIZE_SEMANTIC = "categorizeSemantic";
+    public static final String ROW_PASS = "rowPass";
+    public static final String PIPELINE_RECORD = "PipelineRecord";
+
+    public static final BString OPERATION = StringUtils.fromString("operation");
+    public static final BString FIELD_NAME = StringUtils.fromString("fieldName");
+    public static final BString PATTERN = StringUtils.fromString("pattern");
+    public static final BString TEXT = StringUtils.fromString("text");
+    public static final BString VALUE = StringUtils.fromString("value");
+    public static final BString VALUES = StringUtils.fromString("values");
+    public static final BString DATASET = StringUtils.fromString("dataset");
+
+    private PipelinePlanner() {
+    }
+
+    /**
+     * A step of a pipeline. The fields a step reads and writes decide which steps it can be reordered with, where
+     * {@code null} stands for all the fields of a record.
+     *
+     * @param operation     the name of the API the step runs
+     * @param fieldName     the field the step works on
+     * @param pattern       the regex of a filter or a text replacement
+     * @param text          the operator, replacement, direction, join type, masking character or kept category of the
+     *                      step
+     * @param value         the value a field is compared against
+     * @param values        the standard values of a standardization or the categories of a categorization
+     * @param dataset       the dataset of a join
+     * @param reads         the fields whose values the result of the step depends on
+     * @param writes        the fields whose values the step changes
+     * @param checkedFields the fields checked by {@code removeEmptyValues} at the position of the step
+     */
+    public record Step(String operation, BString fieldName, BRegexpValue pattern, BString text, double value,
+                       BArray values, BArray dataset, Set<String> reads, Set<String> writes,
+                       BString[] checkedFields) {
+
+        boolean isFilter() {
+            return operation.equals(FILTER_BY_REGEX) || operation.equals(FILTER_BY_RELATIVE_EXP)
+                    || operation.equals(REMOVE_EMPTY_VALUES);
+        }
+
+        boolean isRowLocal() {
+            return isFilter() || operation.equals(REMOVE_FIELD) || operation.equals(HANDLE_WHITE_SPACES)
+                    || operation.equals(REPLACE_TEXT);
+        }
+
+        /**
+         * Filters run before the other steps, with the cheap numeric comparisons first, and field removals run as
+         * early as the steps before them allow.
+         */
+        int priority() {
+            return switch (operation) {
+                case FILTER_BY_RELATIVE_EXP -> 0;
+                case REMOVE_EMPTY_VALUES -> 1;
+                case FILTER_BY_REGEX -> 2;
+                case REMOVE_FIELD -> 3;
+                default -> 4;
+            };
+        }
+
+        String describe() {
+            String field = fieldName == null ? "" : fieldName.getValue();
+            return switch (operation) {
+                case FILTER_BY_REGEX -> String.format("%s(%s, \"%s\")", operation, field, pattern);
+                case FILTER_BY_RELATIVE_EXP -> String.format("%s(%s %s %s)", operation, field, text, value);
+                case REPLACE_TEXT -> String.format("%s(%s, \"%s\", \"%s\")", operation, field, pattern, text);
+                case SORT_DATA, JOIN_DATA, CATEGORIZE_SEMANTIC -> String.format("%s(%s, %s)", operation, field,
+                        text);
+                case REMOVE_FIELD, STANDARDIZE_DATA -> String.format("%s(%s)", operation, field);
+                case MASK_SENSITIVE_DATA -> String.format("%s(%s)", operation, text);
+                default -> operation + "()";
+            };
+        }
+    }
+
+    /**
+     * A stage of an optimized plan. A {@link #ROW_PASS} stage runs its steps over each record in a single pass and
+     * then sorts the records if it ends with a sort. The other stages run a single step with its API.
+     *
+     * @param operation        {@link #ROW_PASS} or the name of the API the stage runs
+     * @param steps            the steps of the stage
+     * @param outputType       the record type of the records the stage produces
+     * @param unfilteredStages for an inner join that filters were moved ahead of, the stages of the steps up to the
+     *                         join in the order they were added, or {@code null}
+     */
+    public record Stage(String operation, List<Step> steps, RecordType outputType, List<Stage> unfilteredStages) {
+    }
+
+    /**
+     * Signals a step that does not fit the records at its position in the pipeline.
+     */
+    private static class InvalidStepException extends RuntimeException {
+
+        InvalidStepException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Validates and optimizes the steps of a pipeline over a dataset.
+     *
+     * @param dataset the dataset the pipeline starts from
+     * @param steps   the steps in the order they were added
+     * @return the stages of the optimized plan or an error if a step does not fit the records at its position
+     */
+    public static Object plan(BArray dataset, BArray steps) {
+        RecordType inputType = (RecordType) TypeUtils.getReferredType(dataset.getElementType());
+        List<Step> ordered = new ArrayList<>();
+        try {
+            Map<String, Field> fields = new LinkedHashMap<>(inputType.getFields());
+            for (int i = 0; i < steps.size(); i++) {
+                ordered.add(createStep((BMap<BString, Object>) steps.get(i), fields));
+            }
+        } catch (InvalidStepException e) {
+            return ErrorUtils.createETLError(e.getMessage());
+        }
+        List<Step> added = new ArrayList<>(ordered);
+        reorder(ordered);
+        // An inner join fails when no record matches. When filters were moved ahead of it, the join may find no match
+        // only because of them, so the steps up to the join are kept in their original order to tell the two apart.
+        Map<Step, List<Stage>> unfilteredStages = new IdentityHashMap<>();
+        for (int i = 0; i < added.size(); i++) {
+            Step step = added.get(i);
+            if (!step.operation().equals(JOIN_DATA) || !step.text().getValue().equals(INNER_JOIN)) {
+                continue;
+            }
+            int position = indexOf(ordered, step);
+            for (int j = i + 1; j < added.size(); j++) {
+                if (added.get(j).isFilter() && indexOf(ordered, added.get(j)) < position) {
+                    unfilteredStages.put(step, createStages(inputType, added.subList(0, i + 1), Map.of()));
+                    break;
+                }
+            }
+        }
+        return createStages(inputType, ordered, unfilteredStages);
+    }
+
+    public static String explain(List<Stage> stages) {
+        StringBuilder plan = new StringBuilder();
+        for (int i = 0; i < stages.size(); i++) {
+            Stage stage = stages.get(i);
+            if (i > 0) {
+                plan.append('\n');
+            }
+            if (!stage.operation().equals(ROW_PASS)) {
+                plan.append(String.format("Stage %d: %s", i + 1, stage.steps().getFirst().describe()));
+                continue;
+            }
+            plan.append(String.format("Stage %d: single pass over the records", i + 1));
+            if (stage.steps().isEmpty()) {
+                plan.append("\n  copy");
+            }
+            for (Step step : stage.steps()) {
+                plan.append("\n  ").append(step.describe());
+            }
+        }
+        return plan.toString();
+    }
+
+    /**
+     * Runs the steps of a {@link #ROW_PASS} stage. Each record is read once and a record of the output type is
+     * created only for the records that pass all the filters of the stage.
+     */
+    public static BArray runRowPass(BArray dataset, Stage stage, BTypedesc outputType) {
+        List<Step> rowSteps = stage.steps();
+        Step sort = null;
+        if (!rowSteps.isEmpty() && rowSteps.getLast().operation().equals(SORT_DATA)) {
+            sort = rowSteps.getLast();
+            rowSteps = rowSteps.subList(0, rowSteps.size() - 1);
+        }
+        Pattern[] replacePatterns = new Pattern[rowSteps.size()];
+        for (int i = 0; i < replacePatterns.length; i++) {
+            if (rowSteps.get(i).operation().equals(REPLACE_TEXT)) {
+                replacePatterns[i] = Pattern.compile(rowSteps.get(i).pattern().toString());
+            }
+        }
+        List<Step> passSteps = rowSteps;
+        int size = dataset.size();
+        BMap<BString, Object>[] rows = new BMap[size];
+        if (size < PARALLEL_THRESHOLD) {
+            for (int i = 0; i < size; i++) {
+                rows[i] = processRow(dataset.get(i), passSteps, replacePatterns, outputType);
+            }
+        } else {
+            IntStream.range(0, size).parallel()
+                    .forEach(i -> rows[i] = processRow(dataset.get(i), passSteps, replacePatterns, outputType));
+        }
+        List<BMap<BString, Object>> result = new ArrayList<>();
+        for (BMap<BString, Object> row : rows) {
+            if (row != null) {
+                result.add(row);
+            }
+        }
+        if (sort != null) {
+            BString sortField = sort.fieldName();
+            Comparator<Object> byString = Comparator.comparing(Object::toString);
+            result.sort(Comparator.comparing(map -> map.get(sortField), Comparator.nullsLast(
+                    sort.text().getValue().equals(ASCENDING) ? byString : byString.reversed())));
+        }
+        BArray output = initializeBArray(outputType);
+        for (BMap<BString, Object> row : result) {
+            output.append(row);
+        }
+        return output;
+    }
+
+    private static BMap<BString, Object> processRow(Object value, List<Step> steps, Pattern[] replacePatterns,
+                                                    BTypedesc outputType) {
+        if (TypeUtils.getType(value).getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return null;
+        }
+        BMap<BString, Object> data = (BMap<BString, Object>) value;
+        // Changed and removed fields are tracked aside, so that a record is only copied once it passed the filters.
+        Map<BString, Object> changes = new HashMap<>();
+        Set<BString> removed = new HashSet<>();
+        for (int i = 0; i < steps.size(); i++) {
+            Step step = steps.get(i);
+            switch (step.operation()) {
+                case FILTER_BY_REGEX -> {
+                    Object fieldValue = getValue(data, changes, step.fieldName());
+                    if (TypeUtils.getType(fieldValue).getTag() != TypeTags.STRING_TAG
+                            || !Matches.isFullMatch(step.pattern(), StringUtils.fromString(fieldValue.toString()))) {
+                        return null;
+                    }
+                }
+                case FILTER_BY_RELATIVE_EXP -> {
+                    Object fieldValue = getValue(data, changes, step.fieldName());
+                    if (fieldValue instanceof Double doubleValue) {
+                        if (!evaluateCondition(doubleValue, step.value(), step.text().getValue())) {
+                            return null;
+                        }
+                    } else if (fieldValue instanceof Long longValue) {
+                        if (!evaluateCondition(longValue.doubleValue(), step.value(), step.text().getValue())) {
+                            return null;
+                        }
+                    } else {
+                        return null;
+                    }
+                }
+                case REMOVE_EMPTY_VALUES -> {
+                    for (BString field : step.checkedFields()) {
+                        Object fieldValue = getValue(data, changes, field);
+                        if (fieldValue == null || fieldValue.toString().trim().isEmpty()) {
+                            return null;
+                        }
+                    }
+                }
+                case REMOVE_FIELD -> removed.add(step.fieldName());
+                case HANDLE_WHITE_SPACES -> {
+                    for (BString field : data.getKeys()) {
+                        Object fieldValue = getValue(data, changes, field);
+                        if (TypeUtils.getType(fieldValue).getTag() == TypeTags.STRING_TAG) {
+                            changes.put(field, StringUtils.fromString(fieldValue.toString()
+                                    .replaceAll(REGEX_MULTIPLE_WHITESPACE, SINGLE_WHITESPACE).trim()));
+                        }
+                    }
+                }
+                case REPLACE_TEXT -> {
+                    Object fieldValue = getValue(data, changes, step.fieldName());
+                    if (TypeUtils.getType(fieldValue).getTag() != TypeTags.STRING_TAG) {
+                        return null;
+                    }
+                    changes.put(step.fieldName(), StringUtils.fromString(replacePatterns[i]
+                            .matcher(fieldValue.toString()).replaceAll(step.text().getValue())));
+                }
+                default -> {
+                }
+            }
+        }
+        BMap<BString, Object> newData = initializeBMap(outputType);
+        for (BString key : data.getKeys()) {
+            if (!removed.contains(key)) {
+                newData.put(key, changes.containsKey(key) ? changes.get(key) : data.get(key));
+            }
+        }
+        return newData;
+    }
+
+    private static Object getValue(BMap<BString, Object> data, Map<BString, Object> changes, BString field) {
+        return changes.containsKey(field) ? changes.get(field) : data.get(field);
+    }
+
+    private static Step createStep(BMap<BString, Object> step, Map<String, Field> fields) {
+        String operation = step.getStringValue(OPERATION).getValue();
+        BString fieldName = step.getStringValue(FIELD_NAME);
+        BRegexpValue pattern = (BRegexpValue) step.get(PATTERN);
+        BString text = step.getStringValue(TEXT);
+        double value = (Double) step.get(VALUE);
+        BArray values = step.getArrayValue(VALUES);
+        BArray dataset = step.getArrayValue(DATASET);
+        String field = fieldName.getValue();
+        Set<String> reads = Set.of(field);
+        Set<String> writes = Set.of();
+        switch (operation) {
+            case FILTER_BY_REGEX, REPLACE_TEXT -> {
+                Type fieldType = getFieldType(fields, field);
+                if (!isStringType(fieldType)) {
+                    throw new InvalidStepException(String.format(
+                            "The field '%s' is expected to be of type '%s' but found '%s'", field,
+                            TypeConstants.STRING_TNAME, fieldType.toString()));
+                }
+                if (operation.equals(REPLACE_TEXT)) {
+                    writes = reads;
+                }
+            }
+            case FILTER_BY_RELATIVE_EXP -> {
+                Type fieldType = getFieldType(fields, field);
+                if (!isNumericType(fieldType)) {
+                    throw new InvalidStepException(String.format(
+                            "The field '%s' is expected to be of type '%s' but found '%s'", field, INT_OR_FLOAT,
+                            fieldType.toString()));
+                }
+            }
+            case REMOVE_FIELD -> {
+                getFieldType(fields, field);
+                fields.remove(field);
+                reads = Set.of();
+                writes = Set.of(field);
+            }
+            case SORT_DATA -> getFieldType(fields, field);
+            case CATEGORIZE_SEMANTIC -> {
+                Type fieldType = getFieldType(fields, field);
+                if (!isStringType(fieldType)) {
+                    throw new InvalidStepException(String.format(
+                            "The field '%s' is expected to be of type '%s' but found '%s'", field,
+                            TypeConstants.STRING_TNAME, fieldType.toString()));
+                }
+                if (!List.of(values.getStringArray()).contains(text.getValue())) {
+                    throw new InvalidStepException(String.format(
+                            "The category '%s' is not one of the categories", text.getValue()));
+                }
+            }
+            case STANDARDIZE_DATA -> {
+                getFieldType(fields, field);
+                writes = reads;
+            }
+            case JOIN_DATA -> {
+                getFieldType(fields, field);
+                Map<String, Field> joinedFields = ((StructureType) TypeUtils.getReferredType(
+                        dataset.getElementType())).getFields();
+                if (!joinedFields.containsKey(field)) {
+                    throw new InvalidStepException(String.format(
+                            "The dataset %d does not contain the field - '%s'", 2, field));
+                }
+                if (text.getValue().equals(INNER_JOIN) || text.getValue().equals(LEFT_JOIN)) {
+                    fields.putAll(joinedFields);
+                    // The join field keeps its value, so only the other fields of the second dataset change.
+                    Set<String> joined = new HashSet<>(joinedFields.keySet());
+                    joined.remove(field);
+                    writes = joined;
+                }
+            }
+            case HANDLE_WHITE_SPACES, MASK_SENSITIVE_DATA -> {
+                reads = null;
+                writes = null;
+            }
+            default -> reads = null;
+        }
+        return new Step(operation, fieldName, pattern, text, value, values, dataset, reads, writes, null);
+    }
+
+    private static Type getFieldType(Map<String, Field> fields, String fieldName) {
+        Field field = fields.get(fieldName);
+        if (field == null) {
+            throw new InvalidStepException(String.format("The dataset does not contain the field - '%s'", fieldName));
+        }
+        return field.getFieldType();
+    }
+
+    /**
+     * Moves each step ahead of the steps before it while it has a higher priority and commutes with them, and drops
+     * a deduplication that directly follows another one.
+     */
+    private static void reorder(List<Step> steps) {
+        boolean swapped = true;
+        while (swapped) {
+            swapped = false;
+            for (int i = 1; i < steps.size(); i++) {
+                Step before = steps.get(i - 1);
+                Step step = steps.get(i);
+                if (step.priority() < before.priority() && canMoveAhead(step, before)) {
+                    steps.set(i - 1, step);
+                    steps.set(i, before);
+                    swapped = true;
+                }
+            }
+        }
+        for (int i = steps.size() - 1; i > 0; i--) {
+            if (steps.get(i).operation().equals(REMOVE_DUPLICATES)
+                    && steps.get(i - 1).operation().equals(REMOVE_DUPLICATES)) {
+                steps.remove(i);
+            }
+        }
+    }
+
+    private static boolean canMoveAhead(Step step, Step before) {
+        if (step.isFilter()) {
+            // Whitespace handling only changes strings, which a comparison filter does not keep.
+            if (before.operation().equals(HANDLE_WHITE_SPACES) && step.operation().equals(FILTER_BY_RELATIVE_EXP)) {
+                return true;
+            }
+            return before.isFilter() || !overlaps(before.writes(), step.reads());
+        }
+        if (step.operation().equals(REMOVE_FIELD)) {
+            String field = step.fieldName().getValue();
+            return switch (before.operation()) {
+                // These steps compare whole records, so a removed field changes which records they keep.
+                case REMOVE_DUPLICATES, REMOVE_EMPTY_VALUES, JOIN_DATA -> false;
+                // These steps change each field on its own, so a field removed earlier does not affect the others.
+                case HANDLE_WHITE_SPACES, MASK_SENSITIVE_DATA -> true;
+                default -> before.reads() != null && !before.reads().contains(field)
+                        && (before.writes() == null || !before.writes().contains(field));
+            };
+        }
+        return false;
+    }
+
+    private static int indexOf(List<Step> steps, Step step) {
+        for (int i = 0; i < steps.size(); i++) {
+            if (steps.get(i) == step) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean overlaps(Set<String> fields, Set<String> otherFields) {
+        if (fields == null) {
+            return otherFields == null || !otherFields.isEmpty();
+        }
+        if (otherFields == null) {
+            return !fields.isEmpty();
+        }
+        for (String field : fields) {
+            if (otherFields.contains(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Groups the ordered steps into stages, fusing consecutive row-local steps and a sort that follows them into a
+     * single pass, and computes the record type each stage produces.
+     */
+    private static List<Stage> createStages(RecordType inputType, List<Step> steps,
+                                            Map<Step, List<Stage>> unfilteredStages) {
+        List<Stage> stages = new ArrayList<>();
+        Map<String, Field> fields = new LinkedHashMap<>(inputType.getFields());
+        List<Step> rowSteps = new ArrayList<>();
+        for (Step step : steps) {
+            if (step.isRowLocal() || step.operation().equals(SORT_DATA)) {
+                if (step.operation().equals(REMOVE_EMPTY_VALUES)) {
+                    BString[] checkedFields = fields.keySet().stream().map(StringUtils::fromString)
+                            .toArray(BString[]::new);
+                    step = new Step(step.operation(), step.fieldName(), step.pattern(), step.text(), step.value(),
+                            step.values(), step.dataset(), step.reads(), step.writes(), checkedFields);
+                } else if (step.operation().equals(REMOVE_FIELD)) {
+                    fields.remove(step.fieldName().getValue());
+                }
+                rowSteps.add(step);
+                if (step.operation().equals(SORT_DATA)) {
+                    stages.add(new Stage(ROW_PASS, rowSteps, createRecordType(inputType, fields), null));
+                    rowSteps = new ArrayList<>();
+                }
+                continue;
+            }
+            if (!rowSteps.isEmpty()) {
+                stages.add(new Stage(ROW_PASS, rowSteps, createRecordType(inputType, fields), null));
+                rowSteps = new ArrayList<>();
+            }
+            if (step.operation().equals(JOIN_DATA) && (step.text().getValue().equals(INNER_JOIN)
+                    || step.text().getValue().equals(LEFT_JOIN))) {
+                fields.putAll(((StructureType) TypeUtils.getReferredType(step.dataset().getElementType()))
+                        .getFields());
+            }
+            stages.add(new Stage(step.operation(), List.of(step), createRecordType(inputType, fields),
+                    unfilteredStages.get(step)));
+        }
+        if (!rowSteps.isEmpty() || stages.isEmpty()) {
+            stages.add(new Stage(ROW_PASS, rowSteps, createRecordType(inputType, fields), null));
+        }
+        return stages;
+    }
+
+    private static RecordType createRecordType(RecordType inputType, Map<String, Field> fields) {
+        return TypeCreator.createRecordType(PIPELINE_RECORD, getModule(), inputType.getFlags(),
+                new LinkedHashMap<>(fields), PredefinedTypes.TYPE_ANYDATA, false, 0);
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admits the requests of all LLM-backed APIs of the process through token buckets for requests and tokens. The
+ * buckets refill continuously at a fraction of the per-minute limits and hold a tenth of a minute's worth, so that
+ * requests are spread evenly instead of bursting into the limit and stalling. The limits are configured or learned
+ * from the {@code x-ratelimit-*} headers of the responses, and waiting requests are served in turns across the APIs,
+ * so a large job of one API does not starve the others.
+ *
+ * @since 0.8.0
+ */
+public class RateLimiter {
+
+    public static final String REQUESTS_PER_MINUTE = "requestsPerMinute";
+    public static final String TOKENS_PER_MINUTE = "tokensPerMinute";
+    public static final String UTILIZATION = "utilization";
+    public static final String LIMIT_REQUESTS_HEADER = "x-ratelimit-limit-requests";
+    public static final String LIMIT_TOKENS_HEADER = "x-ratelimit-limit-tokens";
+    public static final String REMAINING_REQUESTS_HEADER = "x-ratelimit-remaining-requests";
+    public static final String REMAINING_TOKENS_HEADER = "x-ratelimit-remaining-tokens";
+    public static final double BURST_FRACTION = 0.1;
+    public static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private static final ReentrantLock LOCK = new ReentrantLock();
+    private static final Condition TURN_CHANGED = LOCK.newCondition();
+    // The waiting requests of each API, in the order in which the APIs take their turns.
+    private static final Map<String, Deque<Waiter>> QUEUES = new LinkedHashMap<>();
+    private static final TokenBucket REQUESTS = new TokenBucket();
+    private static final TokenBucket TOKENS = new TokenBucket();
+
+    private static double utilization = 0.9;
+
+    private RateLimiter() {
+    }
+
+    /**
+     * A request waiting for its turn and for enough capacity in the buckets.
+     *
+     * @param tokens the estimated number of tokens of the request
+     */
+    private record Waiter(long tokens) {
+    }
+
+    /**
+     * A bucket that refills continuously up to its capacity. A limit of zero disables the bucket.
+     */
+    private static class TokenBucket {
+
+        private long limitPerMinute;
+        private double capacity;
+        private double level;
+        private long lastRefill = System.nanoTime();
+
+        void setLimit(long limit) {
+            refill();
+            boolean wasEnabled = isEnabled();
+            limitPerMinute = limit;
+            capacity = Math.max(1, limit * utilization * BURST_FRACTION);
+            level = wasEnabled ? Math.min(level, capacity) : capacity;
+        }
+
+        boolean isEnabled() {
+            return limitPerMinute > 0;
+        }
+
+        void refill() {
+            long now = System.nanoTime();
+            if (isEnabled()) {
+                double refilled = (now - lastRefill) * limitPerMinute * utilization / NANOS_PER_MINUTE;
+                level = Math.min(capacity, level + refilled);
+            }
+            lastRefill = now;
+        }
+
+        // Requests larger than the bucket only wait for a full bucket, and take it below zero.
+        double required(long amount) {
+            return Math.min(amount, capacity);
+        }
+
+        long nanosUntilAvailable(long amount) {
+            if (!isEnabled() || level >= required(amount)) {
+                return 0;
+            }
+            return (long) Math.ceil((required(amount) - level) * NANOS_PER_MINUTE / (limitPerMinute * utilization));
+        }
+
+        void take(long amount) {
+            if (isEnabled()) {
+                level -= amount;
+            }
+        }
+
+        void limitLevel(long remaining) {
+            if (isEnabled()) {
+                level = Math.min(level, remaining);
+            }
+        }
+    }
+
+    public static void configure(BMap<BString, Object> config) {
+        LOCK.lock();
+        try {
+            utilization = config.getFloatValue(StringUtils.fromString(UTILIZATION));
+            REQUESTS.setLimit(config.getIntValue(StringUtils.fromString(REQUESTS_PER_MINUTE)));
+            TOKENS.setLimit(config.getIntValue(StringUtils.fromString(TOKENS_PER_MINUTE)));
+            TURN_CHANGED.signalAll();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Blocks until it is the turn of the request and the buckets can admit it, and then takes one request and the
+     * estimated tokens from the buckets.
+     */
+    public static void acquire(String operation, long estimatedTokens) throws InterruptedException {
+        LOCK.lock();
+        try {
+            if (!REQUESTS.isEnabled() && !TOKENS.isEnabled()) {
+                return;
+            }
+            Waiter waiter = new Waiter(estimatedTokens);
+            QUEUES.computeIfAbsent(operation, k -> new ArrayDeque<>()).addLast(waiter);
+            try {
+                while (true) {
+                    REQUESTS.refill();
+                    TOKENS.refill();
+                    boolean turn = QUEUES.values().iterator().next().peekFirst() == waiter;
+                    long waitNanos = turn ? Math.max(REQUESTS.nanosUntilAvailable(1),
+                            TOKENS.nanosUntilAvailable(estimatedTokens)) : Long.MAX_VALUE;
+                    if (waitNanos == 0) {
+                        REQUESTS.take(1);
+                        TOKENS.take(estimatedTokens);
+                        return;
+                    }
+                    if (turn) {
+                        TURN_CHANGED.awaitNanos(waitNanos);
+                    } else {
+                        TURN_CHANGED.await();
+                    }
+                }
+            } finally {
+                // The API of the request goes to the end of the turn order if it has more waiting requests.
+                Deque<Waiter> queue = QUEUES.remove(operation);
+                queue.remove(waiter);
+                if (!queue.isEmpty()) {
+                    QUEUES.put(operation, queue);
+                }
+                TURN_CHANGED.signalAll();
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Corrects the token bucket with the actual token usage of a request admitted with an estimate.
+     */
+    public static void settle(long estimatedTokens, long actualTokens) {
+        LOCK.lock();
+        try {
+            TOKENS.take(actualTokens - estimatedTokens);
+            TURN_CHANGED.signalAll();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Adopts the limits and the remaining capacity reported in the rate limit headers of a response. The remaining
+     * capacity also accounts for the requests of other processes that share the limits.
+     */
+    public static void update(BMap<BString, Object> headers) {
+        LOCK.lock();
+        try {
+            long requestLimit = getHeaderValue(headers, LIMIT_REQUESTS_HEADER);
+            if (requestLimit > 0 && requestLimit != REQUESTS.limitPerMinute) {
+                REQUESTS.setLimit(requestLimit);
+            }
+            long tokenLimit = getHeaderValue(headers, LIMIT_TOKENS_HEADER);
+            if (tokenLimit > 0 && tokenLimit != TOKENS.limitPerMinute) {
+                TOKENS.setLimit(tokenLimit);
+            }
+            long remainingRequests = getHeaderValue(headers, REMAINING_REQUESTS_HEADER);
+            if (remainingRequests >= 0) {
+                REQUESTS.refill();
+                REQUESTS.limitLevel(remainingRequests);
+            }
+            long remainingTokens = getHeaderValue(headers, REMAINING_TOKENS_HEADER);
+            if (remainingTokens >= 0) {
+                TOKENS.refill();
+                TOKENS.limitLevel(remainingTokens);
+            }
+            TURN_CHANGED.signalAll();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    // Returns the count in a header, or -1 if the header is missing or malformed.
+    private static long getHeaderValue(BMap<BString, Object> headers, String name) {
+        Object value = headers.get(StringUtils.fromString(name));
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(StringUtils.getStringValue(value).strip());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,697 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.UnionType;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.utils.ValueUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads CSV and JSONL files into arrays of records. The file is memory-mapped and split into chunks that end at
+ * record boundaries, and the chunks are parsed in parallel directly into records of the target type, using a field
+ * layout that is computed once for each record type.
+ *
+ * @since 0.8.0
+ */
+public class RecordFileReader {
+
+    public static final long MIN_CHUNK_SIZE = 1L << 20;
+    public static final long MAX_CHUNK_SIZE = 64L << 20;
+    public static final int UNSUPPORTED_TYPE = -1;
+
+    private static final Map<Type, RecordLayout> RECORD_LAYOUTS = new ConcurrentHashMap<>();
+
+    private RecordFileReader() {
+    }
+
+    /**
+     * The field of a record type that a CSV column is read into.
+     *
+     * @param name    the field name
+     * @param tag     the type tag of the non-nil type of the field, or {@link #UNSUPPORTED_TYPE}
+     * @param nilable whether the field accepts nil
+     */
+    private record FieldLayout(BString name, int tag, boolean nilable) {
+    }
+
+    /**
+     * The fields of a record type and whether it accepts fields that it does not declare.
+     */
+    private record RecordLayout(Type type, Map<String, FieldLayout> fields, List<String> requiredFields,
+                                boolean open) {
+    }
+
+    /**
+     * Signals a value that cannot be read into the target record type.
+     */
+    private static class InvalidRecordException extends RuntimeException {
+
+        InvalidRecordException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Parses the records of a chunk that starts and ends at record boundaries.
+     */
+    private interface ChunkParser {
+
+        List<Object> parse(byte[] chunk);
+    }
+
+    /**
+     * Reads the tokens of a JSON value that is written on a single line.
+     */
+    private static class JsonCursor {
+
+        private final byte[] bytes;
+        private final int start;
+        private final int end;
+        private int position;
+
+        JsonCursor(byte[] bytes, int start, int end) {
+            this.bytes = bytes;
+            this.start = start;
+            this.end = end;
+            this.position = start;
+        }
+
+        String line() {
+            return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+        }
+
+        boolean atEnd() {
+            skipWhitespace();
+            return position >= end;
+        }
+
+        boolean consume(char c) {
+            skipWhitespace();
+            if (position < end && bytes[position] == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        void expect(char c) {
+            if (!consume(c)) {
+                throw new InvalidRecordException(String.format("Expected '%c' at column %d", c, column()));
+            }
+        }
+
+        boolean consumeLiteral(String literal) {
+            skipWhitespace();
+            if (end - position < literal.length()) {
+                return false;
+            }
+            for (int i = 0; i < literal.length(); i++) {
+                if (bytes[position + i] != literal.charAt(i)) {
+                    return false;
+                }
+            }
+            position += literal.length();
+            return true;
+        }
+
+        String readString() {
+            skipWhitespace();
+            if (position >= end || bytes[position] != '"') {
+                throw new InvalidRecordException(String.format("Expected a string at column %d", column()));
+            }
+            int segmentStart = ++position;
+            StringBuilder value = null;
+            while (position < end) {
+                byte b = bytes[position];
+                if (b == '"') {
+                    String segment = new String(bytes, segmentStart, position++ - segmentStart,
+                            StandardCharsets.UTF_8);
+                    return value == null ? segment : value.append(segment).toString();
+                }
+                if (b != '\\') {
+                    position++;
+                    continue;
+                }
+                if (value == null) {
+                    value = new StringBuilder();
+                }
+                value.append(new String(bytes, segmentStart, position - segmentStart, StandardCharsets.UTF_8));
+                if (position + 1 >= end) {
+                    break;
+                }
+                byte escaped = bytes[position + 1];
+                position += 2;
+                switch (escaped) {
+                    case '"', '\\', '/' -> value.append((char) escaped);
+                    case 'b' -> value.append('\b');
+                    case 'f' -> value.append('\f');
+                    case 'n' -> value.append('\n');
+                    case 'r' -> value.append('\r');
+                    case 't' -> value.append('\t');
+                    case 'u' -> {
+                        value.append(readCodeUnit());
+                        position += 4;
+                    }
+                    default -> throw new InvalidRecordException(
+                            String.format("Invalid escape sequence at column %d", column() - 1));
+                }
+                segmentStart = position;
+            }
+            throw new InvalidRecordException("Unterminated string");
+        }
+
+        String readNumber() {
+            skipWhitespace();
+            int numberStart = position;
+            while (position < end && isNumberByte(bytes[position])) {
+                position++;
+            }
+            if (position == numberStart) {
+                throw new InvalidRecordException(String.format("Expected a number at column %d", column()));
+            }
+            return new String(bytes, numberStart, position - numberStart, StandardCharsets.US_ASCII);
+        }
+
+        // Skips a value of any type and returns its text.
+        String readRawValue() {
+            skipWhitespace();
+            int valueStart = position;
+            if (position < end && bytes[position] == '"') {
+                readString();
+            } else if (position < end && (bytes[position] == '{' || bytes[position] == '[')) {
+                int depth = 0;
+                while (position < end) {
+                    byte b = bytes[position];
+                    if (b == '"') {
+                        readString();
+                        continue;
+                    }
+                    position++;
+                    if (b == '{' || b == '[') {
+                        depth++;
+                    } else if ((b == '}' || b == ']') && --depth == 0) {
+                        break;
+                    }
+                }
+            } else {
+                while (position < end && bytes[position] != ',' && bytes[position] != '}'
+                        && !isWhitespace(bytes[position])) {
+                    position++;
+                }
+            }
+            return new String(bytes, valueStart, position - valueStart, StandardCharsets.UTF_8);
+        }
+
+        private char readCodeUnit() {
+            if (end - position < 4) {
+                throw new InvalidRecordException("Unterminated string");
+            }
+            try {
+                return (char) Integer.parseInt(new String(bytes, position, 4, StandardCharsets.US_ASCII), 16);
+            } catch (NumberFormatException e) {
+                throw new InvalidRecordException(
+                        String.format("Invalid escape sequence at column %d", column() - 1));
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < end && isWhitespace(bytes[position])) {
+                position++;
+            }
+        }
+
+        private int column() {
+            return position - start + 1;
+        }
+
+        private static boolean isWhitespace(byte b) {
+            return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+        }
+
+        private static boolean isNumberByte(byte b) {
+            return (b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E';
+        }
+    }
+
+    public static Object readCsv(Path path, BTypedesc returnType) {
+        Type describingType = TypeUtils.getReferredType(returnType.getDescribingType());
+        RecordType rowType = TypeCreator.createRecordType(describingType.getName(), describingType.getPackage(),
+                describingType.getFlags(), false, 0);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            RecordLayout layout = RECORD_LAYOUTS.computeIfAbsent(describingType, RecordFileReader::createLayout);
+            long size = channel.size();
+            if (size == 0) {
+                return ValueCreator.createArrayValue(new Object[0], TypeCreator.createArrayType(layout.type()));
+            }
+            long headerEnd = findRecordEnd(channel, 0, size);
+            byte[] header = read(channel, 0, headerEnd);
+            List<String> headerFields = new ArrayList<>();
+            parseCsvLine(header, 0, header.length, headerFields);
+            FieldLayout[] columns = new FieldLayout[headerFields.size()];
+            for (int i = 0; i < columns.length; i++) {
+                String column = headerFields.get(i).strip();
+                columns[i] = layout.fields().get(column);
+                if (columns[i] == null && !layout.open()) {
+                    return ErrorUtils.createETLError(
+                            String.format("The column '%s' is not a field of the return type", column));
+                }
+                if (columns[i] == null) {
+                    columns[i] = new FieldLayout(StringUtils.fromString(column), TypeTags.STRING_TAG, false);
+                }
+            }
+            for (String requiredField : layout.requiredFields()) {
+                if (!headerFields.contains(requiredField)) {
+                    return ErrorUtils.createETLError(
+                            String.format("The file does not contain the required field - '%s'", requiredField));
+                }
+            }
+            return readChunks(channel, splitCsvRecords(channel, Math.min(size, headerEnd + 1), size), layout,
+                    chunk -> parseCsvChunk(chunk, columns, rowType));
+        } catch (IOException e) {
+            return ErrorUtils.createETLError(
+                    String.format("Error occurred while reading the file '%s': %s", path, e.getMessage()));
+        } catch (InvalidRecordException e) {
+            return ErrorUtils.createETLError(e.getMessage());
+        }
+    }
+
+    public static Object readJsonl(Path path, BTypedesc returnType) {
+        Type describingType = TypeUtils.getReferredType(returnType.getDescribingType());
+        RecordType rowType = TypeCreator.createRecordType(describingType.getName(), describingType.getPackage(),
+                describingType.getFlags(), false, 0);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            RecordLayout layout = RECORD_LAYOUTS.computeIfAbsent(describingType, RecordFileReader::createLayout);
+            return readChunks(channel, splitLines(channel, 0, channel.size()), layout,
+                    chunk -> parseJsonlChunk(chunk, layout, rowType));
+        } catch (IOException e) {
+            return ErrorUtils.createETLError(
+                    String.format("Error occurred while reading the file '%s': %s", path, e.getMessage()));
+        } catch (InvalidRecordException e) {
+            return ErrorUtils.createETLError(e.getMessage());
+        }
+    }
+
+    private static Object readChunks(FileChannel channel, List<long[]> chunks, RecordLayout layout,
+                                     ChunkParser parser) {
+        List<List<Object>> results = chunks.parallelStream().map(chunk -> {
+            try {
+                return parser.parse(read(channel, chunk[0], chunk[1]));
+            } catch (IOException e) {
+                throw new InvalidRecordException(String.format("Error occurred while reading the file: %s",
+                        e.getMessage()));
+            }
+        }).toList();
+        int count = 0;
+        for (List<Object> result : results) {
+            count += result.size();
+        }
+        Object[] records = new Object[count];
+        int offset = 0;
+        for (List<Object> result : results) {
+            for (Object data : result) {
+                records[offset++] = data;
+            }
+        }
+        return ValueCreator.createArrayValue(records, TypeCreator.createArrayType(layout.type()));
+    }
+
+    private static List<Object> parseCsvChunk(byte[] chunk, FieldLayout[] columns, RecordType rowType) {
+        List<Object> records = new ArrayList<>();
+        List<String> values = new ArrayList<>(columns.length);
+        int lineStart = 0;
+        while (lineStart < chunk.length) {
+            values.clear();
+            int lineEnd = parseCsvLine(chunk, lineStart, chunk.length, values);
+            boolean blank = values.size() == 1 && values.get(0).isBlank();
+            lineStart = lineEnd + 1;
+            if (blank) {
+                continue;
+            }
+            if (values.size() != columns.length) {
+                throw new InvalidRecordException(String.format(
+                        "Expected %d values in the record but found %d", columns.length, values.size()));
+            }
+            BMap<BString, Object> data = ValueCreator.createRecordValue(rowType);
+            for (int i = 0; i < columns.length; i++) {
+                data.put(columns[i].name(), convertCsvValue(values.get(i), columns[i]));
+            }
+            records.add(data);
+        }
+        return records;
+    }
+
+    private static List<Object> parseJsonlChunk(byte[] chunk, RecordLayout layout, RecordType rowType) {
+        List<Object> records = new ArrayList<>();
+        int lineStart = 0;
+        while (lineStart < chunk.length) {
+            int lineEnd = lineStart;
+            while (lineEnd < chunk.length && chunk[lineEnd] != '\n') {
+                lineEnd++;
+            }
+            JsonCursor cursor = new JsonCursor(chunk, lineStart, lineEnd);
+            lineStart = lineEnd + 1;
+            if (cursor.atEnd()) {
+                continue;
+            }
+            try {
+                records.add(parseJsonRecord(cursor, layout, rowType));
+            } catch (InvalidRecordException | BError e) {
+                throw new InvalidRecordException(String.format("Invalid record '%s': %s", cursor.line().strip(),
+                        e.getMessage()));
+            }
+        }
+        return records;
+    }
+
+    // Reads a JSON object into a record. Values of the string, int, float, decimal and boolean fields of the layout
+    // are converted as they are read, and only the values of other fields are parsed and converted generically.
+    private static BMap<BString, Object> parseJsonRecord(JsonCursor cursor, RecordLayout layout, RecordType rowType) {
+        BMap<BString, Object> data = ValueCreator.createRecordValue(rowType);
+        cursor.expect('{');
+        if (!cursor.consume('}')) {
+            do {
+                String key = cursor.readString();
+                cursor.expect(':');
+                FieldLayout field = layout.fields().get(key);
+                if (field == null && !layout.open()) {
+                    throw new InvalidRecordException(
+                            String.format("The field '%s' is not a field of the return type", key));
+                }
+                if (field == null || field.tag() == UNSUPPORTED_TYPE) {
+                    RecordType recordType = (RecordType) layout.type();
+                    Type fieldType = field == null ? recordType.getRestFieldType()
+                            : recordType.getFields().get(key).getFieldType();
+                    data.put(StringUtils.fromString(key), ValueUtils.convert(JsonUtils.parse(cursor.readRawValue()),
+                            fieldType));
+                } else {
+                    data.put(field.name(), readJsonValue(cursor, field));
+                }
+            } while (cursor.consume(','));
+            cursor.expect('}');
+        }
+        if (!cursor.atEnd()) {
+            throw new InvalidRecordException("Unexpected content after the end of the record");
+        }
+        for (String requiredField : layout.requiredFields()) {
+            if (!data.containsKey(StringUtils.fromString(requiredField))) {
+                throw new InvalidRecordException(
+                        String.format("The record does not contain the required field - '%s'", requiredField));
+            }
+        }
+        return data;
+    }
+
+    private static Object readJsonValue(JsonCursor cursor, FieldLayout field) {
+        if (cursor.consumeLiteral("null")) {
+            if (!field.nilable()) {
+                throw new InvalidRecordException(String.format("Invalid value 'null' for the field '%s'",
+                        field.name()));
+            }
+            return null;
+        }
+        if (field.tag() == TypeTags.STRING_TAG) {
+            return StringUtils.fromString(cursor.readString());
+        }
+        if (field.tag() == TypeTags.BOOLEAN_TAG) {
+            if (cursor.consumeLiteral("true")) {
+                return true;
+            }
+            if (cursor.consumeLiteral("false")) {
+                return false;
+            }
+            throw new InvalidRecordException(String.format("Invalid value for the field '%s'", field.name()));
+        }
+        String number = cursor.readNumber();
+        try {
+            return switch (field.tag()) {
+                case TypeTags.INT_TAG -> Long.parseLong(number);
+                case TypeTags.FLOAT_TAG -> Double.parseDouble(number);
+                case TypeTags.DECIMAL_TAG -> ValueCreator.createDecimalValue(new BigDecimal(number));
+                default -> throw new InvalidRecordException(String.format(
+                        "The field '%s' must be of type 'string', 'int', 'float', 'decimal' or 'boolean'",
+                        field.name()));
+            };
+        } catch (NumberFormatException e) {
+            throw new InvalidRecordException(String.format("Invalid value '%s' for the field '%s'", number,
+                    field.name()));
+        }
+    }
+
+    // Splits a CSV record into values, handling quoted values with escaped quotes, commas and line breaks. Returns
+    // the offset of the line break that ends the record, or the end of the input.
+    private static int parseCsvLine(byte[] bytes, int start, int end, List<String> values) {
+        StringBuilder quotedValue = null;
+        int valueStart = start;
+        boolean inQuotes = false;
+        int i = start;
+        for (; i < end; i++) {
+            byte b = bytes[i];
+            if (inQuotes) {
+                if (b == '"' && i + 1 < end && bytes[i + 1] == '"') {
+                    quotedValue.append(new String(bytes, valueStart, i + 1 - valueStart, StandardCharsets.UTF_8));
+                    valueStart = ++i + 1;
+                } else if (b == '"') {
+                    quotedValue.append(new String(bytes, valueStart, i - valueStart, StandardCharsets.UTF_8));
+                    inQuotes = false;
+                    valueStart = i + 1;
+                }
+            } else if (b == '"' && quotedValue == null && isBlank(bytes, valueStart, i)) {
+                inQuotes = true;
+                quotedValue = new StringBuilder();
+                valueStart = i + 1;
+            } else if (b == ',' || b == '\n') {
+                values.add(toValue(bytes, valueStart, i, quotedValue));
+                quotedValue = null;
+                valueStart = i + 1;
+                if (b == '\n') {
+                    return i;
+                }
+            }
+        }
+        values.add(toValue(bytes, valueStart, end, quotedValue));
+        return end;
+    }
+
+    private static String toValue(byte[] bytes, int start, int end, StringBuilder quotedValue) {
+        if (quotedValue != null) {
+            return quotedValue.toString();
+        }
+        if (end > start && bytes[end - 1] == '\r') {
+            end--;
+        }
+        return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isBlank(byte[] bytes, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (bytes[i] != ' ' && bytes[i] != '\t') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object convertCsvValue(String value, FieldLayout field) {
+        String trimmed = value.strip();
+        if (trimmed.isEmpty() && field.nilable() && field.tag() != TypeTags.STRING_TAG) {
+            return null;
+        }
+        try {
+            return switch (field.tag()) {
+                case TypeTags.STRING_TAG -> value.isEmpty() && field.nilable() ? null : StringUtils.fromString(value);
+                case TypeTags.INT_TAG -> Long.parseLong(trimmed);
+                case TypeTags.FLOAT_TAG -> Double.parseDouble(trimmed);
+                case TypeTags.DECIMAL_TAG -> ValueCreator.createDecimalValue(new BigDecimal(trimmed));
+                case TypeTags.BOOLEAN_TAG -> parseBoolean(trimmed);
+                default -> throw new InvalidRecordException(String.format(
+                        "The field '%s' must be of type 'string', 'int', 'float', 'decimal' or 'boolean'",
+                        field.name()));
+            };
+        } catch (NumberFormatException e) {
+            throw new InvalidRecordException(String.format("Invalid value '%s' for the field '%s'", value,
+                    field.name()));
+        }
+    }
+
+    private static boolean parseBoolean(String value) {
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw new NumberFormatException(value);
+    }
+
+    private static RecordLayout createLayout(Type describingType) {
+        if (describingType.getTag() != TypeTags.RECORD_TYPE_TAG) {
+            throw new InvalidRecordException("The return type must be a record type");
+        }
+        RecordType recordType = (RecordType) describingType;
+        Map<String, FieldLayout> fields = new HashMap<>();
+        List<String> requiredFields = new ArrayList<>();
+        for (Map.Entry<String, Field> entry : recordType.getFields().entrySet()) {
+            Type fieldType = TypeUtils.getReferredType(entry.getValue().getFieldType());
+            boolean nilable = fieldType.isNilable();
+            int tag = fieldType.getTag();
+            if (tag == TypeTags.UNION_TAG) {
+                tag = UNSUPPORTED_TYPE;
+                int members = 0;
+                for (Type memberType : ((UnionType) fieldType).getMemberTypes()) {
+                    Type referredType = TypeUtils.getReferredType(memberType);
+                    if (referredType.getTag() != TypeTags.NULL_TAG) {
+                        tag = referredType.getTag();
+                        members++;
+                    }
+                }
+                if (members != 1) {
+                    tag = UNSUPPORTED_TYPE;
+                }
+            }
+            // Values of other types, such as arrays, maps and records, are parsed and converted generically.
+            if (tag != TypeTags.STRING_TAG && tag != TypeTags.INT_TAG && tag != TypeTags.FLOAT_TAG
+                    && tag != TypeTags.DECIMAL_TAG && tag != TypeTags.BOOLEAN_TAG) {
+                tag = UNSUPPORTED_TYPE;
+            }
+            fields.put(entry.getKey(), new FieldLayout(StringUtils.fromString(entry.getKey()), tag, nilable));
+            if (!SymbolFlags.isFlagOn(entry.getValue().getFlags(), SymbolFlags.OPTIONAL)) {
+                requiredFields.add(entry.getKey());
+            }
+        }
+        return new RecordLayout(describingType, fields, requiredFields, !recordType.isSealed());
+    }
+
+    // Finds the line break that ends the record containing the given offset, or the end of the range when the last
+    // record is not followed by one.
+    private static long findRecordEnd(FileChannel channel, long from, long end) throws IOException {
+        long position = Math.max(0, from);
+        while (position < end) {
+            long length = Math.min(MAX_CHUNK_SIZE, end - position);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            for (int i = 0; i < length; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i;
+                }
+            }
+            position += length;
+        }
+        return end;
+    }
+
+    // Splits the given range of a file into chunks that end at line breaks.
+    private static List<long[]> splitLines(FileChannel channel, long start, long end) throws IOException {
+        long chunkSize = getChunkSize(start, end);
+        List<long[]> chunks = new ArrayList<>();
+        long chunkStart = start;
+        while (chunkStart < end) {
+            long chunkEnd = findRecordEnd(channel, Math.min(end, chunkStart + chunkSize) - 1, end);
+            chunks.add(new long[] {chunkStart, Math.min(end, chunkEnd + 1)});
+            chunkStart = chunkEnd + 1;
+        }
+        return chunks;
+    }
+
+    // Splits the given range of a CSV file into chunks that end at line breaks outside quoted values. The range is
+    // scanned once and the quote state is carried across chunks, following the quoting rules of `parseCsvLine`: a
+    // quote only opens a quoted value at the start of a value, and a doubled quote inside it is an escaped quote.
+    private static List<long[]> splitCsvRecords(FileChannel channel, long start, long end) throws IOException {
+        long chunkSize = getChunkSize(start, end);
+        List<long[]> chunks = new ArrayList<>();
+        long chunkStart = start;
+        boolean inQuotes = false;
+        boolean closedQuotes = false;
+        boolean quoted = false;
+        boolean blank = true;
+        long position = start;
+        while (position < end) {
+            long length = Math.min(MAX_CHUNK_SIZE, end - position);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            for (int i = 0; i < length; i++) {
+                byte b = buffer.get(i);
+                if (inQuotes) {
+                    if (b == '"') {
+                        inQuotes = false;
+                        closedQuotes = true;
+                    }
+                    continue;
+                }
+                if (b == '"' && closedQuotes) {
+                    inQuotes = true;
+                } else if (b == '"' && !quoted && blank) {
+                    inQuotes = true;
+                    quoted = true;
+                } else if (b == ',' || b == '\n') {
+                    quoted = false;
+                    blank = true;
+                    if (b == '\n' && position + i + 1 - chunkStart >= chunkSize) {
+                        chunks.add(new long[] {chunkStart, position + i + 1});
+                        chunkStart = position + i + 1;
+                    }
+                } else if (b != ' ' && b != '\t') {
+                    blank = false;
+                }
+                closedQuotes = false;
+            }
+            position += length;
+        }
+        if (chunkStart < end) {
+            chunks.add(new long[] {chunkStart, end});
+        }
+        return chunks;
+    }
+
+    private static long getChunkSize(long start, long end) {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        return Math.max(MIN_CHUNK_SIZE, Math.min(MAX_CHUNK_SIZE, (end - start) / parallelism + 1));
+    }
+
+    private static byte[] read(FileChannel channel, long start, long end) throws IOException {
+        byte[] bytes = new byte[(int) (end - start)];
+        if (bytes.length > 0) {
+            channel.map(FileChannel.MapMode.READ_ONLY, start, bytes.length).get(0, bytes);
+        }
+        return bytes;
+    }
+}
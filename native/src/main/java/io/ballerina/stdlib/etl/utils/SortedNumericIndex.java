@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+
+/**
+ * A secondary index over a numeric field of a dataset. The values of the field are kept sorted in a primitive array
+ * together with the positions of their records, so a comparison filter is answered with binary searches and a copy of
+ * the matching slice, and a categorization with a single walk of the sorted values. Records without a numeric value
+ * in the field are not indexed, except for NaN values, which only match the not-equal comparison.
+ *
+ * @since 0.8.0
+ */
+@SuppressWarnings("unchecked")
+public class SortedNumericIndex {
+
+    private final BArray dataset;
+    private final BString fieldName;
+    private final int datasetSize;
+    private final double[] keys;
+    private final int[] rowIds;
+    private final int[] nanRowIds;
+
+    private SortedNumericIndex(BArray dataset, BString fieldName, double[] keys, int[] rowIds, int[] nanRowIds) {
+        this.dataset = dataset;
+        this.fieldName = fieldName;
+        this.datasetSize = dataset.size();
+        this.keys = keys;
+        this.rowIds = rowIds;
+        this.nanRowIds = nanRowIds;
+    }
+
+    public static SortedNumericIndex build(BArray dataset, BString fieldName) {
+        int size = dataset.size();
+        double[] keys = new double[size];
+        int[] rowIds = new int[size];
+        int[] nanRowIds = new int[size];
+        int indexed = 0;
+        int nanRows = 0;
+        for (int i = 0; i < size; i++) {
+            Double value = getNumericValue(dataset.get(i), fieldName);
+            if (value == null) {
+                continue;
+            }
+            if (Double.isNaN(value)) {
+                nanRowIds[nanRows++] = i;
+            } else {
+                keys[indexed] = value;
+                rowIds[indexed++] = i;
+            }
+        }
+        keys = Arrays.copyOf(keys, indexed);
+        rowIds = Arrays.copyOf(rowIds, indexed);
+        sort(keys, rowIds);
+        return new SortedNumericIndex(dataset, fieldName, keys, rowIds, Arrays.copyOf(nanRowIds, nanRows));
+    }
+
+    /**
+     * Returns whether the dataset was replaced or its size changed since the index was built.
+     */
+    public boolean isStale(BArray currentDataset) {
+        return currentDataset != dataset || currentDataset.size() != datasetSize;
+    }
+
+    public BArray getDataset() {
+        return dataset;
+    }
+
+    /**
+     * Returns the positions of the records whose value satisfies a comparison, in ascending order of the values and
+     * in dataset order for equal values, or {@code null} if a matching record no longer holds its indexed value.
+     */
+    public int[] filter(String operation, double value) {
+        if (Double.isNaN(value)) {
+            return operation.equals("!=") ? slices(0, keys.length, keys.length, keys.length, true) : new int[0];
+        }
+        int lower = lowerBound(value);
+        int upper = upperBound(value);
+        return switch (operation) {
+            case ">" -> slices(upper, keys.length, keys.length, keys.length, false);
+            case ">=" -> slices(lower, keys.length, keys.length, keys.length, false);
+            case "<" -> slices(0, lower, lower, lower, false);
+            case "<=" -> slices(0, upper, upper, upper, false);
+            case "==" -> slices(lower, upper, upper, upper, false);
+            default -> slices(0, lower, upper, keys.length, true);
+        };
+    }
+
+    /**
+     * Returns the positions of the records in each range {@code (bounds[i], bounds[i + 1]]}, in ascending order, or
+     * {@code null} if a categorized record no longer holds its indexed value.
+     */
+    public int[][] categorize(double[] bounds) {
+        int numCategories = bounds.length - 1;
+        int[][] categories = new int[numCategories][];
+        int start = upperBound(bounds[0]);
+        for (int i = 0; i < numCategories; i++) {
+            // The ranges are walked together with the sorted values, so each value is visited once.
+            int end = start;
+            while (end < keys.length && keys[end] <= bounds[i + 1]) {
+                end++;
+            }
+            categories[i] = slices(start, end, end, end, false);
+            if (categories[i] == null) {
+                return null;
+            }
+            // The records of a category keep their dataset order, as they do with categorizeNumeric.
+            Arrays.sort(categories[i]);
+            start = end;
+        }
+        return categories;
+    }
+
+    /**
+     * Returns the bounds of equal-frequency ranges, taken as exact quantiles of the sorted values.
+     */
+    public double[] getQuantileBounds(int numCategories) {
+        double[] bounds = new double[numCategories + 1];
+        if (keys.length == 0) {
+            return bounds;
+        }
+        bounds[0] = Math.nextDown(keys[0]);
+        for (int i = 1; i < numCategories; i++) {
+            int rank = (int) Math.ceil((double) i * keys.length / numCategories) - 1;
+            bounds[i] = Math.max(bounds[i - 1], keys[Math.max(0, rank)]);
+        }
+        bounds[numCategories] = keys[keys.length - 1];
+        return bounds;
+    }
+
+    /**
+     * Copies the record positions of two slices of the sorted values, and of the NaN values if requested, after
+     * checking that each of these records still holds the value it was indexed with.
+     */
+    private int[] slices(int from1, int to1, int from2, int to2, boolean withNaN) {
+        int nanRows = withNaN ? nanRowIds.length : 0;
+        int[] result = new int[(to1 - from1) + (to2 - from2) + nanRows];
+        int next = 0;
+        for (int i = from1; i < to1; i++) {
+            if (!holdsValue(rowIds[i], keys[i])) {
+                return null;
+            }
+            result[next++] = rowIds[i];
+        }
+        for (int i = from2; i < to2; i++) {
+            if (!holdsValue(rowIds[i], keys[i])) {
+                return null;
+            }
+            result[next++] = rowIds[i];
+        }
+        for (int i = 0; i < nanRows; i++) {
+            if (!holdsValue(nanRowIds[i], Double.NaN)) {
+                return null;
+            }
+            result[next++] = nanRowIds[i];
+        }
+        return result;
+    }
+
+    private boolean holdsValue(int row, double key) {
+        Double value = getNumericValue(dataset.get(row), fieldName);
+        return value != null && (Double.isNaN(key) ? Double.isNaN(value) : value == key);
+    }
+
+    /**
+     * Returns the position of the first value that is not less than the given value.
+     */
+    private int lowerBound(double value) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first value that is greater than the given value.
+     */
+    private int upperBound(double value) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Sorts the values with a bottom-up merge sort that moves the record positions along, keeping records with equal
+     * values in dataset order without boxing either array.
+     */
+    private static void sort(double[] keys, int[] rowIds) {
+        int size = keys.length;
+        double[] keyBuffer = new double[size];
+        int[] rowBuffer = new int[size];
+        double[] sourceKeys = keys;
+        int[] sourceRows = rowIds;
+        for (int width = 1; width < size; width <<= 1) {
+            for (int left = 0; left < size; left += width << 1) {
+                int mid = Math.min(left + width, size);
+                int right = Math.min(left + (width << 1), size);
+                int i = left;
+                int j = mid;
+                for (int k = left; k < right; k++) {
+                    if (i < mid && (j >= right || sourceKeys[i] <= sourceKeys[j])) {
+                        keyBuffer[k] = sourceKeys[i];
+                        rowBuffer[k] = sourceRows[i++];
+                    } else {
+                        keyBuffer[k] = sourceKeys[j];
+                        rowBuffer[k] = sourceRows[j++];
+                    }
+                }
+            }
+            double[] swapKeys = sourceKeys;
+            sourceKeys = keyBuffer;
+            keyBuffer = swapKeys;
+            int[] swapRows = sourceRows;
+            sourceRows = rowBuffer;
+            rowBuffer = swapRows;
+        }
+        if (sourceKeys != keys) {
+            System.arraycopy(sourceKeys, 0, keys, 0, size);
+            System.arraycopy(sourceRows, 0, rowIds, 0, size);
+        }
+    }
+
+    private static Double getNumericValue(Object data, BString fieldName) {
+        if (TypeUtils.getType(data).getTag() != TypeTags.RECORD_TYPE_TAG) {
+            return null;
+        }
+        Object value = ((BMap<BString, Object>) data).get(fieldName);
+        if (value instanceof Double doubleValue) {
+            return doubleValue;
+        }
+        if (value instanceof Long longValue) {
+            return longValue.doubleValue();
+        }
+        return null;
+    }
+}
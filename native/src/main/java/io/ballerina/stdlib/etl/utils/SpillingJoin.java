@@ -0,0 +1,398 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Joins two JSONL files on a common field without loading them into memory. When the second file fits in the
+ * memory budget, it is loaded into a hash table and the first file is streamed against it. Otherwise, both files
+ * are hash partitioned on the join field into temporary files, and the partition pairs are joined in parallel,
+ * each with its own hash table. Rows are held in the hash tables and spilled in a compact binary form: the number of
+ * fields, followed by the name, a type tag and the binary value of each field, with the value kinds of
+ * {@link DatasetCodec}. Only fields that are not scalars are kept as JSON text.
+ *
+ * @since 0.8.0
+ */
+@SuppressWarnings("unchecked")
+public class SpillingJoin {
+
+    public static final String MEMORY_BUDGET = "memoryBudget";
+    public static final String SPILL_DIRECTORY = "spillDirectory";
+    public static final String LEFT_PARTITION = "left-";
+    public static final String RIGHT_PARTITION = "right-";
+    public static final String OUTPUT_PARTITION = "output-";
+    public static final int MAX_PARTITIONS = 1024;
+    public static final byte NIL_VALUE = 0;
+
+    private static volatile long memoryBudget = 64L * 1024 * 1024;
+    private static volatile Path spillDirectory = null;
+
+    private SpillingJoin() {
+    }
+
+    /**
+     * Receives the join key and the binary form of each row of a scanned file.
+     */
+    private interface RowConsumer {
+
+        void accept(String key, byte[] row) throws IOException;
+    }
+
+    /**
+     * Feeds the rows of a file to a consumer.
+     */
+    private interface RowScanner {
+
+        void scan(RowConsumer consumer) throws IOException;
+    }
+
+    public static void configure(BMap<BString, Object> config) {
+        memoryBudget = config.getIntValue(StringUtils.fromString(MEMORY_BUDGET));
+        Object directory = config.get(StringUtils.fromString(SPILL_DIRECTORY));
+        spillDirectory = directory == null ? null : Paths.get(directory.toString());
+    }
+
+    public static Object join(Path leftFile, Path rightFile, BString fieldName, Path outputFile) {
+        Path workDirectory = null;
+        Path tempOutput = null;
+        try {
+            Path outputDirectory = outputFile.toAbsolutePath().getParent();
+            Files.createDirectories(outputDirectory);
+            tempOutput = Files.createTempFile(outputDirectory, null, null);
+            long rightSize = Files.size(rightFile);
+            Object joinedRows;
+            if (rightSize <= memoryBudget) {
+                joinedRows = joinInMemory(leftFile, rightFile, fieldName, tempOutput);
+            } else {
+                workDirectory = spillDirectory == null ? Files.createTempDirectory("etl-join-")
+                        : Files.createTempDirectory(Files.createDirectories(spillDirectory), "etl-join-");
+                joinedRows = joinPartitions(leftFile, rightFile, fieldName, rightSize, workDirectory, tempOutput);
+            }
+            if (joinedRows instanceof Long count && count == 0) {
+                return ErrorUtils.createETLError("No matching records found");
+            }
+            if (joinedRows instanceof Long) {
+                Files.move(tempOutput, outputFile, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            }
+            return joinedRows;
+        } catch (IOException e) {
+            return ErrorUtils.createETLError(
+                    String.format("Error occurred while joining the files: %s", e.getMessage()));
+        } catch (BError e) {
+            return ErrorUtils.createETLError(
+                    String.format("Invalid JSON record found while joining the files: %s", e.getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ErrorUtils.createETLError("Operation interrupted while joining the files");
+        } finally {
+            delete(tempOutput);
+            delete(workDirectory);
+        }
+    }
+
+    private static Object joinInMemory(Path leftFile, Path rightFile, BString fieldName, Path output)
+            throws IOException {
+        boolean[] fieldFound = new boolean[2];
+        try (BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            long count = joinRows(consumer -> fieldFound[1] = scanFile(rightFile, fieldName, consumer),
+                    consumer -> fieldFound[0] = scanFile(leftFile, fieldName, consumer), writer);
+            Object error = checkFieldFound(fieldFound, fieldName);
+            return error != null ? error : count;
+        }
+    }
+
+    private static Object joinPartitions(Path leftFile, Path rightFile, BString fieldName, long rightSize,
+            Path workDirectory, Path output) throws IOException, InterruptedException {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        // Partitions are sized so that the hash tables of the partitions joined at the same time fit in the budget.
+        long partitionBudget = Math.max(1, memoryBudget / parallelism);
+        int partitions = (int) Math.min(MAX_PARTITIONS, (rightSize + partitionBudget - 1) / partitionBudget);
+        boolean[] fieldFound = new boolean[] {
+                partition(leftFile, fieldName, workDirectory, LEFT_PARTITION, partitions),
+                partition(rightFile, fieldName, workDirectory, RIGHT_PARTITION, partitions) };
+        Object error = checkFieldFound(fieldFound, fieldName);
+        if (error != null) {
+            return error;
+        }
+        long count = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, partitions))) {
+            List<Future<Long>> futures = new ArrayList<>(partitions);
+            for (int i = 0; i < partitions; i++) {
+                int partition = i;
+                futures.add(executor.submit(() -> joinPartition(workDirectory, partition)));
+            }
+            for (Future<Long> future : futures) {
+                count += future.get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof BError bError) {
+                throw bError;
+            }
+            throw new IOException(e.getCause());
+        }
+        try (OutputStream outputStream = Files.newOutputStream(output)) {
+            for (int i = 0; i < partitions; i++) {
+                Path partitionOutput = workDirectory.resolve(OUTPUT_PARTITION + i);
+                if (Files.exists(partitionOutput)) {
+                    Files.copy(partitionOutput, outputStream);
+                }
+            }
+        }
+        return count;
+    }
+
+    private static long joinPartition(Path workDirectory, int partition) throws IOException {
+        Path leftPartition = workDirectory.resolve(LEFT_PARTITION + partition);
+        Path rightPartition = workDirectory.resolve(RIGHT_PARTITION + partition);
+        if (!Files.exists(leftPartition) || !Files.exists(rightPartition)) {
+            return 0;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(workDirectory.resolve(OUTPUT_PARTITION + partition),
+                StandardCharsets.UTF_8)) {
+            return joinRows(consumer -> scanPartition(rightPartition, consumer),
+                    consumer -> scanPartition(leftPartition, consumer), writer);
+        }
+    }
+
+    // Builds a hash table from the right rows and probes it with the left rows. As in `joinData`, the fields of the
+    // right record take precedence. Joined records are not deduplicated, so that the output is never held in memory.
+    private static long joinRows(RowScanner right, RowScanner left, BufferedWriter writer) throws IOException {
+        Map<String, List<byte[]>> rightRows = new HashMap<>();
+        right.scan((key, row) -> rightRows.computeIfAbsent(key, k -> new ArrayList<>(1)).add(row));
+        long[] joinedRows = new long[1];
+        left.scan((key, row) -> {
+            List<byte[]> matches = rightRows.get(key);
+            if (matches == null) {
+                return;
+            }
+            for (byte[] match : matches) {
+                BMap<BString, Object> joinedRow = decodeRow(row);
+                decodeRow(match, joinedRow);
+                writer.write(StringUtils.getJsonString(joinedRow));
+                writer.newLine();
+                joinedRows[0]++;
+            }
+        });
+        return joinedRows[0];
+    }
+
+    private static boolean partition(Path file, BString fieldName, Path workDirectory, String prefix,
+            int partitions) throws IOException {
+        DataOutputStream[] outputs = new DataOutputStream[partitions];
+        try {
+            return scanFile(file, fieldName, (key, row) -> {
+                int hash = key.hashCode();
+                int partition = Math.floorMod(hash ^ (hash >>> 16), partitions);
+                if (outputs[partition] == null) {
+                    outputs[partition] = new DataOutputStream(new BufferedOutputStream(
+                            Files.newOutputStream(workDirectory.resolve(prefix + partition))));
+                }
+                writeString(outputs[partition], key);
+                outputs[partition].writeInt(row.length);
+                outputs[partition].write(row);
+            });
+        } finally {
+            for (DataOutputStream output : outputs) {
+                if (output != null) {
+                    output.close();
+                }
+            }
+        }
+    }
+
+    private static boolean scanFile(Path file, BString fieldName, RowConsumer consumer) throws IOException {
+        boolean fieldFound = false;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                Object row = JsonUtils.parse(line);
+                if (TypeUtils.getType(row).getTag() != TypeTags.MAP_TAG) {
+                    continue;
+                }
+                Object key = ((BMap<BString, Object>) row).get(fieldName);
+                if (key == null) {
+                    continue;
+                }
+                fieldFound = true;
+                consumer.accept(StringUtils.getJsonString(key), encodeRow((BMap<BString, Object>) row));
+            }
+        }
+        return fieldFound;
+    }
+
+    private static void scanPartition(Path partition, RowConsumer consumer) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(partition)))) {
+            while (true) {
+                String key;
+                try {
+                    key = new String(readBytes(input), StandardCharsets.UTF_8);
+                } catch (EOFException e) {
+                    return;
+                }
+                consumer.accept(key, readBytes(input));
+            }
+        }
+    }
+
+    private static byte[] encodeRow(BMap<BString, Object> row) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(row.size());
+        for (BString key : row.getKeys()) {
+            writeString(out, key.getValue());
+            Object value = row.get(key);
+            if (value == null) {
+                out.writeByte(NIL_VALUE);
+            } else if (value instanceof Long longValue) {
+                out.writeByte(DatasetCodec.INT_COLUMN);
+                out.writeLong(longValue);
+            } else if (value instanceof Double doubleValue) {
+                out.writeByte(DatasetCodec.FLOAT_COLUMN);
+                out.writeDouble(doubleValue);
+            } else if (value instanceof BDecimal decimalValue) {
+                out.writeByte(DatasetCodec.DECIMAL_COLUMN);
+                writeString(out, decimalValue.decimalValue().toString());
+            } else if (value instanceof Boolean booleanValue) {
+                out.writeByte(DatasetCodec.BOOLEAN_COLUMN);
+                out.writeBoolean(booleanValue);
+            } else if (value instanceof BString stringValue) {
+                out.writeByte(DatasetCodec.STRING_COLUMN);
+                writeString(out, stringValue.getValue());
+            } else {
+                out.writeByte(DatasetCodec.JSON_COLUMN);
+                writeString(out, StringUtils.getJsonString(value));
+            }
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static BMap<BString, Object> decodeRow(byte[] row) {
+        BMap<BString, Object> data = ValueCreator.createMapValue(TypeCreator.createMapType(PredefinedTypes.TYPE_JSON));
+        decodeRow(row, data);
+        return data;
+    }
+
+    // Puts the fields of an encoded row into the given map, replacing the fields of the same name.
+    private static void decodeRow(byte[] row, BMap<BString, Object> data) {
+        ByteBuffer buffer = ByteBuffer.wrap(row);
+        int fieldCount = buffer.getInt();
+        for (int i = 0; i < fieldCount; i++) {
+            BString key = StringUtils.fromString(readString(buffer));
+            byte kind = buffer.get();
+            Object value = switch (kind) {
+                case NIL_VALUE -> null;
+                case DatasetCodec.INT_COLUMN -> buffer.getLong();
+                case DatasetCodec.FLOAT_COLUMN -> buffer.getDouble();
+                case DatasetCodec.DECIMAL_COLUMN -> ValueCreator.createDecimalValue(new BigDecimal(readString(buffer)));
+                case DatasetCodec.BOOLEAN_COLUMN -> buffer.get() != 0;
+                case DatasetCodec.STRING_COLUMN -> StringUtils.fromString(readString(buffer));
+                default -> JsonUtils.parse(readString(buffer));
+            };
+            data.put(key, value);
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(DataInputStream input) throws IOException {
+        byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return bytes;
+    }
+
+    private static Object checkFieldFound(boolean[] fieldFound, BString fieldName) {
+        for (int i = 0; i < fieldFound.length; i++) {
+            if (!fieldFound[i]) {
+                return ErrorUtils.createETLError(
+                        String.format("The dataset %d does not contain the field - '%s'", i + 1, fieldName));
+            }
+        }
+        return null;
+    }
+
+    private static void delete(Path path) {
+        if (path == null || !Files.exists(path)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(path)) {
+            for (Path file : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            // Temporary files are only left behind when they cannot be deleted.
+        }
+    }
+}
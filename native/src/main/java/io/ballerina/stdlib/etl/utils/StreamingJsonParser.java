@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.values.BArray;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Parses a JSON array that is received in pieces, such as the content deltas of a streamed chat completion.
+ * Each element is parsed as soon as it is closed instead of after the whole array has been received, and the
+ * listener is notified of it. The elements are only handed out together once the array is closed.
+ * Any text before the opening bracket or after the closing bracket of the array is ignored.
+ *
+ * @since 0.8.0
+ */
+public class StreamingJsonParser {
+
+    private final Consumer<Object> listener;
+    private final StringBuilder element = new StringBuilder();
+    private final List<Object> elements = new ArrayList<>();
+    private boolean started;
+    private boolean closed;
+    private boolean inString;
+    private boolean escaped;
+    private int depth;
+
+    public StreamingJsonParser(Consumer<Object> listener) {
+        this.listener = listener;
+    }
+
+    public void reset() {
+        element.setLength(0);
+        elements.clear();
+        started = false;
+        closed = false;
+        inString = false;
+        escaped = false;
+        depth = 0;
+    }
+
+    public void append(String content) {
+        for (int i = 0; i < content.length() && !closed; i++) {
+            char c = content.charAt(i);
+            if (!started) {
+                started = c == '[';
+                continue;
+            }
+            if (inString) {
+                element.append(c);
+                if (escaped) {
+                    escaped = false;
+                } else if (c == '\\') {
+                    escaped = true;
+                } else if (c == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            switch (c) {
+                case '"':
+                    inString = true;
+                    element.append(c);
+                    break;
+                case '{':
+                case '[':
+                    depth++;
+                    element.append(c);
+                    break;
+                case '}':
+                case ']':
+                    if (depth == 0) {
+                        if (c == '}') {
+                            throw ErrorUtils.createETLError("Unexpected '}' between the elements of the JSON array");
+                        }
+                        parseElement();
+                        closed = true;
+                        break;
+                    }
+                    depth--;
+                    element.append(c);
+                    if (depth == 0) {
+                        parseElement();
+                    }
+                    break;
+                case ',':
+                    if (depth == 0) {
+                        parseElement();
+                    } else {
+                        element.append(c);
+                    }
+                    break;
+                default:
+                    element.append(c);
+            }
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public BArray getElements() {
+        return ValueCreator.createArrayValue(elements.toArray(),
+                TypeCreator.createArrayType(PredefinedTypes.TYPE_JSON));
+    }
+
+    private void parseElement() {
+        String text = element.toString().strip();
+        element.setLength(0);
+        if (text.isEmpty()) {
+            return;
+        }
+        Object value = JsonUtils.parse(text);
+        elements.add(value);
+        listener.accept(value);
+    }
+}
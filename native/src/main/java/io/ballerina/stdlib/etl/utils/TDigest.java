@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+import java.util.Arrays;
+
+/**
+ * A merging t-digest that estimates quantiles of a stream of values. Values are buffered and periodically merged
+ * into a bounded number of centroids, which are kept small near the tails, so only the buffer and the centroids are
+ * ever sorted.
+ *
+ * @since 0.8.0
+ */
+public class TDigest {
+
+    public static final double COMPRESSION = 100;
+    public static final int BUFFER_SIZE = 500;
+
+    private double[] means = new double[0];
+    private double[] weights = new double[0];
+    private final double[] buffer = new double[BUFFER_SIZE];
+    private int buffered = 0;
+    private long count = 0;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public void add(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        buffer[buffered++] = value;
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+        if (buffered == BUFFER_SIZE) {
+            merge();
+        }
+    }
+
+    public long size() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double quantile(double q) {
+        merge();
+        if (means.length == 0) {
+            return Double.NaN;
+        }
+        if (means.length == 1 || q <= 0) {
+            return q <= 0 ? min : means[0];
+        }
+        if (q >= 1) {
+            return max;
+        }
+        double target = q * count;
+        double cumulative = 0;
+        for (int i = 0; i < means.length; i++) {
+            double center = cumulative + weights[i] / 2;
+            if (target < center) {
+                if (i == 0) {
+                    return min + (means[0] - min) * target / center;
+                }
+                double previousCenter = cumulative - weights[i - 1] / 2;
+                return means[i - 1] + (means[i] - means[i - 1]) * (target - previousCenter) / (center - previousCenter);
+            }
+            cumulative += weights[i];
+        }
+        int last = means.length - 1;
+        double lastCenter = count - weights[last] / 2;
+        return means[last] + (max - means[last]) * (target - lastCenter) / (count - lastCenter);
+    }
+
+    private void merge() {
+        if (buffered == 0) {
+            return;
+        }
+        int size = means.length + buffered;
+        double[] allMeans = Arrays.copyOf(means, size);
+        double[] allWeights = Arrays.copyOf(weights, size);
+        System.arraycopy(buffer, 0, allMeans, means.length, buffered);
+        Arrays.fill(allWeights, means.length, size, 1);
+        buffered = 0;
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (i, j) -> Double.compare(allMeans[i], allMeans[j]));
+        double[] newMeans = new double[size];
+        double[] newWeights = new double[size];
+        int centroids = 0;
+        double mergedWeight = 0;
+        double currentMean = allMeans[order[0]];
+        double currentWeight = allWeights[order[0]];
+        for (int i = 1; i < size; i++) {
+            double mean = allMeans[order[i]];
+            double weight = allWeights[order[i]];
+            // A centroid may grow while it spans at most one unit of the k1 scale function.
+            double q0 = mergedWeight / count;
+            double q2 = (mergedWeight + currentWeight + weight) / count;
+            if (scale(q2) - scale(q0) <= 1) {
+                currentWeight += weight;
+                currentMean += (mean - currentMean) * weight / currentWeight;
+            } else {
+                newMeans[centroids] = currentMean;
+                newWeights[centroids++] = currentWeight;
+                mergedWeight += currentWeight;
+                currentMean = mean;
+                currentWeight = weight;
+            }
+        }
+        newMeans[centroids] = currentMean;
+        newWeights[centroids++] = currentWeight;
+        means = Arrays.copyOf(newMeans, centroids);
+        weights = Arrays.copyOf(newWeights, centroids);
+    }
+
+    private static double scale(double q) {
+        return COMPRESSION / (2 * Math.PI) * Math.asin(2 * Math.min(1, q) - 1);
+    }
+}
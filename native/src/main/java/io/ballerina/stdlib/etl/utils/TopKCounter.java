@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tracks the most frequent values of a stream with the Space-Saving algorithm. A bounded number of counters is kept
+ * in a min-heap, and a new value replaces the value with the smallest count, so every value more frequent than
+ * 1/capacity of the stream is kept. The counts are upper bounds that are exact for values that were never evicted.
+ *
+ * @since 0.8.0
+ */
+public class TopKCounter {
+
+    public static final int COUNTERS_PER_VALUE = 10;
+    public static final int MIN_COUNTERS = 1000;
+
+    private final Object[] values;
+    private final long[] counts;
+    private final Map<Object, Integer> positions = new HashMap<>();
+    private int size = 0;
+
+    public TopKCounter(int topK) {
+        int capacity = Math.max(MIN_COUNTERS, topK * COUNTERS_PER_VALUE);
+        this.values = new Object[capacity];
+        this.counts = new long[capacity];
+    }
+
+    public void add(Object value) {
+        Integer position = positions.get(value);
+        if (position != null) {
+            counts[position]++;
+            siftDown(position);
+        } else if (size < values.length) {
+            position = size++;
+            values[position] = value;
+            counts[position] = 1;
+            positions.put(value, position);
+            siftUp(position);
+        } else {
+            // The new value takes over the counter of the least frequent value at the root.
+            positions.remove(values[0]);
+            values[0] = value;
+            counts[0]++;
+            positions.put(value, 0);
+            siftDown(0);
+        }
+    }
+
+    public List<Map.Entry<Object, Long>> top(int topK) {
+        List<Map.Entry<Object, Long>> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(Map.entry(values[i], counts[i]));
+        }
+        entries.sort((entry1, entry2) -> Long.compare(entry2.getValue(), entry1.getValue()));
+        return entries.subList(0, Math.min(topK, entries.size()));
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = 2 * position + 1;
+            int right = left + 1;
+            if (left < size && counts[left] < counts[smallest]) {
+                smallest = left;
+            }
+            if (right < size && counts[right] < counts[smallest]) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) / 2;
+            if (counts[parent] <= counts[position]) {
+                return;
+            }
+            swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void swap(int position1, int position2) {
+        Object value = values[position1];
+        long count = counts[position1];
+        values[position1] = values[position2];
+        counts[position1] = counts[position2];
+        values[position2] = value;
+        counts[position2] = count;
+        positions.put(values[position1], position1);
+        positions.put(values[position2], position2);
+    }
+}
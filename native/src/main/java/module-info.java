@@ -21,6 +21,7 @@ module io.ballerina.stdlib.etl {
     requires io.ballerina.stdlib.crypto;
     requires io.ballerina.lang.regexp;
     requires io.ballerina.lang.array;
+    requires jdk.jfr;
 
     exports io.ballerina.stdlib.etl.nativeimpl;
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.observability;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tests the JFR events recorded by {@link OperationObserver}.
+ */
+public class OperationObserverTest {
+
+    private static final String OPERATION_EVENT = "ballerina.etl.Operation";
+    private static final String CHUNK_EVENT = "ballerina.etl.Chunk";
+
+    @Test
+    public void testNoOpObserverWithoutRecording() {
+        OperationObserver observer = OperationObserver.start("testNoOp", 3);
+        Assert.assertFalse(observer.isEnabled());
+        Assert.assertNull(observer.startChunk(0, 3));
+        Assert.assertEquals(observer.complete(2L), 2L);
+    }
+
+    @Test
+    public void testOperationAndChunkEvents() throws InterruptedException {
+        List<RecordedEvent> operations = new CopyOnWriteArrayList<>();
+        List<RecordedEvent> chunks = new CopyOnWriteArrayList<>();
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable(OPERATION_EVENT);
+            stream.enable(CHUNK_EVENT);
+            stream.onEvent(OPERATION_EVENT, operations::add);
+            stream.onEvent(CHUNK_EVENT, chunks::add);
+            stream.startAsync();
+
+            OperationObserver observer = OperationObserver.start("testChunked", 5);
+            Assert.assertTrue(observer.isEnabled());
+            ChunkEvent first = observer.startChunk(0, 3);
+            Thread.sleep(1);
+            observer.firstRecord(first);
+            observer.endLlmCall(first);
+            observer.endChunk(first, null);
+            ChunkEvent second = observer.startChunk(1, 2);
+            observer.endLlmCall(second);
+            observer.endChunk(second, ErrorCreator.createError(StringUtils.fromString("chunk failed")));
+            observer.complete(3L);
+
+            stream.stop();
+        }
+
+        Assert.assertEquals(operations.size(), 1);
+        RecordedEvent operation = operations.get(0);
+        Assert.assertEquals(operation.getString("operation"), "testChunked");
+        Assert.assertEquals(operation.getLong("rowsIn"), 5);
+        Assert.assertEquals(operation.getLong("rowsOut"), 3);
+        Assert.assertEquals(operation.getInt("chunks"), 2);
+        Assert.assertEquals(operation.getInt("errors"), 1);
+        Assert.assertTrue(operation.getDuration("llmTime").toNanos() > 0);
+
+        Assert.assertEquals(chunks.size(), 2);
+        RecordedEvent firstChunk = chunks.get(0).getInt("chunkIndex") == 0 ? chunks.get(0) : chunks.get(1);
+        RecordedEvent secondChunk = firstChunk == chunks.get(0) ? chunks.get(1) : chunks.get(0);
+        Assert.assertEquals(firstChunk.getString("operation"), "testChunked");
+        Assert.assertEquals(firstChunk.getLong("rows"), 3);
+        Assert.assertFalse(firstChunk.getBoolean("failed"));
+        Assert.assertTrue(firstChunk.getDuration("timeToFirstRecord").toNanos() > 0);
+        Assert.assertEquals(secondChunk.getInt("chunkIndex"), 1);
+        Assert.assertEquals(secondChunk.getLong("rows"), 2);
+        Assert.assertTrue(secondChunk.getBoolean("failed"));
+        Assert.assertEquals(secondChunk.getDuration("timeToFirstRecord").toNanos(), 0);
+    }
+
+    @Test
+    public void testFailedOperationEvent() {
+        List<RecordedEvent> operations = new CopyOnWriteArrayList<>();
+        try (RecordingStream stream = new RecordingStream()) {
+            stream.enable(OPERATION_EVENT);
+            stream.onEvent(OPERATION_EVENT, operations::add);
+            stream.startAsync();
+
+            OperationObserver observer = OperationObserver.start("testFailed", 4);
+            observer.complete(ErrorCreator.createError(StringUtils.fromString("operation failed")));
+
+            stream.stop();
+        }
+
+        Assert.assertEquals(operations.size(), 1);
+        RecordedEvent operation = operations.get(0);
+        Assert.assertEquals(operation.getString("operation"), "testFailed");
+        Assert.assertEquals(operation.getLong("rowsIn"), 4);
+        Assert.assertEquals(operation.getLong("rowsOut"), 0);
+        Assert.assertEquals(operation.getInt("chunks"), 0);
+        Assert.assertEquals(operation.getInt("errors"), 1);
+    }
+}
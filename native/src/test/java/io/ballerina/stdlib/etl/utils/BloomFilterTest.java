@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025, WSO2 LLC. (http://www.wso2.com).
+ * 
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.etl.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the {@link BloomFilter} used to drop the rows of the larger dataset of a join that cannot match.
+ */
+public class BloomFilterTest {
+
+    @Test
+    public void testAddedKeysAreKept() {
+        BloomFilter filter = new BloomFilter(1000);
+        for (long key = 0; key < 1000; key++) {
+            filter.add(key * 31);
+        }
+        for (long key = 0; key < 1000; key++) {
+            Assert.assertTrue(filter.mightContain(key * 31), "Key " + key * 31 + " was dropped");
+        }
+    }
+
+    @Test
+    public void testMostOtherKeysAreDropped() {
+        BloomFilter filter = new BloomFilter(1000);
+        for (long key = 0; key < 1000; key++) {
+            filter.add(key);
+        }
+        int kept = 0;
+        for (long key = 1000; key < 101000; key++) {
+            if (filter.mightContain(key)) {
+                kept++;
+            }
+        }
+        // About 1% of the keys that were not added are kept at the expected number of keys.
+        Assert.assertTrue(kept < 2000, kept + " of 100000 keys were kept");
+    }
+}